@@ -0,0 +1,84 @@
+package com.bobobode.cs;
+
+/**
+ * Class {@link NodePool} keeps released {@link Node} objects and hands them out again instead of creating new ones.
+ * Free nodes are linked with their own next references, so the pool does not need any additional memory.
+ * <p>
+ * A released node must not be used by the caller anymore. The pool clears the element of a released node, so it does
+ * not keep the element from being garbage collected. When the pool already holds maxSize nodes, other released nodes
+ * are simply left to the garbage collector.
+ * <p>
+ * The pool is not thread-safe. Each thread should use its own pool, e.g. stored in a {@link ThreadLocal}.
+ *
+ * @param <T> a generic type T
+ */
+public class NodePool<T> {
+    private Node<T> free;
+    private int size;
+    private final int maxSize;
+
+    /**
+     * Creates a pool that keeps any number of released nodes
+     */
+    public NodePool() {
+        this(Integer.MAX_VALUE);
+    }
+
+    /**
+     * Creates a pool that keeps at most maxSize released nodes
+     *
+     * @param maxSize max number of free nodes in the pool
+     * @throws IllegalArgumentException if maxSize is negative
+     */
+    public NodePool(int maxSize) {
+        if (maxSize < 0) {
+            throw new IllegalArgumentException();
+        }
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Returns a free node that holds provided element, or creates a new one if the pool is empty
+     *
+     * @param element any element of type T
+     * @return a node that holds the element and does not reference any next node
+     */
+    public Node<T> acquire(T element) {
+        Node<T> node = free;
+        if (node == null) {
+            return new Node<>(element);
+        }
+        free = node.next;
+        size--;
+        node.next = null;
+        node.element = element;
+        return node;
+    }
+
+    /**
+     * Returns all nodes that are reachable from the head to the pool: all nodes of a chain, all nodes of a circle, or
+     * nodes of a chain that ends with a circle. Each node is released once, because the number of distinct nodes is
+     * counted with {@link Nodes#length(Node)} before they are relinked.
+     *
+     * @param head the first node of a chain or any node of a circle, can be null
+     */
+    public void release(Node<T> head) {
+        int length = Nodes.length(head);
+        Node<T> current = head;
+        for (int i = 0; i < length && size < maxSize; i++) {
+            Node<T> next = current.next;
+            current.element = null;
+            current.next = free;
+            free = current;
+            size++;
+            current = next;
+        }
+    }
+
+    /**
+     * @return number of free nodes in the pool
+     */
+    public int size() {
+        return size;
+    }
+}
@@ -84,6 +84,7 @@ public class Nodes {
      * @param <T>      generic type T
      * @return a reference to the first element of the chain
      */
+    @SafeVarargs
     public static <T> Node<T> chainOf(T... elements) {
 //        throw new ExerciseNotCompletedException(); // todo:
         Node<T> firstNode = new Node<>(elements[0]);
@@ -104,6 +105,7 @@ public class Nodes {
      * @param <T>      generic type T
      * @return a reference to the first element of the chain
      */
+    @SafeVarargs
     public static <T> Node<T> circleOf(T... elements) {
 //        throw new ExerciseNotCompletedException(); // todo:
         Node<T> firstNode = new Node<>(elements[0]);
@@ -115,4 +117,125 @@ public class Nodes {
         currentNode.next = firstNode;
         return firstNode;
     }
+
+    /**
+     * Creates a linked chain of {@link Node} objects based on provided elements, like {@link Nodes#chainOf(Object[])},
+     * but takes nodes from the pool instead of creating new ones when possible.
+     *
+     * @param pool     a pool to take nodes from
+     * @param elements a array of elements of type T
+     * @param <T>      generic type T
+     * @return a reference to the first element of the chain
+     */
+    @SafeVarargs
+    public static <T> Node<T> chainOf(NodePool<T> pool, T... elements) {
+        Node<T> firstNode = pool.acquire(elements[0]);
+        Node<T> currentNode = firstNode;
+        for (int i = 1; i < elements.length; i++) {
+            currentNode.next = pool.acquire(elements[i]);
+            currentNode = currentNode.next;
+        }
+        return firstNode;
+    }
+
+    /**
+     * Creates a linked circle of {@link Node} objects based on provided elements, like
+     * {@link Nodes#circleOf(Object[])}, but takes nodes from the pool instead of creating new ones when possible.
+     *
+     * @param pool     a pool to take nodes from
+     * @param elements a array of elements of type T
+     * @param <T>      generic type T
+     * @return a reference to the first element of the chain
+     */
+    @SafeVarargs
+    public static <T> Node<T> circleOf(NodePool<T> pool, T... elements) {
+        Node<T> firstNode = pool.acquire(elements[0]);
+        Node<T> currentNode = firstNode;
+        for (int i = 1; i < elements.length; i++) {
+            currentNode.next = pool.acquire(elements[i]);
+            currentNode = currentNode.next;
+        }
+        currentNode.next = firstNode;
+        return firstNode;
+    }
+
+    /**
+     * Checks if following next references from the head ever gets to a node that was already visited. Uses Floyd's
+     * algorithm: one reference moves by one node and another one by two nodes, and they meet only inside a cycle.
+     *
+     * @param head any {@link Node} object, can be null
+     * @param <T>  generic type T
+     * @return {@code true} if nodes form a cycle, {@code false} if the chain ends
+     */
+    public static <T> boolean hasCycle(Node<T> head) {
+        Node<T> slow = head;
+        Node<T> fast = head;
+        while (fast != null && fast.next != null) {
+            slow = slow.next;
+            fast = fast.next.next;
+            if (slow == fast) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Counts nodes of a cycle that is reachable from the head. Uses Brent's algorithm, that checks for a cycle
+     * in powers of two and gets its length at the same time, with O(1) memory.
+     *
+     * @param head any {@link Node} object, can be null
+     * @param <T>  generic type T
+     * @return number of nodes in the cycle, or 0 if the chain ends
+     */
+    public static <T> int cycleLength(Node<T> head) {
+        if (head == null) {
+            return 0;
+        }
+        int power = 1;
+        int length = 1;
+        Node<T> tortoise = head;
+        Node<T> hare = head.next;
+        while (hare != null && hare != tortoise) {
+            if (power == length) {
+                tortoise = hare;
+                power *= 2;
+                length = 0;
+            }
+            hare = hare.next;
+            length++;
+        }
+        return hare == null ? 0 : length;
+    }
+
+    /**
+     * Counts distinct nodes that are reachable from the head: all nodes of a chain, or nodes before a cycle plus nodes
+     * of the cycle. Uses O(1) memory.
+     *
+     * @param head any {@link Node} object, can be null
+     * @param <T>  generic type T
+     * @return number of distinct nodes
+     */
+    public static <T> int length(Node<T> head) {
+        int cycleLength = cycleLength(head);
+        if (cycleLength == 0) {
+            int length = 0;
+            for (Node<T> current = head; current != null; current = current.next) {
+                length++;
+            }
+            return length;
+        }
+        Node<T> tortoise = head;
+        Node<T> hare = head;
+        for (int i = 0; i < cycleLength; i++) {
+            hare = hare.next;
+        }
+        int tailLength = 0;
+        while (tortoise != hare) {
+            tortoise = tortoise.next;
+            hare = hare.next;
+            tailLength++;
+        }
+        return tailLength + cycleLength;
+    }
 }
@@ -1,6 +1,7 @@
 package com.bobocode.cs;
 
 import com.bobobode.cs.Node;
+import com.bobobode.cs.NodePool;
 import com.bobobode.cs.Nodes;
 import lombok.SneakyThrows;
 import org.junit.jupiter.api.MethodOrderer;
@@ -11,6 +12,7 @@ import org.junit.jupiter.api.TestMethodOrder;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.util.Arrays;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -110,6 +112,121 @@ class NodesTest {
         assertThat(getNodeNext(fourthNode)).isEqualTo(firstNode);
     }
 
+    @Test
+    @Order(7)
+    void chainFromPoolReusesReleasedNodes() {
+        NodePool<Integer> pool = new NodePool<>();
+        Node<Integer> firstNode = Nodes.chainOf(pool, 1, 2, 3);
+        Node<Integer> secondNode = getNodeNext(firstNode);
+        Node<Integer> thirdNode = getNodeNext(secondNode);
+
+        pool.release(firstNode);
+
+        assertThat(pool.size()).isEqualTo(3);
+        assertThat(getNodeElement(firstNode)).isNull();
+
+        Node<Integer> reusedChain = Nodes.chainOf(pool, 4, 5);
+
+        assertThat(pool.size()).isEqualTo(1);
+        assertThat(List.of(reusedChain, getNodeNext(reusedChain))).allMatch(node ->
+                node == firstNode || node == secondNode || node == thirdNode);
+        assertThat(getNodeElement(reusedChain)).isEqualTo(4);
+        assertThat(getNodeElement(getNodeNext(reusedChain))).isEqualTo(5);
+        assertThat(getNodeNext(getNodeNext(reusedChain))).isNull();
+    }
+
+    @Test
+    @Order(8)
+    void circleFromPool() {
+        NodePool<Integer> pool = new NodePool<>();
+        pool.release(Nodes.circleOf(pool, 1, 2, 3, 4));
+
+        assertThat(pool.size()).isEqualTo(4);
+
+        Node<Integer> firstNode = Nodes.circleOf(pool, 8, 1, 13);
+
+        Node<Integer> secondNode = getNodeNext(firstNode);
+        Node<Integer> thirdNode = getNodeNext(secondNode);
+        assertThat(getNodeElement(firstNode)).isEqualTo(8);
+        assertThat(getNodeElement(secondNode)).isEqualTo(1);
+        assertThat(getNodeElement(thirdNode)).isEqualTo(13);
+        assertThat(getNodeNext(thirdNode)).isEqualTo(firstNode);
+        assertThat(pool.size()).isEqualTo(1);
+    }
+
+    @Test
+    @Order(9)
+    void poolDoesNotKeepMoreThanMaxSizeNodes() {
+        NodePool<Integer> pool = new NodePool<>(2);
+
+        pool.release(Nodes.chainOf(1, 2, 3, 4));
+
+        assertThat(pool.size()).isEqualTo(2);
+    }
+
+    @Test
+    @Order(10)
+    void hasCycle() {
+        Node<Integer> rho = Nodes.chainOf(1, 2, 3, 4, 5);
+        setNodeNext(getNodeNext(getNodeNext(getNodeNext(getNodeNext(rho)))), getNodeNext(getNodeNext(rho)));
+
+        assertThat(Nodes.hasCycle(null)).isFalse();
+        assertThat(Nodes.hasCycle(Nodes.chainOf(1))).isFalse();
+        assertThat(Nodes.hasCycle(Nodes.chainOf(1, 2, 3))).isFalse();
+        assertThat(Nodes.hasCycle(Nodes.circleOf(1))).isTrue();
+        assertThat(Nodes.hasCycle(Nodes.circleOf(1, 2, 3))).isTrue();
+        assertThat(Nodes.hasCycle(rho)).isTrue();
+    }
+
+    @Test
+    @Order(11)
+    void cycleLengthAndLength() {
+        // 1 -> 2 -> 3 -> 4 -> 5 -> 3
+        Node<Integer> rho = Nodes.chainOf(1, 2, 3, 4, 5);
+        setNodeNext(getNodeNext(getNodeNext(getNodeNext(getNodeNext(rho)))), getNodeNext(getNodeNext(rho)));
+
+        assertThat(Nodes.cycleLength(null)).isEqualTo(0);
+        assertThat(Nodes.length(null)).isEqualTo(0);
+        assertThat(Nodes.cycleLength(Nodes.chainOf(1, 2, 3))).isEqualTo(0);
+        assertThat(Nodes.length(Nodes.chainOf(1, 2, 3))).isEqualTo(3);
+        assertThat(Nodes.cycleLength(Nodes.circleOf(1))).isEqualTo(1);
+        assertThat(Nodes.length(Nodes.circleOf(1))).isEqualTo(1);
+        assertThat(Nodes.cycleLength(Nodes.circleOf(1, 2, 3, 4))).isEqualTo(4);
+        assertThat(Nodes.length(Nodes.circleOf(1, 2, 3, 4))).isEqualTo(4);
+        assertThat(Nodes.cycleLength(rho)).isEqualTo(3);
+        assertThat(Nodes.length(rho)).isEqualTo(5);
+    }
+
+    @Test
+    @Order(12)
+    void lengthOfLongCircle() {
+        Integer[] elements = new Integer[1_000_000];
+        Arrays.fill(elements, 0);
+
+        Node<Integer> circle = Nodes.circleOf(elements);
+
+        assertThat(Nodes.hasCycle(circle)).isTrue();
+        assertThat(Nodes.cycleLength(circle)).isEqualTo(elements.length);
+        assertThat(Nodes.length(getNodeNext(circle))).isEqualTo(elements.length);
+    }
+
+    @Test
+    @Order(13)
+    void poolReleasesNodesOfChainWithCycleOnce() {
+        // 1 -> 2 -> 3 -> 4 -> 5 -> 3
+        NodePool<Integer> pool = new NodePool<>();
+        Node<Integer> rho = Nodes.chainOf(1, 2, 3, 4, 5);
+        setNodeNext(getNodeNext(getNodeNext(getNodeNext(getNodeNext(rho)))), getNodeNext(getNodeNext(rho)));
+
+        pool.release(rho);
+
+        assertThat(pool.size()).isEqualTo(5);
+        Node<Integer> chain = Nodes.chainOf(pool, 1, 2, 3, 4, 5);
+        assertThat(pool.size()).isEqualTo(0);
+        assertThat(Nodes.hasCycle(chain)).isFalse();
+        assertThat(Nodes.length(chain)).isEqualTo(5);
+    }
+
     @SneakyThrows
     @SuppressWarnings("unchecked")
     private Node<Integer> createNodeOf(int element) {
@@ -0,0 +1,134 @@
+package com.bobocode.cs;
+
+import com.bobocode.cs.exception.EmptyStackException;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * {@link ArrayStack} is a stack implementation that is based on an array. Unlike {@link LinkedStack}, it does not
+ * allocate a node per {@link ArrayStack#push(Object)}. When the array is full, it grows by 50%, so push takes amortized
+ * constant time.
+ * <p>
+ * A stack can optionally shrink: when it becomes a quarter full, the array is cut in half, but never below the
+ * initial capacity. The gap between the two thresholds prevents resizing back and forth on alternating push and pop.
+ *
+ * @param <T> generic type parameter
+ */
+public class ArrayStack<T> implements Stack<T> {
+
+    private static final int DEFAULT_CAPACITY = 10;
+
+    private Object[] elements;
+    private int size;
+    private final int initCapacity;
+    private final boolean shrinkable;
+
+    public ArrayStack() {
+        this(DEFAULT_CAPACITY, false);
+    }
+
+    /**
+     * Creates a stack with a specific initial capacity that never shrinks
+     *
+     * @param initCapacity initial array size
+     * @throws IllegalArgumentException if initCapacity is not positive
+     */
+    public ArrayStack(int initCapacity) {
+        this(initCapacity, false);
+    }
+
+    /**
+     * Creates a stack with a specific initial capacity
+     *
+     * @param initCapacity initial array size, and the minimal size the stack shrinks to
+     * @param shrinkable   {@code true} if the array should be shrunk when most of it is unused
+     * @throws IllegalArgumentException if initCapacity is not positive
+     */
+    public ArrayStack(int initCapacity, boolean shrinkable) {
+        if (initCapacity <= 0) {
+            throw new IllegalArgumentException();
+        }
+        this.elements = new Object[initCapacity];
+        this.initCapacity = initCapacity;
+        this.shrinkable = shrinkable;
+    }
+
+    /**
+     * This method creates a stack of provided elements
+     *
+     * @param elements elements to add
+     * @param <T>      generic type
+     * @return a new stack of elements that were passed as method parameters
+     */
+    @SafeVarargs
+    public static <T> ArrayStack<T> of(T... elements) {
+        ArrayStack<T> arrayStack = new ArrayStack<>(Math.max(elements.length, DEFAULT_CAPACITY));
+        for (T e : elements) {
+            arrayStack.push(e);
+        }
+        return arrayStack;
+    }
+
+    /**
+     * The method pushes an element onto the top of this stack
+     *
+     * @param element elements to add
+     */
+    @Override
+    public void push(T element) {
+        Objects.requireNonNull(element);
+        if (size == elements.length) {
+            elements = Arrays.copyOf(elements, elements.length + (elements.length >> 1) + 1);
+        }
+        elements[size++] = element;
+    }
+
+    /**
+     * This method removes the object at the top of this stack
+     * and returns that object as the value of this function.
+     *
+     * @return The object at the top of this stack
+     * @throws EmptyStackException - if this stack is empty
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T pop() {
+        if (isEmpty()) {
+            throw new EmptyStackException();
+        }
+        T element = (T) elements[--size];
+        elements[size] = null;
+        if (shrinkable && size <= elements.length >> 2 && elements.length > initCapacity) {
+            elements = Arrays.copyOf(elements, Math.max(elements.length >> 1, initCapacity));
+        }
+        return element;
+    }
+
+    /**
+     * Returns the number of elements in the stack
+     *
+     * @return number of elements
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks if a stack is empty
+     *
+     * @return {@code true} if a stack is empty, {@code false} otherwise
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @return current length of the underlying array
+     */
+    public int capacity() {
+        return elements.length;
+    }
+}
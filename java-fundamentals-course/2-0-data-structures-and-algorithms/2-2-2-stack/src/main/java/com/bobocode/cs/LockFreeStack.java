@@ -0,0 +1,99 @@
+package com.bobocode.cs;
+
+import com.bobocode.cs.exception.EmptyStackException;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link LockFreeStack} is a thread-safe, non-blocking stack implementation that is based on the Treiber algorithm.
+ * Like {@link LinkedStack}, it keeps a reference to the head of singly linked nodes, but replaces it with
+ * compare-and-set instead of locking. A thread that loses the race simply re-reads the head and retries.
+ * <p>
+ * Nodes are never reused, so the head can not come back to a previous value while a thread is retrying (ABA problem).
+ * The garbage collector keeps a removed node alive as long as any thread still holds a reference to it.
+ * <p>
+ * {@link LockFreeStack#size()} is backed by a {@link LongAdder}, so it does not become a point of contention.
+ * It is exact when the stack is not modified concurrently, and approximate otherwise.
+ *
+ * @param <T> generic type parameter
+ */
+public class LockFreeStack<T> implements Stack<T> {
+
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<LockFreeStack, Node> HEAD =
+            AtomicReferenceFieldUpdater.newUpdater(LockFreeStack.class, Node.class, "head");
+
+    private volatile Node<T> head;
+    private final LongAdder size = new LongAdder();
+
+    private static class Node<T> {
+        final T element;
+        Node<T> next;
+
+        Node(T element) {
+            this.element = element;
+        }
+    }
+
+    /**
+     * The method pushes an element onto the top of this stack. This method never blocks.
+     *
+     * @param element elements to add
+     */
+    @Override
+    public void push(T element) {
+        Objects.requireNonNull(element);
+        Node<T> newNode = new Node<>(element);
+        Node<T> currentHead;
+        do {
+            currentHead = head;
+            newNode.next = currentHead;
+        } while (!HEAD.compareAndSet(this, currentHead, newNode));
+        size.increment();
+    }
+
+    /**
+     * This method removes the object at the top of this stack
+     * and returns that object as the value of this function. This method never blocks.
+     *
+     * @return The object at the top of this stack
+     * @throws EmptyStackException - if this stack is empty
+     */
+    @Override
+    public T pop() {
+        Node<T> currentHead;
+        do {
+            currentHead = head;
+            if (currentHead == null) {
+                throw new EmptyStackException();
+            }
+        } while (!HEAD.compareAndSet(this, currentHead, currentHead.next));
+        size.decrement();
+        return currentHead.element;
+    }
+
+    /**
+     * Returns the number of elements in the stack. The result is exact when there are no concurrent modifications,
+     * otherwise it is an estimate that never goes below zero.
+     *
+     * @return number of elements
+     */
+    @Override
+    public int size() {
+        long sum = size.sum();
+        return (int) Math.max(0, Math.min(sum, Integer.MAX_VALUE));
+    }
+
+    /**
+     * Checks if a stack is empty. Unlike {@link LockFreeStack#size()}, the result is always consistent with
+     * {@link LockFreeStack#pop()}.
+     *
+     * @return {@code true} if a stack is empty, {@code false} otherwise
+     */
+    @Override
+    public boolean isEmpty() {
+        return head == null;
+    }
+}
@@ -0,0 +1,121 @@
+package com.bobocode.cs;
+
+import com.bobocode.cs.exception.EmptyStackException;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * A test class for {@link ArrayStack}.
+ */
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class ArrayStackTest {
+
+    private ArrayStack<Integer> intStack = new ArrayStack<>();
+
+    @Test
+    @Order(1)
+    void pushAndPopFollowLifoOrder() {
+        intStack.push(1);
+        intStack.push(228);
+        intStack.push(12);
+
+        assertThat(intStack.pop()).isEqualTo(12);
+        assertThat(intStack.pop()).isEqualTo(228);
+        assertThat(intStack.pop()).isEqualTo(1);
+    }
+
+    @Test
+    @Order(2)
+    void ofPushesElementsInOrder() {
+        intStack = ArrayStack.of(1, 2, 3);
+
+        assertThat(intStack.size()).isEqualTo(3);
+        assertThat(intStack.pop()).isEqualTo(3);
+    }
+
+    @Test
+    @Order(3)
+    void popThrowsExceptionWhenStackIsEmpty() {
+        assertThrows(EmptyStackException.class, () -> intStack.pop());
+
+        intStack.push(1);
+        intStack.pop();
+
+        assertThrows(EmptyStackException.class, () -> intStack.pop());
+    }
+
+    @Test
+    @Order(4)
+    void pushThrowsExceptionWhenElementIsNull() {
+        assertThatNullPointerException().isThrownBy(() -> intStack.push(null));
+    }
+
+    @Test
+    @Order(5)
+    void constructorThrowsExceptionWhenCapacityIsNotPositive() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new ArrayStack<>(0));
+    }
+
+    @Test
+    @Order(6)
+    void sizeAndIsEmpty() {
+        assertThat(intStack.isEmpty()).isTrue();
+
+        intStack.push(1);
+        intStack.push(2);
+
+        assertThat(intStack.isEmpty()).isFalse();
+        assertThat(intStack.size()).isEqualTo(2);
+    }
+
+    @Test
+    @Order(7)
+    void pushGrowsArrayWhenItIsFull() {
+        intStack = new ArrayStack<>(2);
+        for (int i = 0; i < 1000; i++) {
+            intStack.push(i);
+        }
+
+        assertThat(intStack.size()).isEqualTo(1000);
+        assertThat(intStack.capacity()).isGreaterThanOrEqualTo(1000);
+        for (int i = 999; i >= 0; i--) {
+            assertThat(intStack.pop()).isEqualTo(i);
+        }
+    }
+
+    @Test
+    @Order(8)
+    void stackDoesNotShrinkByDefault() {
+        for (int i = 0; i < 1000; i++) {
+            intStack.push(i);
+        }
+        int capacity = intStack.capacity();
+        while (!intStack.isEmpty()) {
+            intStack.pop();
+        }
+
+        assertThat(intStack.capacity()).isEqualTo(capacity);
+    }
+
+    @Test
+    @Order(9)
+    void shrinkableStackShrinksDownToInitialCapacity() {
+        intStack = new ArrayStack<>(8, true);
+        for (int i = 0; i < 1000; i++) {
+            intStack.push(i);
+        }
+        for (int i = 999; i >= 0; i--) {
+            assertThat(intStack.pop()).isEqualTo(i);
+            assertThat(intStack.capacity()).isLessThanOrEqualTo(Math.max(8, intStack.size() * 4 + 4));
+        }
+
+        assertThat(intStack.capacity()).isEqualTo(8);
+    }
+}
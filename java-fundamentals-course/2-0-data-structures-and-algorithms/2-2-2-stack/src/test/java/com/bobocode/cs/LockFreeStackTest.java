@@ -0,0 +1,119 @@
+package com.bobocode.cs;
+
+import com.bobocode.cs.exception.EmptyStackException;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * A test class for {@link LockFreeStack}.
+ */
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class LockFreeStackTest {
+
+    private static final int THREADS = 4;
+    private static final int ELEMENTS_PER_THREAD = 100_000;
+
+    private Stack<Integer> intStack = new LockFreeStack<>();
+
+    @Test
+    @Order(1)
+    void pushAndPopFollowLifoOrder() {
+        intStack.push(1);
+        intStack.push(228);
+        intStack.push(12);
+
+        assertThat(intStack.pop()).isEqualTo(12);
+        assertThat(intStack.pop()).isEqualTo(228);
+        assertThat(intStack.pop()).isEqualTo(1);
+    }
+
+    @Test
+    @Order(2)
+    void popThrowsExceptionWhenStackIsEmpty() {
+        assertThrows(EmptyStackException.class, () -> intStack.pop());
+
+        intStack.push(1);
+        intStack.pop();
+
+        assertThrows(EmptyStackException.class, () -> intStack.pop());
+    }
+
+    @Test
+    @Order(3)
+    void pushThrowsExceptionWhenElementIsNull() {
+        assertThatNullPointerException().isThrownBy(() -> intStack.push(null));
+    }
+
+    @Test
+    @Order(4)
+    void sizeAndIsEmpty() {
+        assertThat(intStack.isEmpty()).isTrue();
+        assertThat(intStack.size()).isEqualTo(0);
+
+        intStack.push(1);
+        intStack.push(2);
+
+        assertThat(intStack.isEmpty()).isFalse();
+        assertThat(intStack.size()).isEqualTo(2);
+    }
+
+    @Test
+    @Order(5)
+    @Timeout(60)
+    void concurrentPushAndPopTransferEachElementExactlyOnce() throws Exception {
+        int total = THREADS * ELEMENTS_PER_THREAD;
+        AtomicIntegerArray popped = new AtomicIntegerArray(total);
+        AtomicInteger poppedCount = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<?>> futures = new ArrayList<>();
+        try {
+            for (int t = 0; t < THREADS; t++) {
+                int thread = t;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < ELEMENTS_PER_THREAD; i++) {
+                        intStack.push(thread * ELEMENTS_PER_THREAD + i);
+                        if (i % 2 == 1) {
+                            popped.incrementAndGet(intStack.pop());
+                            poppedCount.incrementAndGet();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        while (!intStack.isEmpty()) {
+            popped.incrementAndGet(intStack.pop());
+            poppedCount.incrementAndGet();
+        }
+
+        assertThat(poppedCount.get()).isEqualTo(total);
+        for (int i = 0; i < total; i++) {
+            assertThat(popped.get(i)).isEqualTo(1);
+        }
+        assertThat(intStack.size()).isEqualTo(0);
+    }
+}
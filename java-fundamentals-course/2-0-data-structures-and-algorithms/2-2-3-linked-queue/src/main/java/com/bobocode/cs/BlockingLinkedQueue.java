@@ -0,0 +1,296 @@
+package com.bobocode.cs;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * {@link BlockingLinkedQueue} is a thread-safe, bounded FIFO {@link Queue} that stores elements in a {@link LinkedQueue}
+ * and adds blocking operations on top of it. {@link BlockingLinkedQueue#take()} waits until an element is available
+ * instead of returning null, so consumers don't need to busy-spin. {@link BlockingLinkedQueue#put(Object)} waits until
+ * there is free space, so a fast producer is slowed down to the speed of consumers.
+ * <p>
+ * A {@link WatermarkListener} can be notified when queue size reaches the high watermark and when it drops back to the
+ * low watermark. Callbacks are invoked by the thread that crossed the watermark while it still holds the lock, so they
+ * always arrive in the order the watermarks were crossed and high and low callbacks strictly alternate. A callback
+ * blocks all other operations on the queue, so it should be short and must not wait for another thread that uses the
+ * queue.
+ * <p>
+ * Waiting threads are parked using {@link ReentrantLock} conditions rather than {@code synchronized} and
+ * {@link Object#wait()}, so a waiting virtual thread does not pin its carrier thread.
+ *
+ * @param <T> a generic parameter
+ */
+public class BlockingLinkedQueue<T> implements Queue<T> {
+
+    private static final WatermarkListener NO_OP_LISTENER = new WatermarkListener() {
+        @Override
+        public void onHighWatermark(int size) {
+        }
+
+        @Override
+        public void onLowWatermark(int size) {
+        }
+    };
+
+    private final LinkedQueue<T> queue = new LinkedQueue<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Condition notFull = lock.newCondition();
+    private final int capacity;
+    private final int lowWatermark;
+    private final int highWatermark;
+    private final WatermarkListener listener;
+    private boolean highWatermarkReached;
+
+    /**
+     * Creates an unbounded queue without watermarks.
+     */
+    public BlockingLinkedQueue() {
+        this(Integer.MAX_VALUE);
+    }
+
+    /**
+     * Creates a queue with a specific capacity and without watermarks.
+     *
+     * @param capacity max number of elements in the queue
+     * @throws IllegalArgumentException if capacity is not positive
+     */
+    public BlockingLinkedQueue(int capacity) {
+        this(capacity, 0, capacity, NO_OP_LISTENER);
+    }
+
+    /**
+     * Creates a queue with a specific capacity and watermarks.
+     *
+     * @param capacity      max number of elements in the queue
+     * @param lowWatermark  size of the queue that is reported after the high watermark was reached and the queue
+     *                      was drained
+     * @param highWatermark size of the queue that is reported when the queue grows
+     * @param listener      a listener that is notified when watermarks are crossed
+     * @throws IllegalArgumentException if capacity is not positive, or watermarks don't satisfy
+     *                                  {@code 0 <= lowWatermark < highWatermark <= capacity}
+     */
+    public BlockingLinkedQueue(int capacity, int lowWatermark, int highWatermark, WatermarkListener listener) {
+        if (capacity <= 0 || lowWatermark < 0 || lowWatermark >= highWatermark || highWatermark > capacity) {
+            throw new IllegalArgumentException();
+        }
+        this.capacity = capacity;
+        this.lowWatermark = lowWatermark;
+        this.highWatermark = highWatermark;
+        this.listener = Objects.requireNonNull(listener);
+    }
+
+    /**
+     * Adds an element to the end of the queue without waiting.
+     *
+     * @param element the element to add
+     * @throws IllegalStateException if the queue is full
+     */
+    @Override
+    public void add(T element) {
+        if (!offer(element)) {
+            throw new IllegalStateException("Queue is full");
+        }
+    }
+
+    /**
+     * Adds an element to the end of the queue if there is free space, without waiting.
+     *
+     * @param element the element to add
+     * @return {@code true} if the element was added, {@code false} if the queue is full
+     */
+    public boolean offer(T element) {
+        Objects.requireNonNull(element);
+        lock.lock();
+        try {
+            if (queue.size() == capacity) {
+                return false;
+            }
+            enqueue(element);
+        } finally {
+            lock.unlock();
+        }
+        return true;
+    }
+
+    /**
+     * Adds an element to the end of the queue, waiting up to the specified time for free space.
+     *
+     * @param element the element to add
+     * @param timeout how long to wait
+     * @param unit    a unit of timeout
+     * @return {@code true} if the element was added, {@code false} if the time elapsed before space was available
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public boolean offer(T element, long timeout, TimeUnit unit) throws InterruptedException {
+        Objects.requireNonNull(element);
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            while (queue.size() == capacity) {
+                if (nanos <= 0) {
+                    return false;
+                }
+                nanos = notFull.awaitNanos(nanos);
+            }
+            enqueue(element);
+        } finally {
+            lock.unlock();
+        }
+        return true;
+    }
+
+    /**
+     * Adds an element to the end of the queue, waiting for free space if necessary.
+     *
+     * @param element the element to add
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public void put(T element) throws InterruptedException {
+        Objects.requireNonNull(element);
+        lock.lockInterruptibly();
+        try {
+            while (queue.size() == capacity) {
+                notFull.await();
+            }
+            enqueue(element);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Retrieves and removes queue head without waiting.
+     *
+     * @return an element that was retrieved from the head or null if queue is empty
+     */
+    @Override
+    public T poll() {
+        T element;
+        lock.lock();
+        try {
+            if (queue.isEmpty()) {
+                return null;
+            }
+            element = queue.poll();
+            dequeued();
+        } finally {
+            lock.unlock();
+        }
+        return element;
+    }
+
+    /**
+     * Retrieves and removes queue head, waiting up to the specified time for an element to become available.
+     *
+     * @param timeout how long to wait
+     * @param unit    a unit of timeout
+     * @return an element that was retrieved from the head or null if the time elapsed before an element was available
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public T poll(long timeout, TimeUnit unit) throws InterruptedException {
+        long nanos = unit.toNanos(timeout);
+        T element;
+        lock.lockInterruptibly();
+        try {
+            while (queue.isEmpty()) {
+                if (nanos <= 0) {
+                    return null;
+                }
+                nanos = notEmpty.awaitNanos(nanos);
+            }
+            element = queue.poll();
+            dequeued();
+        } finally {
+            lock.unlock();
+        }
+        return element;
+    }
+
+    /**
+     * Retrieves and removes queue head, waiting for an element to become available if necessary.
+     *
+     * @return an element that was retrieved from the head
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public T take() throws InterruptedException {
+        T element;
+        lock.lockInterruptibly();
+        try {
+            while (queue.isEmpty()) {
+                notEmpty.await();
+            }
+            element = queue.poll();
+            dequeued();
+        } finally {
+            lock.unlock();
+        }
+        return element;
+    }
+
+    /**
+     * Returns a size of the queue.
+     *
+     * @return an integer value that is a size of queue
+     */
+    @Override
+    public int size() {
+        lock.lock();
+        try {
+            return queue.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Checks if the queue is empty.
+     *
+     * @return {@code true} if the queue is empty, returns {@code false} if it's not
+     */
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * @return the number of elements that can be added without waiting
+     */
+    public int remainingCapacity() {
+        lock.lock();
+        try {
+            return capacity - queue.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Adds an element, updates watermark state and notifies the listener if the high watermark was just reached. Must
+     * be called while holding the lock.
+     */
+    private void enqueue(T element) {
+        queue.add(element);
+        notEmpty.signal();
+        int size = queue.size();
+        if (!highWatermarkReached && size >= highWatermark) {
+            highWatermarkReached = true;
+            listener.onHighWatermark(size);
+        }
+    }
+
+    /**
+     * Updates watermark state after an element was removed and notifies the listener if the low watermark was just
+     * reached. Must be called while holding the lock.
+     */
+    private void dequeued() {
+        notFull.signal();
+        int size = queue.size();
+        if (highWatermarkReached && size <= lowWatermark) {
+            highWatermarkReached = false;
+            listener.onLowWatermark(size);
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.bobocode.cs;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link ConcurrentLinkedQueue} is a thread-safe, non-blocking implementation of FIFO {@link Queue}, that is based on
+ * the Michael-Scott algorithm. Like {@link LinkedQueue}, it keeps references to the head and tail of singly linked
+ * nodes, but updates them with compare-and-set instead of locking. Producers only contend on the tail, consumers
+ * only contend on the head, and a thread that sees the tail lagging behind helps to move it forward.
+ * <p>
+ * The head always points to a dummy node, and the first element of the queue is stored in the node after it.
+ * <p>
+ * {@link ConcurrentLinkedQueue#size()} is backed by a {@link LongAdder}, so it does not become a point of contention.
+ * It is exact when the queue is not modified concurrently, and approximate otherwise.
+ *
+ * @param <T> a generic parameter
+ */
+public class ConcurrentLinkedQueue<T> implements Queue<T> {
+
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<ConcurrentLinkedQueue, Node> HEAD =
+            AtomicReferenceFieldUpdater.newUpdater(ConcurrentLinkedQueue.class, Node.class, "head");
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<ConcurrentLinkedQueue, Node> TAIL =
+            AtomicReferenceFieldUpdater.newUpdater(ConcurrentLinkedQueue.class, Node.class, "tail");
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<Node, Node> NEXT =
+            AtomicReferenceFieldUpdater.newUpdater(Node.class, Node.class, "next");
+
+    private volatile Node<T> head;
+    private volatile Node<T> tail;
+    private final LongAdder size = new LongAdder();
+
+    private static class Node<T> {
+        volatile T element;
+        volatile Node<T> next;
+
+        Node(T element) {
+            this.element = element;
+        }
+    }
+
+    public ConcurrentLinkedQueue() {
+        head = tail = new Node<>(null);
+    }
+
+    /**
+     * Adds an element to the end of the queue. This method never blocks.
+     *
+     * @param element the element to add
+     */
+    @Override
+    public void add(T element) {
+        Objects.requireNonNull(element);
+        Node<T> newNode = new Node<>(element);
+        while (true) {
+            Node<T> currentTail = tail;
+            Node<T> next = currentTail.next;
+            if (currentTail == tail) {
+                if (next == null) {
+                    if (NEXT.compareAndSet(currentTail, null, newNode)) {
+                        TAIL.compareAndSet(this, currentTail, newNode);
+                        break;
+                    }
+                } else {
+                    TAIL.compareAndSet(this, currentTail, next);
+                }
+            }
+        }
+        size.increment();
+    }
+
+    /**
+     * Retrieves and removes queue head. This method never blocks.
+     *
+     * @return an element that was retrieved from the head or null if queue is empty
+     */
+    @Override
+    public T poll() {
+        while (true) {
+            Node<T> currentHead = head;
+            Node<T> currentTail = tail;
+            Node<T> first = currentHead.next;
+            if (currentHead == head) {
+                if (currentHead == currentTail) {
+                    if (first == null) {
+                        return null;
+                    }
+                    TAIL.compareAndSet(this, currentTail, first);
+                } else {
+                    T element = first.element;
+                    if (HEAD.compareAndSet(this, currentHead, first)) {
+                        first.element = null;
+                        size.decrement();
+                        return element;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns a size of the queue. The result is exact when there are no concurrent modifications, otherwise it is
+     * an estimate that never goes below zero.
+     *
+     * @return an integer value that is a size of queue
+     */
+    @Override
+    public int size() {
+        long sum = size.sum();
+        return (int) Math.max(0, Math.min(sum, Integer.MAX_VALUE));
+    }
+
+    /**
+     * Checks if the queue is empty. Unlike {@link ConcurrentLinkedQueue#size()}, the result is always consistent
+     * with {@link ConcurrentLinkedQueue#poll()}.
+     *
+     * @return {@code true} if the queue is empty, returns {@code false} if it's not
+     */
+    @Override
+    public boolean isEmpty() {
+        return head.next == null;
+    }
+}
@@ -1,6 +1,11 @@
 package com.bobocode.cs;
 
 import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * {@link LinkedQueue} implements FIFO {@link Queue}, using singly linked nodes. Nodes are stores in instances of nested
@@ -86,4 +91,51 @@ public class LinkedQueue<T> implements Queue<T> {
         return size() == 0;
     }
 
+    /**
+     * Returns a spliterator over elements from the head to the tail of the queue. Elements are not removed. It splits
+     * off batches of elements copied to arrays, and each next batch is larger than the previous one.
+     *
+     * @return a spliterator over elements of the queue
+     */
+    public Spliterator<T> spliterator() {
+        return new Spliterators.AbstractSpliterator<>(size,
+                Spliterator.ORDERED | Spliterator.SIZED | Spliterator.NONNULL) {
+            private Node<T> current = head;
+
+            @Override
+            public boolean tryAdvance(Consumer<? super T> action) {
+                Objects.requireNonNull(action);
+                if (current == null) {
+                    return false;
+                }
+                action.accept(current.element);
+                current = current.next;
+                return true;
+            }
+
+            @Override
+            public void forEachRemaining(Consumer<? super T> action) {
+                Objects.requireNonNull(action);
+                for (Node<T> node = current; node != null; node = node.next) {
+                    action.accept(node.element);
+                }
+                current = null;
+            }
+        };
+    }
+
+    /**
+     * @return a sequential stream over elements of the queue, from the head to the tail
+     */
+    public Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * @return a possibly parallel stream over elements of the queue, from the head to the tail
+     */
+    public Stream<T> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
+
 }
@@ -0,0 +1,186 @@
+package com.bobocode.cs;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * {@link RingBufferQueue} is a bounded FIFO {@link Queue} that stores elements in a circular array. Unlike
+ * {@link LinkedQueue}, it does not allocate anything on {@link RingBufferQueue#add(Object)}, so it does not produce
+ * garbage at high event rates. The capacity is rounded up to a power of two, so a position in the array is calculated
+ * with a bit mask instead of a division.
+ * <p>
+ * Consumers can pull many elements per call with {@link RingBufferQueue#drainTo(Consumer, int)}, and producers can
+ * push a whole batch with {@link RingBufferQueue#addAll(Object[])}. Batch operations copy elements with at most two
+ * {@link System#arraycopy(Object, int, Object, int, int)} calls.
+ * <p>
+ * This implementation is not thread-safe. See {@link SpscRingBufferQueue} for a single-producer/single-consumer
+ * version.
+ *
+ * @param <T> a generic parameter
+ */
+public class RingBufferQueue<T> implements Queue<T> {
+
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    private final Object[] elements;
+    private final int mask;
+    private int head;
+    private int tail;
+
+    /**
+     * Creates a queue that can hold at least provided number of elements. The capacity is rounded up to the
+     * closest power of two.
+     *
+     * @param capacity min capacity of the queue
+     * @throws IllegalArgumentException if capacity is not positive or greater than 2^30
+     */
+    public RingBufferQueue(int capacity) {
+        if (capacity <= 0 || capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException();
+        }
+        int powerOfTwoCapacity = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        elements = new Object[powerOfTwoCapacity];
+        mask = powerOfTwoCapacity - 1;
+    }
+
+    /**
+     * Adds an element to the end of the queue.
+     *
+     * @param element the element to add
+     * @throws IllegalStateException if the queue is full
+     */
+    @Override
+    public void add(T element) {
+        if (!offer(element)) {
+            throw new IllegalStateException("Queue is full");
+        }
+    }
+
+    /**
+     * Adds an element to the end of the queue if there is free space.
+     *
+     * @param element the element to add
+     * @return {@code true} if the element was added, {@code false} if the queue is full
+     */
+    public boolean offer(T element) {
+        Objects.requireNonNull(element);
+        if (size() == elements.length) {
+            return false;
+        }
+        elements[tail & mask] = element;
+        tail++;
+        return true;
+    }
+
+    /**
+     * Adds all elements of the batch to the end of the queue. Either all elements are added, or none of them.
+     *
+     * @param batch elements to add
+     * @throws IllegalStateException if there is no space for the whole batch
+     */
+    public void addAll(T[] batch) {
+        if (batch.length > elements.length - size()) {
+            throw new IllegalStateException("Queue is full");
+        }
+        offerAll(batch);
+    }
+
+    /**
+     * Adds as many elements of the batch as there is free space for, starting from the first one.
+     *
+     * @param batch elements to add
+     * @return the number of added elements
+     */
+    public int offerAll(T[] batch) {
+        int count = Math.min(batch.length, elements.length - size());
+        for (int i = 0; i < count; i++) {
+            Objects.requireNonNull(batch[i]);
+        }
+        int start = tail & mask;
+        int firstPart = Math.min(count, elements.length - start);
+        System.arraycopy(batch, 0, elements, start, firstPart);
+        System.arraycopy(batch, firstPart, elements, 0, count - firstPart);
+        tail += count;
+        return count;
+    }
+
+    /**
+     * Retrieves and removes queue head.
+     *
+     * @return an element that was retrieved from the head or null if queue is empty
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T poll() {
+        if (isEmpty()) {
+            return null;
+        }
+        int index = head & mask;
+        T element = (T) elements[index];
+        elements[index] = null;
+        head++;
+        return element;
+    }
+
+    /**
+     * Retrieves and removes up to maxBatch elements from the head of the queue and passes them to the consumer
+     * in FIFO order.
+     *
+     * @param consumer accepts removed elements
+     * @param maxBatch max number of elements to remove
+     * @return the number of removed elements
+     * @throws IllegalArgumentException if maxBatch is negative
+     */
+    @SuppressWarnings("unchecked")
+    public int drainTo(Consumer<? super T> consumer, int maxBatch) {
+        Objects.requireNonNull(consumer);
+        if (maxBatch < 0) {
+            throw new IllegalArgumentException();
+        }
+        int count = Math.min(maxBatch, size());
+        for (int i = 0; i < count; i++) {
+            int index = head & mask;
+            T element = (T) elements[index];
+            elements[index] = null;
+            head++;
+            consumer.accept(element);
+        }
+        return count;
+    }
+
+    /**
+     * Returns a size of the queue.
+     *
+     * @return an integer value that is a size of queue
+     */
+    @Override
+    public int size() {
+        return tail - head;
+    }
+
+    /**
+     * Checks if the queue is empty.
+     *
+     * @return {@code true} if the queue is empty, returns {@code false} if it's not
+     */
+    @Override
+    public boolean isEmpty() {
+        return tail == head;
+    }
+
+    /**
+     * @return max number of elements the queue can hold
+     */
+    public int capacity() {
+        return elements.length;
+    }
+
+    /**
+     * Removes all elements from the queue.
+     */
+    public void clear() {
+        Arrays.fill(elements, null);
+        head = tail = 0;
+    }
+}
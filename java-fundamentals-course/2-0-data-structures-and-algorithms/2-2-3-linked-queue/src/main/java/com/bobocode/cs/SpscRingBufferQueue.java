@@ -0,0 +1,229 @@
+package com.bobocode.cs;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import java.util.function.Consumer;
+
+/**
+ * {@link SpscRingBufferQueue} is a bounded, lock-free FIFO {@link Queue} for exactly one producer thread and exactly one
+ * consumer thread. Like {@link RingBufferQueue}, it stores elements in a circular array with power-of-two capacity.
+ * <p>
+ * The producer only writes the producer index and the consumer only writes the consumer index. Each index is
+ * published with an ordered store, that is cheaper than a volatile write. Both indices are surrounded by padding
+ * fields, so they never share a cache line and the two threads do not invalidate each other's cache on every
+ * operation (false sharing). Each side also caches the last seen index of the other side, and re-reads it only when
+ * the queue looks full or empty.
+ * <p>
+ * {@link SpscRingBufferQueue#add(Object)}, {@link SpscRingBufferQueue#offer(Object)} and
+ * {@link SpscRingBufferQueue#offerAll(Object[])} may only be called by the producer thread.
+ * {@link SpscRingBufferQueue#poll()} and {@link SpscRingBufferQueue#drainTo(Consumer, int)} may only be called by the
+ * consumer thread. {@link SpscRingBufferQueue#size()} may be called by any thread and returns an estimate.
+ *
+ * @param <T> a generic parameter
+ */
+public class SpscRingBufferQueue<T> extends SpscConsumerFields implements Queue<T> {
+
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    private static final AtomicLongFieldUpdater<SpscProducerFields> PRODUCER_INDEX =
+            AtomicLongFieldUpdater.newUpdater(SpscProducerFields.class, "producerIndex");
+    private static final AtomicLongFieldUpdater<SpscConsumerFields> CONSUMER_INDEX =
+            AtomicLongFieldUpdater.newUpdater(SpscConsumerFields.class, "consumerIndex");
+
+    long p20, p21, p22, p23, p24, p25, p26, p27;
+
+    /**
+     * Creates a queue that can hold at least provided number of elements. The capacity is rounded up to the
+     * closest power of two.
+     *
+     * @param capacity min capacity of the queue
+     * @throws IllegalArgumentException if capacity is not positive or greater than 2^30
+     */
+    public SpscRingBufferQueue(int capacity) {
+        super(checkCapacity(capacity));
+    }
+
+    private static int checkCapacity(int capacity) {
+        if (capacity <= 0 || capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException();
+        }
+        return capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+    }
+
+    /**
+     * Adds an element to the end of the queue. Must be called by the producer thread only.
+     *
+     * @param element the element to add
+     * @throws IllegalStateException if the queue is full
+     */
+    @Override
+    public void add(T element) {
+        if (!offer(element)) {
+            throw new IllegalStateException("Queue is full");
+        }
+    }
+
+    /**
+     * Adds an element to the end of the queue if there is free space. Must be called by the producer thread only.
+     *
+     * @param element the element to add
+     * @return {@code true} if the element was added, {@code false} if the queue is full
+     */
+    public boolean offer(T element) {
+        Objects.requireNonNull(element);
+        long index = producerIndex;
+        if (index - cachedConsumerIndex >= elements.length) {
+            cachedConsumerIndex = consumerIndex;
+            if (index - cachedConsumerIndex >= elements.length) {
+                return false;
+            }
+        }
+        elements[(int) index & mask] = element;
+        PRODUCER_INDEX.lazySet(this, index + 1);
+        return true;
+    }
+
+    /**
+     * Adds as many elements of the batch as there is free space for, starting from the first one. The producer index
+     * is published once for the whole batch. Must be called by the producer thread only.
+     *
+     * @param batch elements to add
+     * @return the number of added elements
+     */
+    public int offerAll(T[] batch) {
+        long index = producerIndex;
+        cachedConsumerIndex = consumerIndex;
+        int count = (int) Math.min(batch.length, elements.length - (index - cachedConsumerIndex));
+        for (int i = 0; i < count; i++) {
+            elements[(int) (index + i) & mask] = Objects.requireNonNull(batch[i]);
+        }
+        PRODUCER_INDEX.lazySet(this, index + count);
+        return count;
+    }
+
+    /**
+     * Retrieves and removes queue head. Must be called by the consumer thread only.
+     *
+     * @return an element that was retrieved from the head or null if queue is empty
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T poll() {
+        long index = consumerIndex;
+        if (index >= cachedProducerIndex) {
+            cachedProducerIndex = producerIndex;
+            if (index >= cachedProducerIndex) {
+                return null;
+            }
+        }
+        int offset = (int) index & mask;
+        T element = (T) elements[offset];
+        elements[offset] = null;
+        CONSUMER_INDEX.lazySet(this, index + 1);
+        return element;
+    }
+
+    /**
+     * Retrieves and removes up to maxBatch elements from the head of the queue and passes them to the consumer
+     * in FIFO order. The consumer index is published once for the whole batch. Must be called by the consumer
+     * thread only.
+     *
+     * @param consumer accepts removed elements
+     * @param maxBatch max number of elements to remove
+     * @return the number of removed elements
+     * @throws IllegalArgumentException if maxBatch is negative
+     */
+    @SuppressWarnings("unchecked")
+    public int drainTo(Consumer<? super T> consumer, int maxBatch) {
+        Objects.requireNonNull(consumer);
+        if (maxBatch < 0) {
+            throw new IllegalArgumentException();
+        }
+        long index = consumerIndex;
+        cachedProducerIndex = producerIndex;
+        int count = (int) Math.min(maxBatch, cachedProducerIndex - index);
+        int drained = 0;
+        try {
+            while (drained < count) {
+                int offset = (int) (index + drained) & mask;
+                T element = (T) elements[offset];
+                elements[offset] = null;
+                drained++;
+                consumer.accept(element);
+            }
+        } finally {
+            CONSUMER_INDEX.lazySet(this, index + drained);
+        }
+        return drained;
+    }
+
+    /**
+     * Returns an estimated size of the queue. The result is exact when the queue is not modified concurrently.
+     *
+     * @return an integer value that is a size of queue
+     */
+    @Override
+    public int size() {
+        long consumed = consumerIndex;
+        long produced = producerIndex;
+        return (int) Math.max(0, Math.min(produced - consumed, elements.length));
+    }
+
+    /**
+     * Checks if the queue is empty.
+     *
+     * @return {@code true} if the queue is empty, returns {@code false} if it's not
+     */
+    @Override
+    public boolean isEmpty() {
+        return consumerIndex >= producerIndex;
+    }
+
+    /**
+     * @return max number of elements the queue can hold
+     */
+    public int capacity() {
+        return elements.length;
+    }
+}
+
+/**
+ * Immutable state of {@link SpscRingBufferQueue} and padding that separates it from the producer index.
+ */
+abstract class SpscBufferFields {
+    final Object[] elements;
+    final int mask;
+
+    long p00, p01, p02, p03, p04, p05, p06, p07;
+
+    SpscBufferFields(int capacity) {
+        elements = new Object[capacity];
+        mask = capacity - 1;
+    }
+}
+
+/**
+ * Fields of {@link SpscRingBufferQueue} that are written by the producer thread only.
+ */
+abstract class SpscProducerFields extends SpscBufferFields {
+    volatile long producerIndex;
+    long cachedConsumerIndex;
+
+    long p10, p11, p12, p13, p14, p15, p16, p17;
+
+    SpscProducerFields(int capacity) {
+        super(capacity);
+    }
+}
+
+/**
+ * Fields of {@link SpscRingBufferQueue} that are written by the consumer thread only.
+ */
+abstract class SpscConsumerFields extends SpscProducerFields {
+    volatile long consumerIndex;
+    long cachedProducerIndex;
+
+    SpscConsumerFields(int capacity) {
+        super(capacity);
+    }
+}
@@ -0,0 +1,22 @@
+package com.bobocode.cs;
+
+/**
+ * {@link WatermarkListener} is notified when a size of {@link BlockingLinkedQueue} crosses its watermarks. It allows
+ * to throttle producers before consumers fall behind, and to resume them when the queue is drained.
+ */
+public interface WatermarkListener {
+
+    /**
+     * Called when queue size grows up to the high watermark.
+     *
+     * @param size queue size right after the element was added
+     */
+    void onHighWatermark(int size);
+
+    /**
+     * Called when queue size drops down to the low watermark after the high watermark was reached.
+     *
+     * @param size queue size right after the element was removed
+     */
+    void onLowWatermark(int size);
+}
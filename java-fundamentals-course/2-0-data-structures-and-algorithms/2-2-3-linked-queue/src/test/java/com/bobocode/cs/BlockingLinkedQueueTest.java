@@ -0,0 +1,295 @@
+package com.bobocode.cs;
+
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+/**
+ * A test class for {@link BlockingLinkedQueue}.
+ */
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class BlockingLinkedQueueTest {
+
+    private BlockingLinkedQueue<Integer> integerQueue = new BlockingLinkedQueue<>(3);
+
+    @Test
+    @Order(1)
+    void addAndPollFollowFifoOrder() {
+        integerQueue.add(1);
+        integerQueue.add(228);
+        integerQueue.add(12);
+
+        assertThat(integerQueue.poll()).isEqualTo(1);
+        assertThat(integerQueue.poll()).isEqualTo(228);
+        assertThat(integerQueue.poll()).isEqualTo(12);
+        assertThat(integerQueue.poll()).isNull();
+    }
+
+    @Test
+    @Order(2)
+    void addThrowsExceptionWhenQueueIsFull() {
+        integerQueue.add(1);
+        integerQueue.add(2);
+        integerQueue.add(3);
+
+        assertThat(integerQueue.offer(4)).isFalse();
+        assertThatIllegalStateException().isThrownBy(() -> integerQueue.add(4));
+        assertThat(integerQueue.size()).isEqualTo(3);
+        assertThat(integerQueue.remainingCapacity()).isEqualTo(0);
+    }
+
+    @Test
+    @Order(3)
+    void addThrowsExceptionWhenElementIsNull() {
+        assertThatNullPointerException().isThrownBy(() -> integerQueue.add(null));
+        assertThatNullPointerException().isThrownBy(() -> integerQueue.put(null));
+    }
+
+    @Test
+    @Order(4)
+    void constructorThrowsExceptionWhenArgumentsAreInvalid() {
+        WatermarkListener listener = new RecordingListener();
+
+        assertThatIllegalArgumentException().isThrownBy(() -> new BlockingLinkedQueue<>(0));
+        assertThatIllegalArgumentException().isThrownBy(() -> new BlockingLinkedQueue<>(10, 5, 5, listener));
+        assertThatIllegalArgumentException().isThrownBy(() -> new BlockingLinkedQueue<>(10, -1, 5, listener));
+        assertThatIllegalArgumentException().isThrownBy(() -> new BlockingLinkedQueue<>(10, 2, 11, listener));
+        assertThatNullPointerException().isThrownBy(() -> new BlockingLinkedQueue<>(10, 2, 8, null));
+    }
+
+    @Test
+    @Order(5)
+    @Timeout(10)
+    void timedPollReturnsNullWhenNoElementArrives() throws InterruptedException {
+        assertThat(integerQueue.poll(50, TimeUnit.MILLISECONDS)).isNull();
+    }
+
+    @Test
+    @Order(6)
+    @Timeout(10)
+    void timedOfferReturnsFalseWhenQueueStaysFull() throws InterruptedException {
+        integerQueue.add(1);
+        integerQueue.add(2);
+        integerQueue.add(3);
+
+        assertThat(integerQueue.offer(4, 50, TimeUnit.MILLISECONDS)).isFalse();
+        assertThat(integerQueue.size()).isEqualTo(3);
+    }
+
+    @Test
+    @Order(7)
+    @Timeout(10)
+    void takeWaitsUntilElementIsAdded() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<Integer> taken = executor.submit(() -> integerQueue.take());
+            Thread.sleep(50);
+            assertThat(taken.isDone()).isFalse();
+
+            integerQueue.put(42);
+
+            assertThat(taken.get()).isEqualTo(42);
+            assertThat(integerQueue.isEmpty()).isTrue();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @Order(8)
+    @Timeout(10)
+    void putWaitsUntilSpaceIsAvailable() throws Exception {
+        integerQueue.add(1);
+        integerQueue.add(2);
+        integerQueue.add(3);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<?> put = executor.submit(() -> {
+                integerQueue.put(4);
+                return null;
+            });
+            Thread.sleep(50);
+            assertThat(put.isDone()).isFalse();
+
+            assertThat(integerQueue.take()).isEqualTo(1);
+            put.get();
+
+            assertThat(integerQueue.poll()).isEqualTo(2);
+            assertThat(integerQueue.poll()).isEqualTo(3);
+            assertThat(integerQueue.poll()).isEqualTo(4);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @Order(9)
+    @Timeout(10)
+    void takeThrowsExceptionWhenInterrupted() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        CountDownLatch interrupted = new CountDownLatch(1);
+        try {
+            executor.submit(() -> {
+                try {
+                    integerQueue.take();
+                } catch (InterruptedException e) {
+                    interrupted.countDown();
+                }
+            });
+            Thread.sleep(50);
+            executor.shutdownNow();
+
+            assertThat(interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @Order(10)
+    void watermarkCallbacksAreCalledOnlyWhenWatermarksAreCrossed() {
+        RecordingListener listener = new RecordingListener();
+        BlockingLinkedQueue<Integer> queue = new BlockingLinkedQueue<>(10, 2, 5, listener);
+
+        for (int i = 0; i < 7; i++) {
+            queue.add(i);
+        }
+        assertThat(listener.events).containsExactly("high:5");
+
+        queue.poll();
+        queue.poll();
+        queue.add(7);
+        queue.poll();
+        queue.poll();
+        queue.poll();
+        queue.poll();
+        queue.poll();
+        assertThat(listener.events).containsExactly("high:5", "low:2");
+
+        queue.poll();
+        queue.poll();
+        for (int i = 0; i < 5; i++) {
+            queue.add(i);
+        }
+        assertThat(listener.events).containsExactly("high:5", "low:2", "high:5");
+    }
+
+    @Test
+    @Order(11)
+    @Timeout(60)
+    void producersAreThrottledAndEachElementIsTransferredExactlyOnce() throws Exception {
+        int producers = 2;
+        int consumers = 2;
+        int elementsPerProducer = 50_000;
+        int total = producers * elementsPerProducer;
+        BlockingLinkedQueue<Integer> queue = new BlockingLinkedQueue<>(64);
+        AtomicIntegerArray consumed = new AtomicIntegerArray(total);
+        AtomicInteger remaining = new AtomicInteger(total);
+        ExecutorService executor = Executors.newFixedThreadPool(producers + consumers);
+        List<Future<?>> futures = new ArrayList<>();
+        try {
+            for (int p = 0; p < producers; p++) {
+                int producer = p;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < elementsPerProducer; i++) {
+                        queue.put(producer * elementsPerProducer + i);
+                    }
+                    return null;
+                }));
+            }
+            for (int c = 0; c < consumers; c++) {
+                futures.add(executor.submit(() -> {
+                    while (remaining.get() > 0) {
+                        Integer element = queue.poll(10, TimeUnit.MILLISECONDS);
+                        if (element != null) {
+                            consumed.incrementAndGet(element);
+                            remaining.decrementAndGet();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        for (int i = 0; i < total; i++) {
+            assertThat(consumed.get(i)).isEqualTo(1);
+        }
+        assertThat(queue.isEmpty()).isTrue();
+    }
+
+    @Test
+    @Order(12)
+    @Timeout(60)
+    void concurrentWatermarkCallbacksStrictlyAlternate() throws Exception {
+        int threads = 4;
+        int elementsPerProducer = 50_000;
+        RecordingListener listener = new RecordingListener();
+        BlockingLinkedQueue<Integer> queue = new BlockingLinkedQueue<>(8, 1, 3, listener);
+        ExecutorService executor = Executors.newFixedThreadPool(2 * threads);
+        List<Future<?>> futures = new ArrayList<>();
+        try {
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < elementsPerProducer; i++) {
+                        queue.put(i);
+                    }
+                    return null;
+                }));
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < elementsPerProducer; i++) {
+                        queue.take();
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        List<String> events = listener.events;
+        assertThat(events).isNotEmpty();
+        for (int i = 0; i < events.size(); i++) {
+            assertThat(events.get(i)).isEqualTo(i % 2 == 0 ? "high:3" : "low:1");
+        }
+    }
+
+    private static class RecordingListener implements WatermarkListener {
+        private final List<String> events = Collections.synchronizedList(new ArrayList<>());
+
+        @Override
+        public void onHighWatermark(int size) {
+            events.add("high:" + size);
+        }
+
+        @Override
+        public void onLowWatermark(int size) {
+            events.add("low:" + size);
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.bobocode.cs;
+
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+/**
+ * A test class for {@link ConcurrentLinkedQueue}.
+ */
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class ConcurrentLinkedQueueTest {
+
+    private static final int PRODUCERS = 4;
+    private static final int CONSUMERS = 4;
+    private static final int ELEMENTS_PER_PRODUCER = 100_000;
+
+    private Queue<Integer> integerQueue = new ConcurrentLinkedQueue<>();
+
+    @Test
+    @Order(1)
+    void addAndPollFollowFifoOrder() {
+        integerQueue.add(1);
+        integerQueue.add(228);
+        integerQueue.add(12);
+
+        assertThat(integerQueue.poll()).isEqualTo(1);
+        assertThat(integerQueue.poll()).isEqualTo(228);
+        assertThat(integerQueue.poll()).isEqualTo(12);
+    }
+
+    @Test
+    @Order(2)
+    void pollReturnsNullWhenQueueIsEmpty() {
+        assertThat(integerQueue.poll()).isNull();
+
+        integerQueue.add(1);
+        integerQueue.poll();
+
+        assertThat(integerQueue.poll()).isNull();
+    }
+
+    @Test
+    @Order(3)
+    void addThrowsExceptionWhenElementIsNull() {
+        assertThatNullPointerException().isThrownBy(() -> integerQueue.add(null));
+    }
+
+    @Test
+    @Order(4)
+    void sizeAndIsEmpty() {
+        assertThat(integerQueue.isEmpty()).isTrue();
+        assertThat(integerQueue.size()).isEqualTo(0);
+
+        integerQueue.add(1);
+        integerQueue.add(2);
+
+        assertThat(integerQueue.isEmpty()).isFalse();
+        assertThat(integerQueue.size()).isEqualTo(2);
+
+        integerQueue.poll();
+        integerQueue.poll();
+
+        assertThat(integerQueue.isEmpty()).isTrue();
+        assertThat(integerQueue.size()).isEqualTo(0);
+    }
+
+    @Test
+    @Order(5)
+    @Timeout(60)
+    void multipleProducersAndConsumersTransferEachElementExactlyOnce() throws Exception {
+        int total = PRODUCERS * ELEMENTS_PER_PRODUCER;
+        AtomicIntegerArray consumed = new AtomicIntegerArray(total);
+        AtomicInteger consumedCount = new AtomicInteger();
+        AtomicInteger orderViolations = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(PRODUCERS + CONSUMERS);
+        List<Future<?>> futures = new ArrayList<>();
+        try {
+            for (int p = 0; p < PRODUCERS; p++) {
+                int producer = p;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < ELEMENTS_PER_PRODUCER; i++) {
+                        integerQueue.add(producer * ELEMENTS_PER_PRODUCER + i);
+                    }
+                    return null;
+                }));
+            }
+            for (int c = 0; c < CONSUMERS; c++) {
+                futures.add(executor.submit(() -> {
+                    int[] lastSeen = new int[PRODUCERS];
+                    Arrays.fill(lastSeen, -1);
+                    start.await();
+                    while (consumedCount.get() < total) {
+                        Integer element = integerQueue.poll();
+                        if (element == null) {
+                            Thread.yield();
+                            continue;
+                        }
+                        consumed.incrementAndGet(element);
+                        consumedCount.incrementAndGet();
+                        int producer = element / ELEMENTS_PER_PRODUCER;
+                        if (element <= lastSeen[producer]) {
+                            orderViolations.incrementAndGet();
+                        }
+                        lastSeen[producer] = element;
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        for (int i = 0; i < total; i++) {
+            assertThat(consumed.get(i)).isEqualTo(1);
+        }
+        assertThat(orderViolations.get()).isEqualTo(0);
+        assertThat(integerQueue.isEmpty()).isTrue();
+        assertThat(integerQueue.size()).isEqualTo(0);
+    }
+}
@@ -221,6 +221,35 @@ public class LinkedQueueTest {
     }
 
 
+    @Test
+    @Order(16)
+    void streamDoesNotRemoveElements() {
+        addIntElementToQueue(1);
+        addIntElementToQueue(2);
+        addIntElementToQueue(3);
+
+        Object[] elements = ((LinkedQueue<Integer>) integerQueue).stream().toArray();
+
+        assertThat(elements).containsExactly(1, 2, 3);
+        assertThat(integerQueue.size()).isEqualTo(3);
+        assertThat(integerQueue.poll()).isEqualTo(1);
+    }
+
+    @Test
+    @Order(17)
+    void parallelStreamSumsAllElements() {
+        int count = 100_000;
+        LinkedQueue<Integer> queue = new LinkedQueue<>();
+        for (int i = 0; i < count; i++) {
+            queue.add(i);
+        }
+
+        long sum = queue.parallelStream().mapToLong(Integer::longValue).sum();
+
+        assertThat(sum).isEqualTo((long) count * (count - 1) / 2);
+        assertThat(queue.spliterator().getExactSizeIfKnown()).isEqualTo(count);
+    }
+
     private Class<?> getInnerStaticNodeClass() {
         return Arrays.stream(integerQueue.getClass().getDeclaredClasses())
                 .filter(aClass -> Modifier.isStatic(aClass.getModifiers()))
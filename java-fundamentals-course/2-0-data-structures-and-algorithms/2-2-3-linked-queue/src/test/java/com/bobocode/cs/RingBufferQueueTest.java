@@ -0,0 +1,131 @@
+package com.bobocode.cs;
+
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+/**
+ * A test class for {@link RingBufferQueue}.
+ */
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class RingBufferQueueTest {
+
+    private RingBufferQueue<Integer> integerQueue = new RingBufferQueue<>(4);
+
+    @Test
+    @Order(1)
+    void capacityIsRoundedUpToPowerOfTwo() {
+        assertThat(new RingBufferQueue<>(1).capacity()).isEqualTo(1);
+        assertThat(new RingBufferQueue<>(5).capacity()).isEqualTo(8);
+        assertThat(new RingBufferQueue<>(8).capacity()).isEqualTo(8);
+    }
+
+    @Test
+    @Order(2)
+    void constructorThrowsExceptionWhenCapacityIsNotPositive() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new RingBufferQueue<>(0));
+    }
+
+    @Test
+    @Order(3)
+    void addAndPollFollowFifoOrderAcrossWrapAround() {
+        for (int i = 0; i < 10; i++) {
+            integerQueue.add(i);
+            integerQueue.add(i + 100);
+            assertThat(integerQueue.poll()).isEqualTo(i);
+            assertThat(integerQueue.poll()).isEqualTo(i + 100);
+        }
+        assertThat(integerQueue.poll()).isNull();
+    }
+
+    @Test
+    @Order(4)
+    void offerReturnsFalseWhenQueueIsFull() {
+        for (int i = 0; i < 4; i++) {
+            assertThat(integerQueue.offer(i)).isTrue();
+        }
+
+        assertThat(integerQueue.offer(4)).isFalse();
+        assertThatIllegalStateException().isThrownBy(() -> integerQueue.add(4));
+        assertThat(integerQueue.size()).isEqualTo(4);
+    }
+
+    @Test
+    @Order(5)
+    void addThrowsExceptionWhenElementIsNull() {
+        assertThatNullPointerException().isThrownBy(() -> integerQueue.add(null));
+    }
+
+    @Test
+    @Order(6)
+    void addAllIsAllOrNothing() {
+        integerQueue.add(0);
+        integerQueue.poll();
+        integerQueue.add(1);
+
+        integerQueue.addAll(new Integer[]{2, 3, 4});
+
+        assertThatIllegalStateException().isThrownBy(() -> integerQueue.addAll(new Integer[]{5}));
+        assertThat(integerQueue.size()).isEqualTo(4);
+        assertThat(integerQueue.poll()).isEqualTo(1);
+        assertThat(integerQueue.poll()).isEqualTo(2);
+        assertThat(integerQueue.poll()).isEqualTo(3);
+        assertThat(integerQueue.poll()).isEqualTo(4);
+    }
+
+    @Test
+    @Order(7)
+    void offerAllAddsAsManyAsFit() {
+        integerQueue.add(1);
+
+        int added = integerQueue.offerAll(new Integer[]{2, 3, 4, 5, 6});
+
+        assertThat(added).isEqualTo(3);
+        assertThat(integerQueue.size()).isEqualTo(4);
+    }
+
+    @Test
+    @Order(8)
+    void drainToRemovesUpToMaxBatch() {
+        integerQueue.addAll(new Integer[]{1, 2, 3});
+        List<Integer> drained = new ArrayList<>();
+
+        assertThat(integerQueue.drainTo(drained::add, 2)).isEqualTo(2);
+        assertThat(integerQueue.drainTo(drained::add, 10)).isEqualTo(1);
+        assertThat(integerQueue.drainTo(drained::add, 10)).isEqualTo(0);
+
+        assertThat(drained).containsExactly(1, 2, 3);
+        assertThat(integerQueue.isEmpty()).isTrue();
+    }
+
+    @Test
+    @Order(9)
+    void clear() {
+        integerQueue.addAll(new Integer[]{1, 2, 3});
+
+        integerQueue.clear();
+
+        assertThat(integerQueue.isEmpty()).isTrue();
+        assertThat(integerQueue.poll()).isNull();
+    }
+
+    @Test
+    @Order(10)
+    void drainToThrowsExceptionWhenParametersAreWrong() {
+        integerQueue.offer(1);
+
+        assertThatIllegalArgumentException().isThrownBy(() -> integerQueue.drainTo(e -> {
+        }, -1));
+        assertThatNullPointerException().isThrownBy(() -> integerQueue.drainTo(null, 1));
+        assertThat(integerQueue.size()).isEqualTo(1);
+    }
+}
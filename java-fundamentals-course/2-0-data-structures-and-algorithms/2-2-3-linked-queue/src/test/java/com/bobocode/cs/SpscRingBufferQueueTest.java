@@ -0,0 +1,106 @@
+package com.bobocode.cs;
+
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+/**
+ * A test class for {@link SpscRingBufferQueue}.
+ */
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class SpscRingBufferQueueTest {
+
+    private static final int ELEMENTS = 1_000_000;
+
+    private SpscRingBufferQueue<Integer> integerQueue = new SpscRingBufferQueue<>(4);
+
+    @Test
+    @Order(1)
+    void offerAndPollFollowFifoOrder() {
+        assertThat(integerQueue.offer(1)).isTrue();
+        assertThat(integerQueue.offer(2)).isTrue();
+
+        assertThat(integerQueue.size()).isEqualTo(2);
+        assertThat(integerQueue.poll()).isEqualTo(1);
+        assertThat(integerQueue.poll()).isEqualTo(2);
+        assertThat(integerQueue.poll()).isNull();
+        assertThat(integerQueue.isEmpty()).isTrue();
+    }
+
+    @Test
+    @Order(2)
+    void offerReturnsFalseWhenQueueIsFull() {
+        assertThat(integerQueue.offerAll(new Integer[]{1, 2, 3, 4, 5})).isEqualTo(4);
+
+        assertThat(integerQueue.offer(6)).isFalse();
+        assertThatIllegalStateException().isThrownBy(() -> integerQueue.add(6));
+    }
+
+    @Test
+    @Order(3)
+    void drainToRemovesUpToMaxBatch() {
+        integerQueue.offerAll(new Integer[]{1, 2, 3});
+        List<Integer> drained = new ArrayList<>();
+
+        assertThat(integerQueue.drainTo(drained::add, 2)).isEqualTo(2);
+        integerQueue.offerAll(new Integer[]{4, 5, 6});
+        assertThat(integerQueue.drainTo(drained::add, 10)).isEqualTo(4);
+
+        assertThat(drained).containsExactly(1, 2, 3, 4, 5, 6);
+    }
+
+    @Test
+    @Order(4)
+    @Timeout(60)
+    void producerAndConsumerThreadsTransferAllElementsInOrder() throws Exception {
+        SpscRingBufferQueue<Integer> queue = new SpscRingBufferQueue<>(1024);
+        AtomicInteger outOfOrder = new AtomicInteger();
+        Thread consumer = new Thread(() -> {
+            int[] expected = {0};
+            while (expected[0] < ELEMENTS) {
+                int drained = queue.drainTo(element -> {
+                    if (element != expected[0]) {
+                        outOfOrder.incrementAndGet();
+                    }
+                    expected[0]++;
+                }, 256);
+                if (drained == 0) {
+                    Thread.yield();
+                }
+            }
+        });
+        consumer.start();
+
+        for (int i = 0; i < ELEMENTS; i++) {
+            while (!queue.offer(i)) {
+                Thread.yield();
+            }
+        }
+        consumer.join();
+
+        assertThat(outOfOrder.get()).isEqualTo(0);
+        assertThat(queue.isEmpty()).isTrue();
+    }
+
+    @Test
+    @Order(5)
+    void drainToThrowsExceptionWhenParametersAreWrong() {
+        integerQueue.offer(1);
+
+        assertThatIllegalArgumentException().isThrownBy(() -> integerQueue.drainTo(e -> {
+        }, -1));
+        assertThatNullPointerException().isThrownBy(() -> integerQueue.drainTo(null, 1));
+        assertThat(integerQueue.size()).isEqualTo(1);
+    }
+}
@@ -1,12 +1,18 @@
 package com.bobocode.cs;
 
 
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.ListIterator;
 import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
 
 /**
  * {@link LinkedList} is a list implementation that is based on singly linked generic nodes. A node is implemented as
- * inner static class {@link Node<T>}.
+ * inner static class {@link Node<T>}. The list accepts null elements.
  *
  * @param <T> generic type parameter
  * @author Taras Boychuk
@@ -17,6 +23,7 @@ public class LinkedList<T> implements List<T> {
     private Node<T> first;
     private Node<T> last;
     private int size = 0;
+    private int modCount;
 
     private static class Node<T> {
         T element;
@@ -51,7 +58,6 @@ public class LinkedList<T> implements List<T> {
     @Override
     public void add(T element) {
 //        throw new ExerciseNotCompletedException(); // todo: implement this method
-        Objects.requireNonNull(element);
         Node<T> newNode = new Node<>(element);
         if (size() == 0) {
             first = last = newNode;
@@ -60,6 +66,7 @@ public class LinkedList<T> implements List<T> {
             last = newNode;
         }
         size++;
+        modCount++;
     }
 
     /**
@@ -81,6 +88,7 @@ public class LinkedList<T> implements List<T> {
                 newNode.next = first;
                 first = newNode;
                 size++;
+                modCount++;
             }
         }else if (index == size()) {
             add(element);
@@ -92,6 +100,7 @@ public class LinkedList<T> implements List<T> {
             newNode.next = currentNode.next;
             currentNode.next = newNode;
             size++;
+            modCount++;
         }
     }
 
@@ -170,6 +179,9 @@ public class LinkedList<T> implements List<T> {
         if (index == 0) {
             element = first.element;
             first = currentNode.next;
+            if (first == null) {
+                last = null;
+            }
         }else {
             if (index == (size() - 1)) {
                 element = last.element;
@@ -182,6 +194,7 @@ public class LinkedList<T> implements List<T> {
             }
         }
         size--;
+        modCount++;
         return element;
     }
 
@@ -195,7 +208,7 @@ public class LinkedList<T> implements List<T> {
 //        throw new ExerciseNotCompletedException(); // todo: implement this method
         Node<T> currentNode = first;
         for (int i = 0; i < size; i++) {
-            if (element.equals(currentNode.element)) {
+            if (Objects.equals(element, currentNode.element)) {
                 return true;
             }
             currentNode = currentNode.next;
@@ -233,9 +246,91 @@ public class LinkedList<T> implements List<T> {
 //        throw new ExerciseNotCompletedException(); // todo: implement this method
         first = last = null;
         size = 0;
+        modCount++;
+    }
+
+    /**
+     * Returns an iterator over the elements of the list, starting from the first element. Sequential iteration over
+     * the whole list takes O(n).
+     *
+     * @return a fail-fast iterator
+     * @see LinkedList#listIterator(int)
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return listIterator(0);
+    }
+
+    /**
+     * Returns a list iterator over the elements of the list, starting from the first element. Forward traversal and
+     * modifications through the iterator take O(1) per call, while {@link ListIterator#previous()} takes O(n),
+     * because nodes have no back links.
+     *
+     * @return a list iterator
+     * @see LinkedList#listIterator(int)
+     */
+    public ListIterator<T> listIterator() {
+        return listIterator(0);
+    }
+
+    /**
+     * Returns a list iterator over the elements of the list, starting at the specified position. The iterator keeps
+     * a reference to the node before the cursor, so {@link ListIterator#next()}, {@link ListIterator#add(Object)},
+     * {@link ListIterator#set(Object)} and {@link ListIterator#remove()} are performed in constant time O(1). It allows
+     * to patch the whole list during one sequential pass in O(n). Since nodes are singly linked,
+     * {@link ListIterator#previous()} walks from the first node and takes O(n).
+     * <p>
+     * The iterator is fail-fast. If the list is structurally modified after the iterator is created, except through
+     * the iterator's own methods, the iterator throws {@link ConcurrentModificationException} on the next access.
+     *
+     * @param index index of the first element to be returned by {@link ListIterator#next()}
+     * @return a list iterator
+     * @throws IndexOutOfBoundsException if index is out of range {@code [0, size]}
+     */
+    public ListIterator<T> listIterator(int index) {
+        Objects.checkIndex(index, size + 1);
+        return new LinkedListIterator(index);
+    }
+
+    /**
+     * Returns a spliterator that walks nodes from the first one. Nodes can not be split by index without walking
+     * to the middle, so the spliterator splits off batches of elements copied to arrays instead. Each next batch is
+     * larger than the previous one, so a parallel stream gets enough work for all threads while the rest of the list
+     * is still traversed sequentially.
+     *
+     * @return a spliterator over elements of the list
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return new Spliterators.AbstractSpliterator<>(size, Spliterator.ORDERED | Spliterator.SIZED) {
+            private Node<T> current = first;
+
+            @Override
+            public boolean tryAdvance(Consumer<? super T> action) {
+                Objects.requireNonNull(action);
+                if (current == null) {
+                    return false;
+                }
+                action.accept(current.element);
+                current = current.next;
+                return true;
+            }
+
+            @Override
+            public void forEachRemaining(Consumer<? super T> action) {
+                Objects.requireNonNull(action);
+                for (Node<T> node = current; node != null; node = node.next) {
+                    action.accept(node.element);
+                }
+                current = null;
+            }
+        };
     }
 
     private Node<T> getNodeByIndex(int index) {
+        if (index == size - 1) {
+            return last;
+        }
         Node<T> currentNode = first;
         for (int i = 0; i < index; i++) {
             currentNode = currentNode.next;
@@ -243,4 +338,126 @@ public class LinkedList<T> implements List<T> {
         return currentNode;
     }
 
+    private class LinkedListIterator implements ListIterator<T> {
+        private Node<T> beforeCursor;
+        private Node<T> lastReturned;
+        private Node<T> beforeLastReturned;
+        private int nextIndex;
+        private int expectedModCount = modCount;
+
+        LinkedListIterator(int index) {
+            beforeCursor = index == 0 ? null : getNodeByIndex(index - 1);
+            nextIndex = index;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextIndex < size;
+        }
+
+        @Override
+        public T next() {
+            checkForComodification();
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            beforeLastReturned = beforeCursor;
+            lastReturned = beforeCursor == null ? first : beforeCursor.next;
+            beforeCursor = lastReturned;
+            nextIndex++;
+            return lastReturned.element;
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return nextIndex > 0;
+        }
+
+        /**
+         * Moves the cursor one element back. Nodes are singly linked, so the node before the cursor is found again
+         * by walking from the first node, which takes O(n).
+         */
+        @Override
+        public T previous() {
+            checkForComodification();
+            if (!hasPrevious()) {
+                throw new NoSuchElementException();
+            }
+            lastReturned = beforeCursor;
+            nextIndex--;
+            beforeCursor = nextIndex == 0 ? null : getNodeByIndex(nextIndex - 1);
+            beforeLastReturned = beforeCursor;
+            return lastReturned.element;
+        }
+
+        @Override
+        public int nextIndex() {
+            return nextIndex;
+        }
+
+        @Override
+        public int previousIndex() {
+            return nextIndex - 1;
+        }
+
+        @Override
+        public void remove() {
+            if (lastReturned == null) {
+                throw new IllegalStateException();
+            }
+            checkForComodification();
+            if (beforeLastReturned == null) {
+                first = lastReturned.next;
+            } else {
+                beforeLastReturned.next = lastReturned.next;
+            }
+            if (lastReturned == last) {
+                last = beforeLastReturned;
+            }
+            if (beforeCursor == lastReturned) {
+                beforeCursor = beforeLastReturned;
+                nextIndex--;
+            }
+            lastReturned = null;
+            size--;
+            expectedModCount = ++modCount;
+        }
+
+        @Override
+        public void set(T element) {
+            if (lastReturned == null) {
+                throw new IllegalStateException();
+            }
+            checkForComodification();
+            lastReturned.element = element;
+        }
+
+        @Override
+        public void add(T element) {
+            checkForComodification();
+            Node<T> newNode = new Node<>(element);
+            if (beforeCursor == null) {
+                newNode.next = first;
+                first = newNode;
+            } else {
+                newNode.next = beforeCursor.next;
+                beforeCursor.next = newNode;
+            }
+            if (newNode.next == null) {
+                last = newNode;
+            }
+            beforeCursor = newNode;
+            lastReturned = null;
+            nextIndex++;
+            size++;
+            expectedModCount = ++modCount;
+        }
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+
 }
@@ -0,0 +1,393 @@
+package com.bobocode.cs;
+
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+
+/**
+ * {@link UnrolledLinkedList} is a list implementation that is based on doubly linked nodes, where each node stores
+ * a small array of elements instead of a single element. It keeps cheap insertion in the middle of the list, but
+ * allocates one node per chunk of elements, and elements of one chunk are stored next to each other in memory.
+ * <p>
+ * Index lookup skips whole nodes using their element count, and starts from the end of the list that is closer to
+ * the index. When a node is full, it is split in two halves. When a node becomes less than half full after removal,
+ * it is merged with the next node if their elements fit into one node.
+ * <p>
+ * Like {@link LinkedList}, the list accepts null elements.
+ *
+ * @param <T> generic type parameter
+ */
+public class UnrolledLinkedList<T> implements List<T> {
+
+    private static final int DEFAULT_NODE_CAPACITY = 64;
+
+    private final int nodeCapacity;
+    private Node<T> first;
+    private Node<T> last;
+    private int size;
+    private int modCount;
+
+    private static class Node<T> {
+        Object[] elements;
+        int count;
+        Node<T> prev;
+        Node<T> next;
+
+        Node(int capacity) {
+            elements = new Object[capacity];
+        }
+    }
+
+    private static class Position<T> {
+        final Node<T> node;
+        final int offset;
+
+        Position(Node<T> node, int offset) {
+            this.node = node;
+            this.offset = offset;
+        }
+    }
+
+    /**
+     * This constructor creates an instance of {@link UnrolledLinkedList} that stores up to 64 elements per node.
+     */
+    public UnrolledLinkedList() {
+        this(DEFAULT_NODE_CAPACITY);
+    }
+
+    /**
+     * This constructor creates an instance of {@link UnrolledLinkedList} with a specific number of elements per node.
+     *
+     * @param nodeCapacity max number of elements stored in one node
+     * @throws IllegalArgumentException if node capacity is less than 2
+     */
+    public UnrolledLinkedList(int nodeCapacity) {
+        if (nodeCapacity < 2) {
+            throw new IllegalArgumentException();
+        }
+        this.nodeCapacity = nodeCapacity;
+    }
+
+    /**
+     * This method creates a list of provided elements
+     *
+     * @param elements elements to add
+     * @param <T>      generic type
+     * @return a new list of elements the were passed as method parameters
+     */
+    public static <T> UnrolledLinkedList<T> of(T... elements) {
+        UnrolledLinkedList<T> list = new UnrolledLinkedList<>();
+        for (T e : elements) {
+            list.add(e);
+        }
+        return list;
+    }
+
+    /**
+     * Adds an element to the end of the list.
+     *
+     * @param element element to add
+     */
+    @Override
+    public void add(T element) {
+        if (last == null || last.count == nodeCapacity) {
+            linkAfter(last, new Node<>(nodeCapacity));
+        }
+        last.elements[last.count++] = element;
+        size++;
+        modCount++;
+    }
+
+    /**
+     * Adds a new element to the specific position in the list. In case provided index in out of the list bounds it
+     * throws {@link IndexOutOfBoundsException}
+     *
+     * @param index   an index of new element
+     * @param element element to add
+     */
+    @Override
+    public void add(int index, T element) {
+        Objects.checkIndex(index, size + 1);
+        if (index == size) {
+            add(element);
+            return;
+        }
+        Position<T> position = findPosition(index);
+        Node<T> node = position.node;
+        int offset = position.offset;
+        if (node.count == nodeCapacity) {
+            Node<T> newNode = split(node);
+            if (offset > node.count) {
+                offset -= node.count;
+                node = newNode;
+            }
+        }
+        System.arraycopy(node.elements, offset, node.elements, offset + 1, node.count - offset);
+        node.elements[offset] = element;
+        node.count++;
+        size++;
+        modCount++;
+    }
+
+    /**
+     * Changes the value of an list element at specific position. In case provided index in out of the list bounds it
+     * throws {@link IndexOutOfBoundsException}
+     *
+     * @param index   an position of element to change
+     * @param element a new element value
+     */
+    @Override
+    public void set(int index, T element) {
+        Objects.checkIndex(index, size);
+        Position<T> position = findPosition(index);
+        position.node.elements[position.offset] = element;
+    }
+
+    /**
+     * Retrieves an elements by its position index. In case provided index in out of the list bounds it
+     * throws {@link IndexOutOfBoundsException}
+     *
+     * @param index element index
+     * @return an element value
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        Objects.checkIndex(index, size);
+        Position<T> position = findPosition(index);
+        return (T) position.node.elements[position.offset];
+    }
+
+    /**
+     * Returns the first element of the list. Operation is performed in constant time O(1)
+     *
+     * @return the first element of the list
+     * @throws java.util.NoSuchElementException if list is empty
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T getFirst() {
+        if (first == null) {
+            throw new NoSuchElementException();
+        }
+        return (T) first.elements[0];
+    }
+
+    /**
+     * Returns the last element of the list. Operation is performed in constant time O(1)
+     *
+     * @return the last element of the list
+     * @throws java.util.NoSuchElementException if list is empty
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T getLast() {
+        if (last == null) {
+            throw new NoSuchElementException();
+        }
+        return (T) last.elements[last.count - 1];
+    }
+
+    /**
+     * Removes an elements by its position index. In case provided index in out of the list bounds it
+     * throws {@link IndexOutOfBoundsException}
+     *
+     * @param index element index
+     * @return deleted element
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T remove(int index) {
+        Objects.checkIndex(index, size);
+        Position<T> position = findPosition(index);
+        Node<T> node = position.node;
+        int offset = position.offset;
+        T element = (T) node.elements[offset];
+        System.arraycopy(node.elements, offset + 1, node.elements, offset, node.count - offset - 1);
+        node.elements[--node.count] = null;
+        size--;
+        modCount++;
+        if (node.count == 0) {
+            unlink(node);
+        } else if (node.count < nodeCapacity / 2 && node.next != null
+                && node.count + node.next.count <= nodeCapacity) {
+            mergeWithNext(node);
+        }
+        return element;
+    }
+
+    /**
+     * Checks if a specific exists in he list
+     *
+     * @return {@code true} if element exist, {@code false} otherwise
+     */
+    @Override
+    public boolean contains(T element) {
+        for (Node<T> node = first; node != null; node = node.next) {
+            for (int i = 0; i < node.count; i++) {
+                if (Objects.equals(element, node.elements[i])) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks if a list is empty
+     *
+     * @return {@code true} if list is empty, {@code false} otherwise
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the number of elements in the list
+     *
+     * @return number of elements
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Removes all list elements
+     */
+    @Override
+    public void clear() {
+        first = last = null;
+        size = 0;
+        modCount++;
+    }
+
+    /**
+     * Returns an iterator that walks the nodes and reads elements of each node one by one, so iteration over the
+     * whole list takes O(n). The iterator is fail-fast: if the list is structurally modified after the iterator is
+     * created, it throws {@link ConcurrentModificationException} on the next access.
+     *
+     * @return an iterator over elements of the list in proper sequence
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new UnrolledListIterator();
+    }
+
+    /**
+     * Returns a spliterator that walks the nodes the same way {@link #iterator()} does and splits off batches of
+     * elements, so streams over the list take O(n) instead of looking up every element by index.
+     *
+     * @return a spliterator over elements of the list
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return Spliterators.spliterator(iterator(), size, Spliterator.ORDERED);
+    }
+
+    /**
+     * Finds a node that stores an element with provided index and the offset of the element inside the node. Walks
+     * from the first node forward or from the last node backward, depending on which end is closer.
+     */
+    private Position<T> findPosition(int index) {
+        Node<T> node;
+        if (index < size / 2) {
+            node = first;
+            while (index >= node.count) {
+                index -= node.count;
+                node = node.next;
+            }
+        } else {
+            node = last;
+            index = size - 1 - index;
+            while (index >= node.count) {
+                index -= node.count;
+                node = node.prev;
+            }
+            index = node.count - 1 - index;
+        }
+        return new Position<>(node, index);
+    }
+
+    private Node<T> split(Node<T> node) {
+        Node<T> newNode = new Node<>(nodeCapacity);
+        int half = node.count / 2;
+        newNode.count = node.count - half;
+        System.arraycopy(node.elements, half, newNode.elements, 0, newNode.count);
+        Arrays.fill(node.elements, half, node.count, null);
+        node.count = half;
+        linkAfter(node, newNode);
+        return newNode;
+    }
+
+    private void mergeWithNext(Node<T> node) {
+        Node<T> next = node.next;
+        System.arraycopy(next.elements, 0, node.elements, node.count, next.count);
+        node.count += next.count;
+        unlink(next);
+    }
+
+    private void linkAfter(Node<T> node, Node<T> newNode) {
+        newNode.prev = node;
+        if (node == null) {
+            newNode.next = first;
+            first = newNode;
+        } else {
+            newNode.next = node.next;
+            node.next = newNode;
+        }
+        if (newNode.next == null) {
+            last = newNode;
+        } else {
+            newNode.next.prev = newNode;
+        }
+    }
+
+    private void unlink(Node<T> node) {
+        if (node.prev == null) {
+            first = node.next;
+        } else {
+            node.prev.next = node.next;
+        }
+        if (node.next == null) {
+            last = node.prev;
+        } else {
+            node.next.prev = node.prev;
+        }
+    }
+
+    private class UnrolledListIterator implements Iterator<T> {
+        private Node<T> node = first;
+        private int offset;
+        private final int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return node != null;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T next() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (node == null) {
+                throw new NoSuchElementException();
+            }
+            T element = (T) node.elements[offset++];
+            if (offset == node.count) {
+                node = node.next;
+                offset = 0;
+            }
+            return element;
+        }
+    }
+
+}
@@ -11,8 +11,12 @@ import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
 import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.ListIterator;
 import java.util.NoSuchElementException;
 import java.util.function.Predicate;
+import java.util.Spliterator;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatExceptionOfType;
@@ -510,6 +514,214 @@ public class LinkedListTest {
                 .isThrownBy(() -> getInternalElement(0));
     }
 
+    @Test
+    @Order(42)
+    void getLastAfterRemovingTheOnlyElement() {
+        addInternalElements(4);
+
+        intList.remove(0);
+
+        assertThatExceptionOfType(NoSuchElementException.class)
+                .isThrownBy(() -> intList.getLast());
+    }
+
+    @Test
+    @Order(43)
+    void getLastElementByIndex() {
+        addInternalElements(4, 5, 6);
+
+        assertThat(intList.get(2)).isEqualTo(6);
+    }
+
+    @Test
+    @Order(44)
+    void listIteratorTraversesAllElements() {
+        addInternalElements(4, 5, 6);
+
+        ListIterator<Integer> iterator = intList.listIterator();
+
+        assertThat(iterator.next()).isEqualTo(4);
+        assertThat(iterator.next()).isEqualTo(5);
+        assertThat(iterator.next()).isEqualTo(6);
+        assertThat(iterator.hasNext()).isFalse();
+        assertThatExceptionOfType(NoSuchElementException.class)
+                .isThrownBy(iterator::next);
+    }
+
+    @Test
+    @Order(45)
+    void listIteratorStartsAtIndex() {
+        addInternalElements(4, 5, 6);
+
+        ListIterator<Integer> iterator = intList.listIterator(2);
+
+        assertThat(iterator.nextIndex()).isEqualTo(2);
+        assertThat(iterator.next()).isEqualTo(6);
+        assertThat(iterator.previous()).isEqualTo(6);
+        assertThat(iterator.previous()).isEqualTo(5);
+        assertThat(iterator.previousIndex()).isEqualTo(0);
+    }
+
+    @Test
+    @Order(46)
+    void listIteratorPatchesListInOnePass() {
+        addInternalElements(1, 2, 3, 4, 5, 6);
+
+        ListIterator<Integer> iterator = intList.listIterator();
+        while (iterator.hasNext()) {
+            int element = iterator.next();
+            if (element % 2 == 0) {
+                iterator.remove();
+            } else {
+                iterator.set(element * 10);
+                iterator.add(element * 10 + 1);
+            }
+        }
+
+        assertThat(getInternalSize()).isEqualTo(6);
+        assertThat(getInternalElement(0)).isEqualTo(10);
+        assertThat(getInternalElement(1)).isEqualTo(11);
+        assertThat(getInternalElement(4)).isEqualTo(50);
+        assertThat(getInternalElement(5)).isEqualTo(51);
+        assertThat(intList.getLast()).isEqualTo(51);
+    }
+
+    @Test
+    @Order(47)
+    void listIteratorRemovesLastElement() {
+        addInternalElements(1, 2);
+
+        ListIterator<Integer> iterator = intList.listIterator(1);
+        iterator.next();
+        iterator.remove();
+
+        assertThat(getInternalSize()).isEqualTo(1);
+        assertThat(intList.getLast()).isEqualTo(1);
+    }
+
+    @Test
+    @Order(48)
+    void listIteratorAddsToEmptyList() {
+        ListIterator<Integer> iterator = intList.listIterator();
+
+        iterator.add(1);
+        iterator.add(2);
+
+        assertThat(intList.getFirst()).isEqualTo(1);
+        assertThat(intList.getLast()).isEqualTo(2);
+        assertThat(getInternalSize()).isEqualTo(2);
+    }
+
+    @Test
+    @Order(49)
+    void listIteratorThrowsExceptionWhenRemovingWithoutNext() {
+        addInternalElements(1, 2);
+
+        ListIterator<Integer> iterator = intList.listIterator();
+
+        assertThatExceptionOfType(IllegalStateException.class).isThrownBy(iterator::remove);
+        assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> intList.listIterator(3));
+    }
+
+    @Test
+    @Order(50)
+    void spliteratorSplitsOffBatches() {
+        int count = 5000;
+        for (int i = 0; i < count; i++) {
+            intList.add(i);
+        }
+
+        Spliterator<Integer> suffix = intList.spliterator();
+        Spliterator<Integer> prefix = suffix.trySplit();
+
+        assertThat(prefix.getExactSizeIfKnown()).isPositive();
+        assertThat(prefix.getExactSizeIfKnown() + suffix.getExactSizeIfKnown()).isEqualTo(count);
+        int[] next = {0};
+        prefix.forEachRemaining(e -> assertThat(e).isEqualTo(next[0]++));
+        suffix.forEachRemaining(e -> assertThat(e).isEqualTo(next[0]++));
+        assertThat(next[0]).isEqualTo(count);
+    }
+
+    @Test
+    @Order(51)
+    void parallelStreamKeepsEncounterOrder() {
+        int count = 100_000;
+        for (int i = 0; i < count; i++) {
+            intList.add(i);
+        }
+
+        long sum = intList.parallelStream().mapToLong(Integer::longValue).sum();
+        Object[] elements = intList.parallelStream().toArray();
+
+        assertThat(sum).isEqualTo((long) count * (count - 1) / 2);
+        assertThat(elements.length).isEqualTo(count);
+        for (int i = 0; i < count; i++) {
+            assertThat(elements[i]).isEqualTo(i);
+        }
+    }
+
+    @Test
+    @Order(52)
+    void forEachLoopVisitsLargeListInLinearTime() {
+        int count = 1_000_000;
+        for (int i = 0; i < count; i++) {
+            intList.add(i);
+        }
+
+        long sum = 0;
+        for (Integer element : intList) {
+            sum += element;
+        }
+
+        assertThat(sum).isEqualTo((long) count * (count - 1) / 2);
+    }
+
+    @Test
+    @Order(53)
+    void iteratorIsFailFast() {
+        addInternalElements(1, 2, 3);
+
+        Iterator<Integer> iterator = intList.iterator();
+        iterator.next();
+        intList.remove(2);
+
+        assertThatExceptionOfType(ConcurrentModificationException.class).isThrownBy(iterator::next);
+    }
+
+    @Test
+    @Order(54)
+    void listIteratorModificationsDoNotBreakIterator() {
+        addInternalElements(1, 2, 3);
+
+        ListIterator<Integer> iterator = intList.listIterator();
+        iterator.next();
+        iterator.remove();
+        iterator.next();
+        iterator.add(5);
+        iterator.next();
+
+        assertThat(iterator.hasNext()).isFalse();
+        assertThat(getInternalElement(1)).isEqualTo(5);
+        assertThat(getInternalSize()).isEqualTo(3);
+    }
+
+    @Test
+    @Order(55)
+    void nullElementsAreAllowedThroughListAndIterator() {
+        LinkedList<Integer> list = new LinkedList<>();
+        list.add(null);
+        list.add(1, 2);
+        ListIterator<Integer> iterator = list.listIterator();
+        iterator.add(null);
+        iterator.next();
+        iterator.set(null);
+
+        assertThat(list.size()).isEqualTo(3);
+        assertThat(list.get(0)).isNull();
+        assertThat(list.get(1)).isNull();
+        assertThat(list.get(2)).isEqualTo(2);
+    }
+
     @SneakyThrows
     private int getInternalElement(int index) {
 
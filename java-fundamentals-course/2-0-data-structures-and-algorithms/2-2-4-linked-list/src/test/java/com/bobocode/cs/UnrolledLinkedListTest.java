@@ -0,0 +1,245 @@
+package com.bobocode.cs;
+
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+/**
+ * A test class for {@link UnrolledLinkedList}.
+ */
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class UnrolledLinkedListTest {
+
+    private UnrolledLinkedList<Integer> intList = new UnrolledLinkedList<>(4);
+
+    @Test
+    @Order(1)
+    void addAndGet() {
+        for (int i = 0; i < 10; i++) {
+            intList.add(i);
+        }
+
+        assertThat(intList.size()).isEqualTo(10);
+        for (int i = 0; i < 10; i++) {
+            assertThat(intList.get(i)).isEqualTo(i);
+        }
+    }
+
+    @Test
+    @Order(2)
+    void of() {
+        intList = UnrolledLinkedList.of(43, 233, 54);
+
+        assertThat(intList.size()).isEqualTo(3);
+        assertThat(intList.get(1)).isEqualTo(233);
+    }
+
+    @Test
+    @Order(3)
+    void addByIndexSplitsFullNode() {
+        intList = toList(0, 1, 2, 4);
+
+        intList.add(3, 3);
+        intList.add(0, -1);
+        intList.add(6, 5);
+
+        assertThat(intList.size()).isEqualTo(7);
+        for (int i = 0; i < 7; i++) {
+            assertThat(intList.get(i)).isEqualTo(i - 1);
+        }
+    }
+
+    @Test
+    @Order(4)
+    void addByIndexThrowsExceptionWhenIndexIsOutOfBounds() {
+        intList = toList(1, 2);
+
+        assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> intList.add(3, 5));
+        assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> intList.add(-1, 5));
+    }
+
+    @Test
+    @Order(5)
+    void set() {
+        intList = toList(1, 2, 3, 4, 5, 6);
+
+        intList.set(1, 20);
+        intList.set(5, 60);
+
+        assertThat(intList.get(1)).isEqualTo(20);
+        assertThat(intList.get(5)).isEqualTo(60);
+        assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> intList.set(6, 5));
+    }
+
+    @Test
+    @Order(6)
+    void getFirstAndLast() {
+        intList = toList(1, 2, 3, 4, 5, 6);
+
+        assertThat(intList.getFirst()).isEqualTo(1);
+        assertThat(intList.getLast()).isEqualTo(6);
+    }
+
+    @Test
+    @Order(7)
+    void getFirstAndLastThrowExceptionWhenListIsEmpty() {
+        assertThatExceptionOfType(NoSuchElementException.class).isThrownBy(() -> intList.getFirst());
+        assertThatExceptionOfType(NoSuchElementException.class).isThrownBy(() -> intList.getLast());
+    }
+
+    @Test
+    @Order(8)
+    void removeMergesNodes() {
+        intList = toList(0, 1, 2, 3, 4, 5, 6, 7, 8);
+
+        assertThat(intList.remove(0)).isEqualTo(0);
+        assertThat(intList.remove(0)).isEqualTo(1);
+        assertThat(intList.remove(0)).isEqualTo(2);
+        assertThat(intList.remove(5)).isEqualTo(8);
+
+        assertThat(intList.size()).isEqualTo(5);
+        assertThat(intList.getFirst()).isEqualTo(3);
+        assertThat(intList.getLast()).isEqualTo(7);
+        assertThat(intList.get(2)).isEqualTo(5);
+    }
+
+    @Test
+    @Order(9)
+    void removeTheOnlyElement() {
+        intList.add(1);
+
+        intList.remove(0);
+
+        assertThat(intList.isEmpty()).isTrue();
+        assertThatExceptionOfType(NoSuchElementException.class).isThrownBy(() -> intList.getLast());
+    }
+
+    @Test
+    @Order(10)
+    void contains() {
+        intList = toList(1, 2, 3, 4, 5, 6);
+
+        assertThat(intList.contains(6)).isTrue();
+        assertThat(intList.contains(7)).isFalse();
+    }
+
+    @Test
+    @Order(11)
+    void clear() {
+        intList = toList(1, 2, 3, 4, 5, 6);
+
+        intList.clear();
+
+        assertThat(intList.isEmpty()).isTrue();
+        assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> intList.get(0));
+    }
+
+    @Test
+    @Order(12)
+    void constructorThrowsExceptionWhenNodeCapacityIsTooSmall() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new UnrolledLinkedList<>(1));
+    }
+
+    @Test
+    @Order(13)
+    void randomOperationsMatchJdkList() {
+        Random random = new Random(42);
+        java.util.List<Integer> expected = new java.util.ArrayList<>();
+
+        for (int i = 0; i < 5000; i++) {
+            int operation = random.nextInt(4);
+            if (operation < 2 || expected.isEmpty()) {
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, i);
+                intList.add(index, i);
+            } else if (operation == 2) {
+                int index = random.nextInt(expected.size());
+                assertThat(intList.remove(index)).isEqualTo(expected.remove(index));
+            } else {
+                int index = random.nextInt(expected.size());
+                expected.set(index, -i);
+                intList.set(index, -i);
+            }
+        }
+
+        assertThat(intList.size()).isEqualTo(expected.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertThat(intList.get(i)).isEqualTo(expected.get(i));
+        }
+    }
+
+    @Test
+    @Order(14)
+    void iteratorWalksAllNodes() {
+        for (int i = 0; i < 10; i++) {
+            intList.add(i);
+        }
+        intList.remove(5);
+        intList.add(2, 42);
+
+        Iterator<Integer> iterator = intList.iterator();
+        for (int i = 0; i < intList.size(); i++) {
+            assertThat(iterator.next()).isEqualTo(intList.get(i));
+        }
+        assertThat(iterator.hasNext()).isFalse();
+        assertThatExceptionOfType(NoSuchElementException.class).isThrownBy(iterator::next);
+    }
+
+    @Test
+    @Order(15)
+    void iteratorIsFailFast() {
+        intList = toList(1, 2, 3);
+
+        Iterator<Integer> iterator = intList.iterator();
+        iterator.next();
+        intList.add(0, 0);
+
+        assertThatExceptionOfType(ConcurrentModificationException.class).isThrownBy(iterator::next);
+    }
+
+    @Test
+    @Order(16)
+    void nullElementsAreAllowed() {
+        intList = toList(1, null, 3);
+        intList.add(0, null);
+        intList.set(3, null);
+
+        assertThat(intList.get(0)).isNull();
+        assertThat(intList.get(2)).isNull();
+        assertThat(intList.getLast()).isNull();
+        assertThat(intList.contains(null)).isTrue();
+        assertThat(intList.contains(1)).isTrue();
+    }
+
+    @Test
+    @Order(17)
+    void streamWalksAllNodes() {
+        for (int i = 0; i < 100; i++) {
+            intList.add(i);
+        }
+
+        assertThat(intList.stream().collect(Collectors.toList()))
+                .containsExactlyElementsOf(IntStream.range(0, 100).boxed().collect(Collectors.toList()));
+        assertThat(intList.parallelStream().mapToInt(Integer::intValue).sum()).isEqualTo(4950);
+    }
+
+    private UnrolledLinkedList<Integer> toList(Integer... elements) {
+        UnrolledLinkedList<Integer> list = new UnrolledLinkedList<>(4);
+        for (Integer e : elements) {
+            list.add(e);
+        }
+        return list;
+    }
+}
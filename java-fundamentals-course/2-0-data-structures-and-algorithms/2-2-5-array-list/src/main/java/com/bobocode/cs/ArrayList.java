@@ -1,7 +1,12 @@
 package com.bobocode.cs;
 
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
 import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
 
 /**
  * {@link ArrayList} is an implementation of {@link List} interface. This resizable data structure
@@ -12,8 +17,10 @@ import java.util.Objects;
 public class ArrayList<T> implements List<T> {
 
     private static final int DEFAULT_CAPACITY = 5;
+    private final GrowthPolicy growthPolicy;
     private Object[] elements;
     private int size;
+    private int modCount;
 
     /**
      * This constructor creates an instance of {@link ArrayList} with a specific capacity of an array inside.
@@ -23,9 +30,22 @@ public class ArrayList<T> implements List<T> {
      */
     public ArrayList(int initCapacity) {
 //        throw new ExerciseNotCompletedException(); // todo: implement this method
+        this(initCapacity, GrowthPolicy.DEFAULT);
+    }
+
+    /**
+     * This constructor creates an instance of {@link ArrayList} with a specific capacity of an array inside and
+     * a specific {@link GrowthPolicy} that is used each time the inner array needs to be resized.
+     *
+     * @param initCapacity - the initial capacity of the list
+     * @param growthPolicy - the policy that calculates a new capacity of the inner array
+     * @throws IllegalArgumentException – if the specified initial capacity is negative or 0.
+     */
+    public ArrayList(int initCapacity, GrowthPolicy growthPolicy) {
         if (initCapacity <= 0) {
             throw new IllegalArgumentException();
         }
+        this.growthPolicy = Objects.requireNonNull(growthPolicy);
         elements = new Object[initCapacity];
     }
 
@@ -35,21 +55,20 @@ public class ArrayList<T> implements List<T> {
      */
     public ArrayList() {
 //        throw new ExerciseNotCompletedException(); // todo: implement this method
-        elements = new Object[DEFAULT_CAPACITY];
+        this(DEFAULT_CAPACITY);
     }
 
     /**
-     * Creates and returns an instance of {@link ArrayList} with provided elements
+     * Creates and returns an instance of {@link ArrayList} with provided elements. The inner array is allocated
+     * once with the exact required capacity.
      *
      * @param elements to add
      * @return new instance
      */
     public static <T> List<T> of(T... elements) {
 //        throw new ExerciseNotCompletedException(); // todo: implement this method
-        List<T> list = new ArrayList<>();
-        for (T e : elements) {
-            list.add(e);
-        }
+        ArrayList<T> list = new ArrayList<>(Math.max(elements.length, DEFAULT_CAPACITY));
+        list.addAll(elements);
         return list;
     }
 
@@ -61,9 +80,10 @@ public class ArrayList<T> implements List<T> {
     @Override
     public void add(T element) {
 //        throw new ExerciseNotCompletedException(); // todo: implement this method
-        resizeIfNeeded();
+        ensureCapacity(size() + 1);
         elements[size()] = element;
         size++;
+        modCount++;
     }
 
     /**
@@ -76,21 +96,80 @@ public class ArrayList<T> implements List<T> {
     public void add(int index, T element) {
 //        throw new ExerciseNotCompletedException(); // todo: implement this method
         Objects.checkIndex(index, size() + 1);
-        resizeIfNeeded();
-        if (index == 0) {
-            if (isEmpty()) {
-                elements[index] = element;
-            } else {
-                System.arraycopy(elements, 0, elements, 1, size() - 1);
-                elements[0] = element;
-            }
-        } else if (index == size()) {
-            elements[size()] = element;
-        } else {
-            System.arraycopy(elements, index, elements, index + 1, size() - index);
-            elements[index] = element;
-        }
+        ensureCapacity(size() + 1);
+        System.arraycopy(elements, index, elements, index + 1, size() - index);
+        elements[index] = element;
         size++;
+        modCount++;
+    }
+
+    /**
+     * Adds all provided elements to the end of the array. The inner array is resized at most once and the elements
+     * are copied with a single {@link System#arraycopy(Object, int, Object, int, int)} call.
+     *
+     * @param newElements elements to add
+     */
+    public void addAll(T[] newElements) {
+        ensureCapacity(size() + newElements.length);
+        System.arraycopy(newElements, 0, elements, size(), newElements.length);
+        size += newElements.length;
+        modCount++;
+    }
+
+    /**
+     * Inserts all provided elements starting from the specific position in the array. The tail of the array is
+     * shifted to the right once for the whole batch, instead of shifting it for every single element. In case
+     * provided index in out of the list bounds it throws {@link IndexOutOfBoundsException}
+     *
+     * @param index       index of position where the first new element is placed
+     * @param newElements elements to add
+     */
+    public void insertAll(int index, T[] newElements) {
+        Objects.checkIndex(index, size() + 1);
+        ensureCapacity(size() + newElements.length);
+        System.arraycopy(elements, index, elements, index + newElements.length, size() - index);
+        System.arraycopy(newElements, 0, elements, index, newElements.length);
+        size += newElements.length;
+        modCount++;
+    }
+
+    /**
+     * Removes all elements with index between fromIndex, inclusive, and toIndex, exclusive. The tail of the array is
+     * shifted to the left once for the whole range.
+     *
+     * @param fromIndex index of the first element to remove
+     * @param toIndex   index after the last element to remove
+     * @throws IndexOutOfBoundsException if fromIndex or toIndex is out of range, or fromIndex is greater than toIndex
+     */
+    public void removeRange(int fromIndex, int toIndex) {
+        Objects.checkFromToIndex(fromIndex, toIndex, size());
+        int newSize = size() - (toIndex - fromIndex);
+        System.arraycopy(elements, toIndex, elements, fromIndex, size() - toIndex);
+        Arrays.fill(elements, newSize, size(), null);
+        size = newSize;
+        modCount++;
+    }
+
+    /**
+     * Increases the capacity of the inner array, if necessary, so it can hold at least minCapacity elements
+     * without resizing.
+     *
+     * @param minCapacity the desired minimum capacity
+     */
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity - elements.length > 0) {
+            elements = Arrays.copyOf(elements, growthPolicy.newCapacity(elements.length, minCapacity));
+        }
+    }
+
+    /**
+     * Trims the capacity of the inner array to the current size of the list, so no memory is reserved for elements
+     * that are not stored.
+     */
+    public void trimToSize() {
+        if (size() < elements.length) {
+            elements = Arrays.copyOf(elements, size());
+        }
     }
 
     /**
@@ -165,12 +244,9 @@ public class ArrayList<T> implements List<T> {
 //        throw new ExerciseNotCompletedException(); // todo: implement this method
         Objects.checkIndex(index, size());
         T removedElement = (T) elements[index];
-        if (index == size() - 1) {
-            elements[index] = null;
-        }else {
-            System.arraycopy(elements, index + 1, elements, index, size() - index - 1);
-        }
-        size--;
+        System.arraycopy(elements, index + 1, elements, index, size() - index - 1);
+        elements[--size] = null;
+        modCount++;
         return removedElement;
     }
 
@@ -211,6 +287,19 @@ public class ArrayList<T> implements List<T> {
         return size;
     }
 
+    /**
+     * Returns a late-binding and fail-fast spliterator over the inner array. It splits by index range in halves, so
+     * parallel streams divide the list into parts of the exact known size without copying elements. The range is
+     * bound to the list size at the first traversal, split or size query, and a structural modification after that
+     * is reported with {@link ConcurrentModificationException}.
+     *
+     * @return a spliterator over elements of the list
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return new ArrayListSpliterator(0, -1, 0);
+    }
+
     /**
      * Removes all list elements
      */
@@ -219,15 +308,133 @@ public class ArrayList<T> implements List<T> {
 //        throw new ExerciseNotCompletedException(); // todo: implement this method
         elements = new Object[DEFAULT_CAPACITY];
         size = 0;
+        modCount++;
     }
 
-    private void resizeIfNeeded() {
-        if (size() == elements.length) {
-            int newSize = (int) (size() * 1.5) + 1;
-            Object[] newElements = new Object[newSize];
-            System.arraycopy(elements, 0, newElements, 0, size());
-            elements = newElements;
+    /**
+     * Returns a fail-fast iterator. If the list is structurally modified after the iterator is created, except
+     * through the iterator's own {@link Iterator#remove()} method, the iterator throws
+     * {@link ConcurrentModificationException} on the next access.
+     *
+     * @return an iterator over elements of the list in proper sequence
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new ArrayListIterator();
+    }
+
+    private class ArrayListIterator implements Iterator<T> {
+        private int cursor;
+        private int lastReturned = -1;
+        private int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return cursor < size;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T next() {
+            checkForComodification();
+            if (cursor >= size) {
+                throw new NoSuchElementException();
+            }
+            lastReturned = cursor++;
+            return (T) elements[lastReturned];
+        }
+
+        @Override
+        public void remove() {
+            if (lastReturned < 0) {
+                throw new IllegalStateException();
+            }
+            checkForComodification();
+            ArrayList.this.remove(lastReturned);
+            cursor = lastReturned;
+            lastReturned = -1;
+            expectedModCount = modCount;
+        }
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
         }
     }
 
+    private class ArrayListSpliterator implements Spliterator<T> {
+        private int index;
+        private int fence;
+        private int expectedModCount;
+
+        /**
+         * @param fence index after the last element, or -1 to bind it to the list size at the first use
+         */
+        ArrayListSpliterator(int origin, int fence, int expectedModCount) {
+            this.index = origin;
+            this.fence = fence;
+            this.expectedModCount = expectedModCount;
+        }
+
+        private int getFence() {
+            if (fence < 0) {
+                expectedModCount = modCount;
+                fence = size;
+            }
+            return fence;
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            int hi = getFence();
+            int lo = index;
+            int mid = (lo + hi) >>> 1;
+            return lo >= mid ? null : new ArrayListSpliterator(lo, index = mid, expectedModCount);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public boolean tryAdvance(Consumer<? super T> action) {
+            Objects.requireNonNull(action);
+            int hi = getFence();
+            if (index >= hi) {
+                return false;
+            }
+            checkForComodification();
+            action.accept((T) elements[index++]);
+            checkForComodification();
+            return true;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void forEachRemaining(Consumer<? super T> action) {
+            Objects.requireNonNull(action);
+            int hi = getFence();
+            checkForComodification();
+            Object[] array = elements;
+            for (int i = index; i < hi; i++) {
+                action.accept((T) array[i]);
+            }
+            index = hi;
+            checkForComodification();
+        }
+
+        @Override
+        public long estimateSize() {
+            return getFence() - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+        }
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
 }
@@ -0,0 +1,246 @@
+package com.bobocode.cs;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * {@link CopyOnWriteArrayList} is a thread-safe implementation of {@link List} for read-heavy concurrent use. Every
+ * modification copies the inner array, changes the copy and publishes it with a single volatile write. Writers are
+ * serialized with a lock, readers never lock.
+ * <p>
+ * A reader always works with one complete array, so it never sees a partially applied modification. Iterators,
+ * spliterators and streams take a snapshot of the array when they are created: they are never affected by later
+ * modifications and never throw {@link java.util.ConcurrentModificationException}. Modifications take O(n), so the
+ * list fits cases where reads and iterations heavily outnumber writes.
+ *
+ * @param <T> generic type parameter
+ */
+public class CopyOnWriteArrayList<T> implements List<T> {
+
+    private static final Object[] EMPTY = new Object[0];
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private volatile Object[] elements = EMPTY;
+
+    /**
+     * Creates and returns an instance of {@link CopyOnWriteArrayList} with provided elements.
+     *
+     * @param elements to add
+     * @return new instance
+     */
+    @SafeVarargs
+    public static <T> CopyOnWriteArrayList<T> of(T... elements) {
+        Object[] copy = new Object[elements.length];
+        for (int i = 0; i < elements.length; i++) {
+            copy[i] = elements[i];
+        }
+        CopyOnWriteArrayList<T> list = new CopyOnWriteArrayList<>();
+        list.elements = copy;
+        return list;
+    }
+
+    /**
+     * Adds an element to the end of the list.
+     *
+     * @param element element to add
+     */
+    @Override
+    public void add(T element) {
+        lock.lock();
+        try {
+            Object[] current = elements;
+            Object[] copy = Arrays.copyOf(current, current.length + 1);
+            copy[current.length] = element;
+            elements = copy;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Adds an element to the specific position in the list. In case provided index in out of the list bounds it
+     * throws {@link IndexOutOfBoundsException}
+     *
+     * @param index   index of position
+     * @param element element to add
+     */
+    @Override
+    public void add(int index, T element) {
+        lock.lock();
+        try {
+            Object[] current = elements;
+            Objects.checkIndex(index, current.length + 1);
+            Object[] copy = new Object[current.length + 1];
+            System.arraycopy(current, 0, copy, 0, index);
+            System.arraycopy(current, index, copy, index + 1, current.length - index);
+            copy[index] = element;
+            elements = copy;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Changes the value of the list at specific position. In case provided index in out of the list bounds it
+     * throws {@link IndexOutOfBoundsException}
+     *
+     * @param index   position of value
+     * @param element a new value
+     */
+    @Override
+    public void set(int index, T element) {
+        lock.lock();
+        try {
+            Object[] current = elements;
+            Objects.checkIndex(index, current.length);
+            Object[] copy = current.clone();
+            copy[index] = element;
+            elements = copy;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Retrieves an element by its position index. In case provided index in out of the list bounds it
+     * throws {@link IndexOutOfBoundsException}
+     *
+     * @param index index of element
+     * @return an element
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        Object[] current = elements;
+        Objects.checkIndex(index, current.length);
+        return (T) current[index];
+    }
+
+    /**
+     * Returns the first element of the list.
+     *
+     * @return the first element of the list
+     * @throws java.util.NoSuchElementException if list is empty
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T getFirst() {
+        Object[] current = elements;
+        if (current.length == 0) {
+            throw new NoSuchElementException();
+        }
+        return (T) current[0];
+    }
+
+    /**
+     * Returns the last element of the list.
+     *
+     * @return the last element of the list
+     * @throws java.util.NoSuchElementException if list is empty
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T getLast() {
+        Object[] current = elements;
+        if (current.length == 0) {
+            throw new NoSuchElementException();
+        }
+        return (T) current[current.length - 1];
+    }
+
+    /**
+     * Removes an element by its position index. In case provided index in out of the list bounds it
+     * throws {@link IndexOutOfBoundsException}
+     *
+     * @param index element index
+     * @return deleted element
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T remove(int index) {
+        lock.lock();
+        try {
+            Object[] current = elements;
+            Objects.checkIndex(index, current.length);
+            Object[] copy = new Object[current.length - 1];
+            System.arraycopy(current, 0, copy, 0, index);
+            System.arraycopy(current, index + 1, copy, index, current.length - index - 1);
+            elements = copy;
+            return (T) current[index];
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Checks for existing of a specific element in the list.
+     *
+     * @param element is element
+     * @return If element exists method returns true, otherwise it returns false
+     */
+    @Override
+    public boolean contains(T element) {
+        for (Object e : elements) {
+            if (element.equals(e)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks if a list is empty
+     *
+     * @return {@code true} if list is empty, {@code false} otherwise
+     */
+    @Override
+    public boolean isEmpty() {
+        return elements.length == 0;
+    }
+
+    /**
+     * @return amount of saved elements
+     */
+    @Override
+    public int size() {
+        return elements.length;
+    }
+
+    /**
+     * Removes all list elements
+     */
+    @Override
+    public void clear() {
+        lock.lock();
+        try {
+            elements = EMPTY;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns an iterator over a snapshot of the list. It does not support {@link Iterator#remove()}.
+     *
+     * @return an iterator over elements the list had when the iterator was created
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return Spliterators.iterator(spliterator());
+    }
+
+    /**
+     * Returns a spliterator over a snapshot of the list that splits by index range.
+     *
+     * @return a spliterator over elements the list had when the spliterator was created
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return Spliterators.spliterator(elements, Spliterator.ORDERED | Spliterator.IMMUTABLE);
+    }
+}
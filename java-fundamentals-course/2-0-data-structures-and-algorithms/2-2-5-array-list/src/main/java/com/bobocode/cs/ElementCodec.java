@@ -0,0 +1,71 @@
+package com.bobocode.cs;
+
+import java.nio.ByteBuffer;
+
+/**
+ * {@link ElementCodec} converts elements of type T to a fixed number of bytes and back. It allows {@link OffHeapList}
+ * to store elements as raw bytes outside of the Java heap. A codec for a custom record type writes its fields one by
+ * one at the given offset, e.g. a {@code long} id followed by an {@code int} value gives a width of 12 bytes.
+ *
+ * @param <T> a type of elements
+ */
+public interface ElementCodec<T> {
+
+    ElementCodec<Long> LONG = new ElementCodec<>() {
+        @Override
+        public int width() {
+            return Long.BYTES;
+        }
+
+        @Override
+        public void write(ByteBuffer buffer, int offset, Long element) {
+            buffer.putLong(offset, element);
+        }
+
+        @Override
+        public Long read(ByteBuffer buffer, int offset) {
+            return buffer.getLong(offset);
+        }
+    };
+
+    ElementCodec<Double> DOUBLE = new ElementCodec<>() {
+        @Override
+        public int width() {
+            return Double.BYTES;
+        }
+
+        @Override
+        public void write(ByteBuffer buffer, int offset, Double element) {
+            buffer.putDouble(offset, element);
+        }
+
+        @Override
+        public Double read(ByteBuffer buffer, int offset) {
+            return buffer.getDouble(offset);
+        }
+    };
+
+    /**
+     * @return number of bytes that are used to store a single element, must be positive
+     */
+    int width();
+
+    /**
+     * Writes an element to the buffer using absolute positioning. The codec must not write more than
+     * {@link ElementCodec#width()} bytes.
+     *
+     * @param buffer  a buffer to write to
+     * @param offset  a position of the first byte of the element
+     * @param element an element to write, never null
+     */
+    void write(ByteBuffer buffer, int offset, T element);
+
+    /**
+     * Reads an element from the buffer using absolute positioning.
+     *
+     * @param buffer a buffer to read from
+     * @param offset a position of the first byte of the element
+     * @return an element
+     */
+    T read(ByteBuffer buffer, int offset);
+}
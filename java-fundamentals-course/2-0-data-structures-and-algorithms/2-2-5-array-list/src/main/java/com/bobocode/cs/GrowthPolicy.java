@@ -0,0 +1,80 @@
+package com.bobocode.cs;
+
+/**
+ * {@link GrowthPolicy} describes how an array-based list grows its inner array when it runs out of space. The new
+ * capacity is the current one multiplied by a growth factor, but a single resize never adds more than a max step of
+ * elements. Geometric growth keeps appends amortized O(1), while the max step bounds the memory that is reserved but
+ * not used by very large lists.
+ */
+public final class GrowthPolicy {
+
+    /**
+     * The maximum size of array to allocate. Some VMs reserve header words in an array, so asking for
+     * {@link Integer#MAX_VALUE} elements may result in {@link OutOfMemoryError}.
+     */
+    static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+
+    /**
+     * Grows inner array by 50% without limiting the growth step.
+     */
+    public static final GrowthPolicy DEFAULT = new GrowthPolicy(1.5, MAX_ARRAY_SIZE);
+
+    private final double factor;
+    private final int maxStep;
+
+    private GrowthPolicy(double factor, int maxStep) {
+        this.factor = factor;
+        this.maxStep = maxStep;
+    }
+
+    /**
+     * Creates a growth policy with a specific growth factor and a limit of elements that can be added by one resize.
+     *
+     * @param factor  a multiplier of current capacity, must be greater than 1
+     * @param maxStep max number of elements added by one resize, must be positive
+     * @return a new growth policy
+     * @throws IllegalArgumentException if factor is not greater than 1 or maxStep is not positive
+     */
+    public static GrowthPolicy of(double factor, int maxStep) {
+        if (!(factor > 1) || maxStep <= 0) {
+            throw new IllegalArgumentException();
+        }
+        return new GrowthPolicy(factor, maxStep);
+    }
+
+    /**
+     * Creates a growth policy with a specific growth factor and an unlimited growth step.
+     *
+     * @param factor a multiplier of current capacity, must be greater than 1
+     * @return a new growth policy
+     * @throws IllegalArgumentException if factor is not greater than 1
+     */
+    public static GrowthPolicy of(double factor) {
+        return of(factor, MAX_ARRAY_SIZE);
+    }
+
+    public double getFactor() {
+        return factor;
+    }
+
+    public int getMaxStep() {
+        return maxStep;
+    }
+
+    /**
+     * Calculates a new capacity of the inner array, that is at least as big as required.
+     *
+     * @param currentCapacity current length of the inner array
+     * @param minCapacity     the minimal required capacity
+     * @return new capacity of the inner array
+     * @throws OutOfMemoryError if required capacity exceeds the maximum array size
+     */
+    int newCapacity(int currentCapacity, int minCapacity) {
+        if (minCapacity < 0 || minCapacity > MAX_ARRAY_SIZE) {
+            throw new OutOfMemoryError("Required array size is too large");
+        }
+        long step = Math.min((long) (currentCapacity * (factor - 1)) + 1, maxStep);
+        long newCapacity = Math.min(currentCapacity + step, MAX_ARRAY_SIZE);
+        return (int) Math.max(newCapacity, minCapacity);
+    }
+}
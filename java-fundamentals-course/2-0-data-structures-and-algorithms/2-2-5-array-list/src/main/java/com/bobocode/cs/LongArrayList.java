@@ -0,0 +1,206 @@
+package com.bobocode.cs;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * {@link LongArrayList} is a primitive specialization of {@link ArrayList} for {@code long} values. It provides the same
+ * operations as {@link List}, but stores elements in a {@code long[]} directly, so values are never boxed. That saves
+ * an object header and a reference per element and removes a pointer chase on every {@link LongArrayList#get(int)}.
+ */
+public class LongArrayList {
+
+    private static final int DEFAULT_CAPACITY = 5;
+    private long[] elements;
+    private int size;
+
+    /**
+     * This constructor creates an instance of {@link LongArrayList} with a specific capacity of an array inside.
+     *
+     * @param initCapacity - the initial capacity of the list
+     * @throws IllegalArgumentException – if the specified initial capacity is negative or 0.
+     */
+    public LongArrayList(int initCapacity) {
+        if (initCapacity <= 0) {
+            throw new IllegalArgumentException();
+        }
+        elements = new long[initCapacity];
+    }
+
+    /**
+     * This constructor creates an instance of {@link LongArrayList} with a default capacity of an array inside.
+     * A default size of inner array is 5;
+     */
+    public LongArrayList() {
+        elements = new long[DEFAULT_CAPACITY];
+    }
+
+    /**
+     * Creates and returns an instance of {@link LongArrayList} with provided elements
+     *
+     * @param elements to add
+     * @return new instance
+     */
+    public static LongArrayList of(long... elements) {
+        LongArrayList list = new LongArrayList(Math.max(elements.length, DEFAULT_CAPACITY));
+        list.addAll(elements);
+        return list;
+    }
+
+    /**
+     * Adds an element to the end of the array.
+     *
+     * @param element element to add
+     */
+    public void add(long element) {
+        ensureCapacity(size + 1);
+        elements[size++] = element;
+    }
+
+    /**
+     * Adds an element to the specific position in the array. In case provided index in out of the list bounds it
+     * throws {@link IndexOutOfBoundsException}
+     *
+     * @param index   index of position
+     * @param element element to add
+     */
+    public void add(int index, long element) {
+        Objects.checkIndex(index, size + 1);
+        ensureCapacity(size + 1);
+        System.arraycopy(elements, index, elements, index + 1, size - index);
+        elements[index] = element;
+        size++;
+    }
+
+    /**
+     * Adds all provided elements to the end of the array. The inner array is resized at most once and the elements
+     * are copied with a single {@link System#arraycopy(Object, int, Object, int, int)} call.
+     *
+     * @param newElements elements to add
+     */
+    public void addAll(long[] newElements) {
+        ensureCapacity(size + newElements.length);
+        System.arraycopy(newElements, 0, elements, size, newElements.length);
+        size += newElements.length;
+    }
+
+    /**
+     * Retrieves an element by its position index. In case provided index in out of the list bounds it
+     * throws {@link IndexOutOfBoundsException}
+     *
+     * @param index index of element
+     * @return en element
+     */
+    public long get(int index) {
+        Objects.checkIndex(index, size);
+        return elements[index];
+    }
+
+    /**
+     * Returns the first element of the list. Operation is performed in constant time O(1)
+     *
+     * @return the first element of the list
+     * @throws java.util.NoSuchElementException if list is empty
+     */
+    public long getFirst() {
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return elements[0];
+    }
+
+    /**
+     * Returns the last element of the list. Operation is performed in constant time O(1)
+     *
+     * @return the last element of the list
+     * @throws java.util.NoSuchElementException if list is empty
+     */
+    public long getLast() {
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return elements[size - 1];
+    }
+
+    /**
+     * Changes the value of array at specific position. In case provided index in out of the list bounds it
+     * throws {@link IndexOutOfBoundsException}
+     *
+     * @param index   position of value
+     * @param element a new value
+     */
+    public void set(int index, long element) {
+        Objects.checkIndex(index, size);
+        elements[index] = element;
+    }
+
+    /**
+     * Removes an elements by its position index. In case provided index in out of the list bounds it
+     * throws {@link IndexOutOfBoundsException}
+     *
+     * @param index element index
+     * @return deleted element
+     */
+    public long remove(int index) {
+        Objects.checkIndex(index, size);
+        long removedElement = elements[index];
+        System.arraycopy(elements, index + 1, elements, index, size - index - 1);
+        size--;
+        return removedElement;
+    }
+
+    /**
+     * Checks for existing of a specific element in the list.
+     *
+     * @param element is element
+     * @return If element exists method returns true, otherwise it returns false
+     */
+    public boolean contains(long element) {
+        for (int i = 0; i < size; i++) {
+            if (elements[i] == element) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks if a list is empty
+     *
+     * @return {@code true} if list is empty, {@code false} otherwise
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @return amount of saved elements
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Removes all list elements. The inner array is kept, so the list can be refilled without resizing.
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Returns a copy of the list elements as an array of exact length.
+     *
+     * @return a new array that contains all list elements in the same order
+     */
+    public long[] toArray() {
+        return Arrays.copyOf(elements, size);
+    }
+
+    private void ensureCapacity(int minCapacity) {
+        if (minCapacity - elements.length > 0) {
+            elements = Arrays.copyOf(elements, GrowthPolicy.DEFAULT.newCapacity(elements.length, minCapacity));
+        }
+    }
+
+}
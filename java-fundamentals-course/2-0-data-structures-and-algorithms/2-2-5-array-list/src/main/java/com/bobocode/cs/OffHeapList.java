@@ -0,0 +1,388 @@
+package com.bobocode.cs;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * {@link OffHeapList} is an implementation of {@link List} interface that stores fixed-width elements outside of the
+ * Java heap. Elements are converted to bytes by an {@link ElementCodec} and written to direct {@link ByteBuffer} chunks
+ * of equal size, so a huge list does not produce a huge {@code Object[]} that garbage collector has to scan.
+ * <p>
+ * When the list is full a new chunk is allocated and appended, so the list grows without copying the elements that are
+ * already stored. Index semantics and exceptions are the same as in {@link ArrayList}, except that null elements are
+ * not allowed, because a codec cannot encode them.
+ * <p>
+ * The list must be closed when it is not needed anymore. After {@link OffHeapList#close()} all chunks are released and
+ * any element operation throws {@link IllegalStateException}. Java 11 does not provide a public API to free direct
+ * memory immediately, so it is returned to the OS when released chunks are collected.
+ *
+ * @param <T> a type of elements
+ */
+public class OffHeapList<T> implements List<T>, AutoCloseable {
+
+    private static final int DEFAULT_CHUNK_CAPACITY = 1 << 16;
+
+    private final ElementCodec<T> codec;
+    private final int width;
+    private final int chunkShift;
+    private final int chunkMask;
+    private ByteBuffer[] chunks;
+    private int chunkCount;
+    private int size;
+    private int modCount;
+
+    /**
+     * This constructor creates an instance of {@link OffHeapList} with a default chunk capacity of 65536 elements.
+     *
+     * @param codec a codec that converts elements to bytes and back
+     */
+    public OffHeapList(ElementCodec<T> codec) {
+        this(codec, DEFAULT_CHUNK_CAPACITY);
+    }
+
+    /**
+     * This constructor creates an instance of {@link OffHeapList} with a specific number of elements per chunk. The
+     * capacity is rounded up to the closest power of two.
+     *
+     * @param codec         a codec that converts elements to bytes and back
+     * @param chunkCapacity number of elements stored in one chunk of direct memory
+     * @throws IllegalArgumentException if chunk capacity or codec width is not positive, or chunk is too large
+     */
+    public OffHeapList(ElementCodec<T> codec, int chunkCapacity) {
+        this.codec = Objects.requireNonNull(codec);
+        this.width = codec.width();
+        if (width <= 0 || chunkCapacity <= 0 || chunkCapacity > (1 << 30)) {
+            throw new IllegalArgumentException();
+        }
+        int capacity = chunkCapacity == 1 ? 1 : Integer.highestOneBit(chunkCapacity - 1) << 1;
+        if ((long) capacity * width > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException();
+        }
+        this.chunkShift = Integer.numberOfTrailingZeros(capacity);
+        this.chunkMask = capacity - 1;
+        this.chunks = new ByteBuffer[1];
+    }
+
+    /**
+     * Adds an element to the end of the list.
+     *
+     * @param element element to add
+     */
+    @Override
+    public void add(T element) {
+        Objects.requireNonNull(element);
+        ensureOpen();
+        ensureCapacity(size + 1);
+        write(size, element);
+        size++;
+        modCount++;
+    }
+
+    /**
+     * Adds an element to the specific position in the list. The tail of the list is shifted to the right. In case
+     * provided index in out of the list bounds it throws {@link IndexOutOfBoundsException}
+     *
+     * @param index   index of position
+     * @param element element to add
+     */
+    @Override
+    public void add(int index, T element) {
+        Objects.requireNonNull(element);
+        ensureOpen();
+        Objects.checkIndex(index, size + 1);
+        ensureCapacity(size + 1);
+        shiftRight(index);
+        write(index, element);
+        size++;
+        modCount++;
+    }
+
+    /**
+     * Changes the value of list at specific position. In case provided index in out of the list bounds it
+     * throws {@link IndexOutOfBoundsException}
+     *
+     * @param index   position of value
+     * @param element a new value
+     */
+    @Override
+    public void set(int index, T element) {
+        Objects.requireNonNull(element);
+        ensureOpen();
+        Objects.checkIndex(index, size);
+        write(index, element);
+    }
+
+    /**
+     * Retrieves an element by its position index. In case provided index in out of the list bounds it
+     * throws {@link IndexOutOfBoundsException}
+     *
+     * @param index index of element
+     * @return en element
+     */
+    @Override
+    public T get(int index) {
+        ensureOpen();
+        Objects.checkIndex(index, size);
+        return read(index);
+    }
+
+    /**
+     * Returns the first element of the list. Operation is performed in constant time O(1)
+     *
+     * @return the first element of the list
+     * @throws java.util.NoSuchElementException if list is empty
+     */
+    @Override
+    public T getFirst() {
+        ensureOpen();
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return get(0);
+    }
+
+    /**
+     * Returns the last element of the list. Operation is performed in constant time O(1)
+     *
+     * @return the last element of the list
+     * @throws java.util.NoSuchElementException if list is empty
+     */
+    @Override
+    public T getLast() {
+        ensureOpen();
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return get(size - 1);
+    }
+
+    /**
+     * Removes an elements by its position index. The tail of the list is shifted to the left. In case provided index
+     * in out of the list bounds it throws {@link IndexOutOfBoundsException}
+     *
+     * @param index element index
+     * @return deleted element
+     */
+    @Override
+    public T remove(int index) {
+        ensureOpen();
+        Objects.checkIndex(index, size);
+        T removedElement = read(index);
+        shiftLeft(index);
+        size--;
+        modCount++;
+        return removedElement;
+    }
+
+    /**
+     * Checks for existing of a specific element in the list. Each stored element is decoded and compared using
+     * {@link Object#equals(Object)}.
+     *
+     * @param element is element
+     * @return If element exists method returns true, otherwise it returns false
+     */
+    @Override
+    public boolean contains(T element) {
+        Objects.requireNonNull(element);
+        ensureOpen();
+        for (int i = 0; i < size; i++) {
+            if (element.equals(read(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks if a list is empty
+     *
+     * @return {@code true} if list is empty, {@code false} otherwise
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @return amount of saved elements
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Removes all list elements. The first chunk is kept, all other chunks are released.
+     */
+    @Override
+    public void clear() {
+        ensureOpen();
+        Arrays.fill(chunks, Math.min(1, chunkCount), chunkCount, null);
+        chunkCount = Math.min(1, chunkCount);
+        size = 0;
+        modCount++;
+    }
+
+    /**
+     * Releases all chunks of direct memory. The list cannot be used after it's closed. Calling this method more than
+     * once has no effect.
+     */
+    @Override
+    public void close() {
+        chunks = null;
+        chunkCount = 0;
+        size = 0;
+        modCount++;
+    }
+
+    /**
+     * Returns a fail-fast iterator. If the list is structurally modified after the iterator is created, except
+     * through the iterator's own {@link Iterator#remove()} method, the iterator throws
+     * {@link ConcurrentModificationException} on the next access.
+     *
+     * @return an iterator over elements of the list in proper sequence
+     */
+    @Override
+    public Iterator<T> iterator() {
+        ensureOpen();
+        return new OffHeapListIterator();
+    }
+
+    private void ensureOpen() {
+        if (chunks == null) {
+            throw new IllegalStateException("List is closed");
+        }
+    }
+
+    private void ensureCapacity(int minCapacity) {
+        while ((long) chunkCount << chunkShift < minCapacity) {
+            if (chunkCount == chunks.length) {
+                chunks = Arrays.copyOf(chunks, chunkCount * 2);
+            }
+            chunks[chunkCount++] = ByteBuffer.allocateDirect((chunkMask + 1) * width).order(ByteOrder.nativeOrder());
+        }
+    }
+
+    private T read(int index) {
+        return codec.read(chunks[index >>> chunkShift], (index & chunkMask) * width);
+    }
+
+    private void write(int index, T element) {
+        codec.write(chunks[index >>> chunkShift], (index & chunkMask) * width, element);
+    }
+
+    /**
+     * Moves elements with index from index, inclusive, to size, exclusive, one position to the right. Each chunk is
+     * shifted with a single bulk copy, starting from the last one, and the last element of a full chunk is carried
+     * to the first position of the next chunk.
+     */
+    private void shiftRight(int index) {
+        for (int chunk = size >>> chunkShift; chunk >= index >>> chunkShift; chunk--) {
+            int chunkStart = chunk << chunkShift;
+            int from = Math.max(index, chunkStart);
+            int to = Math.min(size, chunkStart + chunkMask + 1);
+            if (from >= to) {
+                continue;
+            }
+            if (to == chunkStart + chunkMask + 1) {
+                copy(to - 1, to);
+                to--;
+            }
+            moveWithinChunk(chunks[chunk], from & chunkMask, (from & chunkMask) + 1, to - from);
+        }
+    }
+
+    /**
+     * Moves elements with index from index + 1, inclusive, to size, exclusive, one position to the left. Each chunk is
+     * shifted with a single bulk copy, starting from the chunk of index, and the first element of a chunk is carried
+     * to the last position of the previous chunk.
+     */
+    private void shiftLeft(int index) {
+        for (int chunk = index >>> chunkShift; chunk <= (size - 1) >>> chunkShift; chunk++) {
+            int chunkStart = chunk << chunkShift;
+            int from = Math.max(index + 1, chunkStart);
+            int to = Math.min(size, chunkStart + chunkMask + 1);
+            if (from >= to) {
+                continue;
+            }
+            if (from == chunkStart) {
+                copy(from, from - 1);
+                from++;
+            }
+            moveWithinChunk(chunks[chunk], from & chunkMask, (from & chunkMask) - 1, to - from);
+        }
+    }
+
+    /**
+     * Copies count elements inside one chunk with a single bulk {@link ByteBuffer#put(ByteBuffer)}. Both buffers are
+     * views of the same direct memory, and a direct-to-direct bulk copy handles overlapping regions like memmove.
+     */
+    private void moveWithinChunk(ByteBuffer chunk, int fromPosition, int toPosition, int count) {
+        if (count <= 0) {
+            return;
+        }
+        ByteBuffer source = chunk.duplicate();
+        source.limit(fromPosition * width + count * width).position(fromPosition * width);
+        ByteBuffer target = chunk.duplicate();
+        target.position(toPosition * width);
+        target.put(source);
+    }
+
+    private void copy(int fromIndex, int toIndex) {
+        ByteBuffer from = chunks[fromIndex >>> chunkShift];
+        ByteBuffer to = chunks[toIndex >>> chunkShift];
+        int fromOffset = (fromIndex & chunkMask) * width;
+        int toOffset = (toIndex & chunkMask) * width;
+        int i = 0;
+        for (; i + Long.BYTES <= width; i += Long.BYTES) {
+            to.putLong(toOffset + i, from.getLong(fromOffset + i));
+        }
+        for (; i < width; i++) {
+            to.put(toOffset + i, from.get(fromOffset + i));
+        }
+    }
+
+    private class OffHeapListIterator implements Iterator<T> {
+        private int cursor;
+        private int lastReturned = -1;
+        private int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return cursor < size;
+        }
+
+        @Override
+        public T next() {
+            checkForComodification();
+            if (cursor >= size) {
+                throw new NoSuchElementException();
+            }
+            lastReturned = cursor++;
+            return read(lastReturned);
+        }
+
+        @Override
+        public void remove() {
+            if (lastReturned < 0) {
+                throw new IllegalStateException();
+            }
+            checkForComodification();
+            OffHeapList.this.remove(lastReturned);
+            cursor = lastReturned;
+            lastReturned = -1;
+            expectedModCount = modCount;
+        }
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+}
@@ -7,7 +7,11 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestMethodOrder;
 
 import java.lang.reflect.Field;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.stream.StreamSupport;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatExceptionOfType;
@@ -361,6 +365,221 @@ class ArrayListTest {
                 .isThrownBy(() -> arrayList.get(0));
     }
 
+    @Test
+    @Order(37)
+    void addToTheBeginningKeepsAllElements() {
+        fillTestArray(4, 5, 6);
+
+        arrayList.add(0, 3);
+
+        assertThat(getTestSize()).isEqualTo(4);
+        assertThat(getTestArray()).startsWith(3, 4, 5, 6);
+    }
+
+    @Test
+    @Order(38)
+    void addAllResizesArrayOnce() {
+        ArrayList<Integer> list = new ArrayList<>(2);
+        arrayList = list;
+
+        list.addAll(new Integer[]{1, 2, 3, 4, 5, 6, 7});
+
+        assertThat(getTestSize()).isEqualTo(7);
+        assertThat(getTestArray()).startsWith(1, 2, 3, 4, 5, 6, 7);
+    }
+
+    @Test
+    @Order(39)
+    void insertAll() {
+        ArrayList<Integer> list = new ArrayList<>();
+        list.addAll(new Integer[]{1, 2, 6});
+        arrayList = list;
+
+        list.insertAll(2, new Integer[]{3, 4, 5});
+        list.insertAll(0, new Integer[]{0});
+        list.insertAll(7, new Integer[]{7, 8});
+
+        assertThat(getTestSize()).isEqualTo(9);
+        assertThat(getTestArray()).startsWith(0, 1, 2, 3, 4, 5, 6, 7, 8);
+    }
+
+    @Test
+    @Order(40)
+    void insertAllThrowsExceptionWhenIndexIsOutOfBounds() {
+        ArrayList<Integer> list = new ArrayList<>();
+
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> list.insertAll(1, new Integer[]{1}));
+    }
+
+    @Test
+    @Order(41)
+    void removeRange() {
+        fillTestArray(1, 2, 3, 4, 5, 6);
+
+        ((ArrayList<Integer>) arrayList).removeRange(1, 4);
+
+        assertThat(getTestSize()).isEqualTo(3);
+        assertThat(getTestArray()).containsExactly(1, 5, 6, null, null, null);
+    }
+
+    @Test
+    @Order(42)
+    void removeRangeThrowsExceptionWhenRangeIsInvalid() {
+        fillTestArray(1, 2, 3);
+        ArrayList<Integer> list = (ArrayList<Integer>) arrayList;
+
+        assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> list.removeRange(2, 1));
+        assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> list.removeRange(0, 4));
+    }
+
+    @Test
+    @Order(43)
+    void removeClearsVacatedSlot() {
+        fillTestArray(1, 2, 3);
+
+        arrayList.remove(0);
+
+        assertThat(getTestArray()).containsExactly(2, 3, null);
+    }
+
+    @Test
+    @Order(44)
+    void ensureCapacity() {
+        ArrayList<Integer> list = new ArrayList<>();
+        arrayList = list;
+
+        list.ensureCapacity(100);
+
+        assertThat(getTestArray().length).isGreaterThanOrEqualTo(100);
+    }
+
+    @Test
+    @Order(45)
+    void trimToSize() {
+        ArrayList<Integer> list = new ArrayList<>(20);
+        arrayList = list;
+        list.add(1);
+        list.add(2);
+
+        list.trimToSize();
+        list.add(3);
+
+        assertThat(list.size()).isEqualTo(3);
+        assertThat(list.get(2)).isEqualTo(3);
+    }
+
+    @Test
+    @Order(46)
+    void growthPolicyLimitsResizeStep() {
+        ArrayList<Integer> list = new ArrayList<>(100, GrowthPolicy.of(2.0, 10));
+        arrayList = list;
+        for (int i = 0; i < 101; i++) {
+            list.add(i);
+        }
+
+        assertThat(getTestArray().length).isEqualTo(110);
+    }
+
+    @Test
+    @Order(47)
+    void growthPolicyWithWrongParameters() {
+        assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> GrowthPolicy.of(1.0));
+        assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> GrowthPolicy.of(2.0, 0));
+    }
+
+    @Test
+    @Order(48)
+    void spliteratorSplitsByIndexRange() {
+        arrayList = ArrayList.of(1, 2, 3, 4, 5, 6, 7, 8);
+
+        Spliterator<Integer> suffix = arrayList.spliterator();
+        Spliterator<Integer> prefix = suffix.trySplit();
+
+        assertThat(prefix.getExactSizeIfKnown()).isEqualTo(4);
+        assertThat(suffix.getExactSizeIfKnown()).isEqualTo(4);
+        assertThat(suffix.hasCharacteristics(Spliterator.SUBSIZED)).isTrue();
+        assertThat(StreamSupport.stream(prefix, false).toArray()).containsExactly(1, 2, 3, 4);
+        assertThat(StreamSupport.stream(suffix, false).toArray()).containsExactly(5, 6, 7, 8);
+    }
+
+    @Test
+    @Order(49)
+    void parallelStreamSumsAllElements() {
+        int count = 1_000_000;
+        for (int i = 0; i < count; i++) {
+            arrayList.add(i);
+        }
+
+        long sum = arrayList.parallelStream().mapToLong(Integer::longValue).sum();
+
+        assertThat(sum).isEqualTo((long) count * (count - 1) / 2);
+        assertThat(arrayList.stream().count()).isEqualTo(count);
+    }
+
+    @Test
+    @Order(50)
+    void iteratorReturnsElementsInOrder() {
+        arrayList = ArrayList.of(4, 5, 6);
+
+        Iterator<Integer> iterator = arrayList.iterator();
+
+        assertThat(iterator.next()).isEqualTo(4);
+        assertThat(iterator.next()).isEqualTo(5);
+        assertThat(iterator.next()).isEqualTo(6);
+        assertThat(iterator.hasNext()).isFalse();
+        assertThatExceptionOfType(NoSuchElementException.class).isThrownBy(iterator::next);
+    }
+
+    @Test
+    @Order(51)
+    void iteratorIsFailFast() {
+        arrayList = ArrayList.of(4, 5, 6);
+
+        Iterator<Integer> iterator = arrayList.iterator();
+        iterator.next();
+        arrayList.add(7);
+
+        assertThatExceptionOfType(ConcurrentModificationException.class).isThrownBy(iterator::next);
+    }
+
+    @Test
+    @Order(52)
+    void iteratorRemovesElements() {
+        arrayList = ArrayList.of(1, 2, 3, 4, 5, 6);
+
+        Iterator<Integer> iterator = arrayList.iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next() % 2 == 0) {
+                iterator.remove();
+            }
+        }
+
+        assertThat(getTestSize()).isEqualTo(3);
+        assertThat(arrayList.stream().toArray()).containsExactly(1, 3, 5);
+        assertThatExceptionOfType(IllegalStateException.class).isThrownBy(iterator::remove);
+    }
+
+    @Test
+    @Order(53)
+    void spliteratorIsLateBindingAndFailFast() {
+        arrayList = ArrayList.of(4, 5, 6);
+
+        Spliterator<Integer> spliterator = arrayList.spliterator();
+        arrayList.add(7);
+        assertThat(StreamSupport.stream(spliterator, false).toArray()).containsExactly(4, 5, 6, 7);
+
+        assertThatExceptionOfType(ConcurrentModificationException.class).isThrownBy(() ->
+                arrayList.stream().forEach(e -> arrayList.add(e)));
+        Spliterator<Integer> advancing = arrayList.spliterator();
+        advancing.tryAdvance(e -> {
+        });
+        arrayList.remove(0);
+        assertThatExceptionOfType(ConcurrentModificationException.class).isThrownBy(() ->
+                advancing.tryAdvance(e -> {
+                }));
+    }
+
     @SneakyThrows
     private void setTestSize(int size) {
         Field sizeField = arrayList.getClass().getDeclaredField("size");
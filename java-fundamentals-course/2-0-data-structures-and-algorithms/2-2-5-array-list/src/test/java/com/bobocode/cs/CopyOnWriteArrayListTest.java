@@ -0,0 +1,127 @@
+package com.bobocode.cs;
+
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * A test class for {@link CopyOnWriteArrayList}.
+ */
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class CopyOnWriteArrayListTest {
+
+    private CopyOnWriteArrayList<Integer> list = new CopyOnWriteArrayList<>();
+
+    @Test
+    @Order(1)
+    void addGetAndRemove() {
+        list.add(1);
+        list.add(3);
+        list.add(1, 2);
+        list.add(0, 0);
+
+        assertThat(list.size()).isEqualTo(4);
+        assertThat(list.getFirst()).isEqualTo(0);
+        assertThat(list.getLast()).isEqualTo(3);
+        assertThat(list.remove(1)).isEqualTo(1);
+        assertThat(list.stream().toArray()).containsExactly(0, 2, 3);
+        assertThat(list.contains(2)).isTrue();
+        assertThat(list.contains(1)).isFalse();
+    }
+
+    @Test
+    @Order(2)
+    void emptyList() {
+        assertThat(list.isEmpty()).isTrue();
+        assertThat(list.iterator().hasNext()).isFalse();
+        assertThatExceptionOfType(NoSuchElementException.class).isThrownBy(() -> list.getFirst());
+        assertThatExceptionOfType(NoSuchElementException.class).isThrownBy(() -> list.getLast());
+        assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> list.get(0));
+        assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> list.add(1, 1));
+    }
+
+    @Test
+    @Order(3)
+    void setAndClear() {
+        list = CopyOnWriteArrayList.of(1, 2, 3);
+
+        list.set(1, 20);
+
+        assertThat(list.get(1)).isEqualTo(20);
+        assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> list.set(3, 1));
+
+        list.clear();
+
+        assertThat(list.size()).isEqualTo(0);
+    }
+
+    @Test
+    @Order(4)
+    void iteratorReturnsSnapshot() {
+        list = CopyOnWriteArrayList.of(1, 2, 3);
+
+        Iterator<Integer> iterator = list.iterator();
+        list.remove(0);
+        list.add(4);
+        list.set(0, 20);
+
+        assertThat(iterator.next()).isEqualTo(1);
+        assertThat(iterator.next()).isEqualTo(2);
+        assertThat(iterator.next()).isEqualTo(3);
+        assertThat(iterator.hasNext()).isFalse();
+        assertThatExceptionOfType(UnsupportedOperationException.class).isThrownBy(iterator::remove);
+        assertThat(list.stream().toArray()).containsExactly(20, 3, 4);
+    }
+
+    @Test
+    @Order(5)
+    void concurrentReadersNeverSeeTornState() throws Exception {
+        int writes = 2_000;
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            Future<?> writer = executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < writes; i++) {
+                    list.add(i);
+                }
+                return null;
+            });
+            Future<?>[] readers = new Future<?>[3];
+            for (int r = 0; r < readers.length; r++) {
+                readers[r] = executor.submit(() -> {
+                    start.await();
+                    while (!writer.isDone()) {
+                        int expected = 0;
+                        for (Integer element : list) {
+                            assertThat(element).isEqualTo(expected++);
+                        }
+                    }
+                    return null;
+                });
+            }
+            start.countDown();
+
+            writer.get(10, TimeUnit.SECONDS);
+            for (Future<?> reader : readers) {
+                reader.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(list.size()).isEqualTo(writes);
+    }
+}
@@ -0,0 +1,169 @@
+package com.bobocode.cs;
+
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import java.util.NoSuchElementException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+/**
+ * A test class for {@link IntArrayList}.
+ */
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class IntArrayListTest {
+
+    private IntArrayList intList = new IntArrayList();
+
+    @Test
+    @Order(1)
+    void add() {
+        intList.add(10);
+        intList.add(15);
+        intList.add(20);
+
+        assertThat(intList.toArray()).containsExactly(10, 15, 20);
+        assertThat(intList.size()).isEqualTo(3);
+    }
+
+    @Test
+    @Order(2)
+    void addResizesInnerArray() {
+        for (int i = 0; i < 1000; i++) {
+            intList.add(i);
+        }
+
+        assertThat(intList.size()).isEqualTo(1000);
+        assertThat(intList.get(999)).isEqualTo(999);
+    }
+
+    @Test
+    @Order(3)
+    void of() {
+        intList = IntArrayList.of(15, 69, 58, 78);
+
+        assertThat(intList.toArray()).containsExactly(15, 69, 58, 78);
+    }
+
+    @Test
+    @Order(4)
+    void ofWithoutElements() {
+        intList = IntArrayList.of();
+
+        assertThat(intList.isEmpty()).isTrue();
+    }
+
+    @Test
+    @Order(5)
+    void constructorThrowsExceptionWhenCapacityIsNotPositive() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new IntArrayList(0));
+        assertThatIllegalArgumentException().isThrownBy(() -> new IntArrayList(-1));
+    }
+
+    @Test
+    @Order(6)
+    void addByIndex() {
+        intList = IntArrayList.of(1, 2, 4, 5);
+
+        intList.add(2, 3);
+        intList.add(0, 0);
+        intList.add(6, 6);
+
+        assertThat(intList.toArray()).containsExactly(0, 1, 2, 3, 4, 5, 6);
+    }
+
+    @Test
+    @Order(7)
+    void addByIndexThrowsExceptionWhenIndexIsOutOfBounds() {
+        intList = IntArrayList.of(1, 2);
+
+        assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> intList.add(3, 5));
+        assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> intList.add(-1, 5));
+    }
+
+    @Test
+    @Order(8)
+    void addAll() {
+        intList.add(1);
+
+        intList.addAll(new int[]{2, 3, 4, 5, 6, 7, 8});
+
+        assertThat(intList.toArray()).containsExactly(1, 2, 3, 4, 5, 6, 7, 8);
+    }
+
+    @Test
+    @Order(9)
+    void setAndGet() {
+        intList = IntArrayList.of(1, 2, 3);
+
+        intList.set(1, 20);
+
+        assertThat(intList.get(1)).isEqualTo(20);
+        assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> intList.set(3, 5));
+        assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> intList.get(3));
+    }
+
+    @Test
+    @Order(10)
+    void getFirstAndLast() {
+        intList = IntArrayList.of(31, 24, 42);
+
+        assertThat(intList.getFirst()).isEqualTo(31);
+        assertThat(intList.getLast()).isEqualTo(42);
+    }
+
+    @Test
+    @Order(11)
+    void getFirstAndLastThrowExceptionWhenListIsEmpty() {
+        assertThatExceptionOfType(NoSuchElementException.class).isThrownBy(() -> intList.getFirst());
+        assertThatExceptionOfType(NoSuchElementException.class).isThrownBy(() -> intList.getLast());
+    }
+
+    @Test
+    @Order(12)
+    void remove() {
+        intList = IntArrayList.of(1, 2, 3, 4);
+
+        assertThat(intList.remove(1)).isEqualTo(2);
+        assertThat(intList.remove(2)).isEqualTo(4);
+        assertThat(intList.toArray()).containsExactly(1, 3);
+        assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> intList.remove(2));
+    }
+
+    @Test
+    @Order(13)
+    void contains() {
+        intList = IntArrayList.of(1, 2, 3);
+
+        assertThat(intList.contains(2)).isTrue();
+        assertThat(intList.contains(4)).isFalse();
+    }
+
+    @Test
+    @Order(14)
+    void clear() {
+        intList = IntArrayList.of(1, 2, 3);
+
+        intList.clear();
+
+        assertThat(intList.isEmpty()).isTrue();
+        assertThat(intList.contains(1)).isFalse();
+        assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> intList.get(0));
+    }
+
+    @Test
+    @Order(15)
+    void toArrayReturnsCopy() {
+        intList = IntArrayList.of(1, 2, 3);
+
+        int[] array = intList.toArray();
+        array[0] = 100;
+
+        assertThat(array).hasSize(3);
+        assertThat(intList.get(0)).isEqualTo(1);
+    }
+}
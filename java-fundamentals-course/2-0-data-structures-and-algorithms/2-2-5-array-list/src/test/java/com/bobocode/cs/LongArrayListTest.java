@@ -0,0 +1,179 @@
+package com.bobocode.cs;
+
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import java.util.NoSuchElementException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+/**
+ * A test class for {@link LongArrayList}.
+ */
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class LongArrayListTest {
+
+    private LongArrayList longList = new LongArrayList();
+
+    @Test
+    @Order(1)
+    void add() {
+        longList.add(10);
+        longList.add(15);
+        longList.add(20);
+
+        assertThat(longList.toArray()).containsExactly(10, 15, 20);
+        assertThat(longList.size()).isEqualTo(3);
+    }
+
+    @Test
+    @Order(2)
+    void addResizesInnerArray() {
+        for (int i = 0; i < 1000; i++) {
+            longList.add(i);
+        }
+
+        assertThat(longList.size()).isEqualTo(1000);
+        assertThat(longList.get(999)).isEqualTo(999);
+    }
+
+    @Test
+    @Order(3)
+    void of() {
+        longList = LongArrayList.of(15, 69, 58, 78);
+
+        assertThat(longList.toArray()).containsExactly(15, 69, 58, 78);
+    }
+
+    @Test
+    @Order(4)
+    void ofWithoutElements() {
+        longList = LongArrayList.of();
+
+        assertThat(longList.isEmpty()).isTrue();
+    }
+
+    @Test
+    @Order(5)
+    void constructorThrowsExceptionWhenCapacityIsNotPositive() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new LongArrayList(0));
+        assertThatIllegalArgumentException().isThrownBy(() -> new LongArrayList(-1));
+    }
+
+    @Test
+    @Order(6)
+    void addByIndex() {
+        longList = LongArrayList.of(1, 2, 4, 5);
+
+        longList.add(2, 3);
+        longList.add(0, 0);
+        longList.add(6, 6);
+
+        assertThat(longList.toArray()).containsExactly(0, 1, 2, 3, 4, 5, 6);
+    }
+
+    @Test
+    @Order(7)
+    void addByIndexThrowsExceptionWhenIndexIsOutOfBounds() {
+        longList = LongArrayList.of(1, 2);
+
+        assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> longList.add(3, 5));
+        assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> longList.add(-1, 5));
+    }
+
+    @Test
+    @Order(8)
+    void addAll() {
+        longList.add(1);
+
+        longList.addAll(new long[]{2, 3, 4, 5, 6, 7, 8});
+
+        assertThat(longList.toArray()).containsExactly(1, 2, 3, 4, 5, 6, 7, 8);
+    }
+
+    @Test
+    @Order(9)
+    void setAndGet() {
+        longList = LongArrayList.of(1, 2, 3);
+
+        longList.set(1, 20);
+
+        assertThat(longList.get(1)).isEqualTo(20);
+        assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> longList.set(3, 5));
+        assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> longList.get(3));
+    }
+
+    @Test
+    @Order(10)
+    void getFirstAndLast() {
+        longList = LongArrayList.of(31, 24, 42);
+
+        assertThat(longList.getFirst()).isEqualTo(31);
+        assertThat(longList.getLast()).isEqualTo(42);
+    }
+
+    @Test
+    @Order(11)
+    void getFirstAndLastThrowExceptionWhenListIsEmpty() {
+        assertThatExceptionOfType(NoSuchElementException.class).isThrownBy(() -> longList.getFirst());
+        assertThatExceptionOfType(NoSuchElementException.class).isThrownBy(() -> longList.getLast());
+    }
+
+    @Test
+    @Order(12)
+    void remove() {
+        longList = LongArrayList.of(1, 2, 3, 4);
+
+        assertThat(longList.remove(1)).isEqualTo(2);
+        assertThat(longList.remove(2)).isEqualTo(4);
+        assertThat(longList.toArray()).containsExactly(1, 3);
+        assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> longList.remove(2));
+    }
+
+    @Test
+    @Order(13)
+    void contains() {
+        longList = LongArrayList.of(1, 2, 3);
+
+        assertThat(longList.contains(2)).isTrue();
+        assertThat(longList.contains(4)).isFalse();
+    }
+
+    @Test
+    @Order(14)
+    void clear() {
+        longList = LongArrayList.of(1, 2, 3);
+
+        longList.clear();
+
+        assertThat(longList.isEmpty()).isTrue();
+        assertThat(longList.contains(1)).isFalse();
+        assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> longList.get(0));
+    }
+
+    @Test
+    @Order(15)
+    void toArrayReturnsCopy() {
+        longList = LongArrayList.of(1, 2, 3);
+
+        long[] array = longList.toArray();
+        array[0] = 100;
+
+        assertThat(array).hasSize(3);
+        assertThat(longList.get(0)).isEqualTo(1);
+    }
+
+    @Test
+    @Order(16)
+    void storesValuesOutsideOfIntRange() {
+        longList = LongArrayList.of(Long.MIN_VALUE, Integer.MAX_VALUE + 1L, Long.MAX_VALUE);
+
+        assertThat(longList.contains(Integer.MAX_VALUE + 1L)).isTrue();
+        assertThat(longList.contains(Integer.MIN_VALUE)).isFalse();
+        assertThat(longList.getLast()).isEqualTo(Long.MAX_VALUE);
+    }
+}
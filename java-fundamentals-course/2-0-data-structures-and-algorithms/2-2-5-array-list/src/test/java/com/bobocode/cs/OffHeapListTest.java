@@ -0,0 +1,303 @@
+package com.bobocode.cs;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import java.nio.ByteBuffer;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+/**
+ * A test class for {@link OffHeapList}.
+ */
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class OffHeapListTest {
+
+    private OffHeapList<Long> longList = new OffHeapList<>(ElementCodec.LONG, 4);
+
+    @AfterEach
+    void tearDown() {
+        longList.close();
+    }
+
+    @Test
+    @Order(1)
+    void add() {
+        longList.add(10L);
+        longList.add(15L);
+        longList.add(20L);
+
+        assertThat(longList.size()).isEqualTo(3);
+        assertThat(longList.get(0)).isEqualTo(10L);
+        assertThat(longList.get(1)).isEqualTo(15L);
+        assertThat(longList.get(2)).isEqualTo(20L);
+    }
+
+    @Test
+    @Order(2)
+    void addGrowsAcrossChunks() {
+        for (long i = 0; i < 100; i++) {
+            longList.add(i);
+        }
+
+        assertThat(longList.size()).isEqualTo(100);
+        for (int i = 0; i < 100; i++) {
+            assertThat(longList.get(i)).isEqualTo(i);
+        }
+    }
+
+    @Test
+    @Order(3)
+    void addNullThrowsException() {
+        assertThatNullPointerException().isThrownBy(() -> longList.add(null));
+    }
+
+    @Test
+    @Order(4)
+    void addByIndexShiftsTailAcrossChunks() {
+        for (long i = 0; i < 10; i++) {
+            longList.add(i);
+        }
+
+        longList.add(0, -1L);
+        longList.add(5, 100L);
+        longList.add(12, 200L);
+
+        assertThat(longList.size()).isEqualTo(13);
+        assertThat(longList.getFirst()).isEqualTo(-1L);
+        assertThat(longList.get(4)).isEqualTo(3L);
+        assertThat(longList.get(5)).isEqualTo(100L);
+        assertThat(longList.get(6)).isEqualTo(4L);
+        assertThat(longList.get(11)).isEqualTo(9L);
+        assertThat(longList.getLast()).isEqualTo(200L);
+    }
+
+    @Test
+    @Order(5)
+    void addByIndexThrowsExceptionWhenIndexIsOutOfBounds() {
+        longList.add(1L);
+
+        assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> longList.add(2, 5L));
+        assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> longList.add(-1, 5L));
+    }
+
+    @Test
+    @Order(6)
+    void set() {
+        longList.add(1L);
+        longList.add(2L);
+
+        longList.set(1, 20L);
+
+        assertThat(longList.get(1)).isEqualTo(20L);
+        assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> longList.set(2, 5L));
+    }
+
+    @Test
+    @Order(7)
+    void getThrowsExceptionWhenIndexIsOutOfBounds() {
+        assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> longList.get(0));
+    }
+
+    @Test
+    @Order(8)
+    void getFirstAndLastThrowExceptionWhenListIsEmpty() {
+        assertThatExceptionOfType(NoSuchElementException.class).isThrownBy(() -> longList.getFirst());
+        assertThatExceptionOfType(NoSuchElementException.class).isThrownBy(() -> longList.getLast());
+    }
+
+    @Test
+    @Order(9)
+    void remove() {
+        for (long i = 0; i < 10; i++) {
+            longList.add(i);
+        }
+
+        assertThat(longList.remove(2)).isEqualTo(2L);
+        assertThat(longList.remove(8)).isEqualTo(9L);
+
+        assertThat(longList.size()).isEqualTo(8);
+        assertThat(longList.get(2)).isEqualTo(3L);
+        assertThat(longList.getLast()).isEqualTo(8L);
+        assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> longList.remove(8));
+    }
+
+    @Test
+    @Order(10)
+    void contains() {
+        longList.add(3L);
+        longList.add(5L);
+
+        assertThat(longList.contains(5L)).isTrue();
+        assertThat(longList.contains(4L)).isFalse();
+    }
+
+    @Test
+    @Order(11)
+    void clear() {
+        for (long i = 0; i < 10; i++) {
+            longList.add(i);
+        }
+
+        longList.clear();
+        longList.add(42L);
+
+        assertThat(longList.size()).isEqualTo(1);
+        assertThat(longList.get(0)).isEqualTo(42L);
+    }
+
+    @Test
+    @Order(12)
+    void closedListThrowsException() {
+        longList.add(1L);
+
+        longList.close();
+
+        assertThatIllegalStateException().isThrownBy(() -> longList.get(0));
+        assertThatIllegalStateException().isThrownBy(() -> longList.add(1L));
+        assertThatIllegalStateException().isThrownBy(() -> longList.getFirst());
+        assertThatIllegalStateException().isThrownBy(() -> longList.getLast());
+        assertThat(longList.isEmpty()).isTrue();
+    }
+
+    @Test
+    @Order(13)
+    void doubleCodec() {
+        try (OffHeapList<Double> doubleList = new OffHeapList<>(ElementCodec.DOUBLE)) {
+            doubleList.add(1.5);
+            doubleList.add(0, -2.25);
+
+            assertThat(doubleList.get(0)).isEqualTo(-2.25);
+            assertThat(doubleList.get(1)).isEqualTo(1.5);
+        }
+    }
+
+    @Test
+    @Order(14)
+    void customStructCodec() {
+        try (OffHeapList<Point> points = new OffHeapList<>(new PointCodec(), 2)) {
+            points.add(new Point(1L, 10));
+            points.add(new Point(2L, 20));
+            points.add(1, new Point(3L, 30));
+
+            assertThat(points.get(1)).isEqualTo(new Point(3L, 30));
+            assertThat(points.get(2)).isEqualTo(new Point(2L, 20));
+            assertThat(points.contains(new Point(1L, 10))).isTrue();
+        }
+    }
+
+    @Test
+    @Order(15)
+    void constructorThrowsExceptionWhenChunkCapacityIsNotPositive() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new OffHeapList<>(ElementCodec.LONG, 0));
+    }
+
+    @Test
+    @Order(16)
+    void randomInsertsAndRemovesMatchJdkList() {
+        java.util.List<Long> expected = new java.util.ArrayList<>();
+        Random random = new Random(42);
+        for (int i = 0; i < 2000; i++) {
+            if (expected.isEmpty() || random.nextInt(3) > 0) {
+                int index = random.nextInt(expected.size() + 1);
+                longList.add(index, (long) i);
+                expected.add(index, (long) i);
+            } else {
+                int index = random.nextInt(expected.size());
+                assertThat(longList.remove(index)).isEqualTo(expected.remove(index));
+            }
+        }
+
+        assertThat(longList.size()).isEqualTo(expected.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertThat(longList.get(i)).isEqualTo(expected.get(i));
+        }
+    }
+
+    @Test
+    @Order(17)
+    void iteratorIsFailFast() {
+        longList.add(4L);
+        longList.add(5L);
+        longList.add(6L);
+
+        Iterator<Long> iterator = longList.iterator();
+        iterator.next();
+        longList.add(1, 7L);
+
+        assertThatExceptionOfType(ConcurrentModificationException.class).isThrownBy(iterator::next);
+    }
+
+    @Test
+    @Order(18)
+    void iteratorRemovesElements() {
+        for (long i = 0; i < 10; i++) {
+            longList.add(i);
+        }
+
+        Iterator<Long> iterator = longList.iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next() % 2 == 0) {
+                iterator.remove();
+            }
+        }
+
+        assertThat(longList.size()).isEqualTo(5);
+        for (int i = 0; i < 5; i++) {
+            assertThat(longList.get(i)).isEqualTo(2L * i + 1);
+        }
+    }
+
+    private static class Point {
+        final long id;
+        final int value;
+
+        Point(long id, int value) {
+            this.id = id;
+            this.value = value;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Point)) return false;
+            Point point = (Point) o;
+            return id == point.id && value == point.value;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(id, value);
+        }
+    }
+
+    private static class PointCodec implements ElementCodec<Point> {
+        @Override
+        public int width() {
+            return Long.BYTES + Integer.BYTES;
+        }
+
+        @Override
+        public void write(ByteBuffer buffer, int offset, Point element) {
+            buffer.putLong(offset, element.id);
+            buffer.putInt(offset + Long.BYTES, element.value);
+        }
+
+        @Override
+        public Point read(ByteBuffer buffer, int offset) {
+            return new Point(buffer.getLong(offset), buffer.getInt(offset + Long.BYTES));
+        }
+    }
+}
@@ -0,0 +1,234 @@
+package com.bobocode.cs;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * {@link AvlBinarySearchTree} is a self-balancing implementation of a {@link BinarySearchTree}. Like
+ * {@link RecursiveBinarySearchTree}, it is based on linked nodes, but every node also stores the height of its
+ * subtree. After each insertion the heights of the left and right subtrees of any node differ by at most one, which is
+ * restored with rotations on the way back from the inserted node to the root.
+ * <p>
+ * The depth of the tree never exceeds {@code 1.44 * log2(n)}, so {@link AvlBinarySearchTree#insert(Comparable)} and
+ * {@link AvlBinarySearchTree#contains(Comparable)} take O(log n) even when elements are inserted in sorted order, and
+ * recursion is never deeper than a few dozen calls.
+ *
+ * @param <T> a type of elements that are stored in the tree
+ */
+public class AvlBinarySearchTree<T extends Comparable<T>> implements BinarySearchTree<T> {
+
+    private static class Node<T> {
+        T element;
+        Node<T> left;
+        Node<T> right;
+        int height = 1;
+
+        Node(T element) {
+            this.element = element;
+        }
+    }
+
+    private Node<T> root;
+    private int size;
+
+    @SafeVarargs
+    public static <T extends Comparable<T>> AvlBinarySearchTree<T> of(T... elements) {
+        AvlBinarySearchTree<T> avlBinarySearchTree = new AvlBinarySearchTree<>();
+        for (T e : elements) {
+            avlBinarySearchTree.insert(e);
+        }
+        return avlBinarySearchTree;
+    }
+
+    @Override
+    public boolean insert(T element) {
+        Objects.requireNonNull(element);
+        int sizeBefore = size;
+        root = insert(root, element);
+        return size > sizeBefore;
+    }
+
+    private Node<T> insert(Node<T> node, T element) {
+        if (node == null) {
+            size++;
+            return new Node<>(element);
+        }
+        int cmp = element.compareTo(node.element);
+        if (cmp < 0) {
+            node.left = insert(node.left, element);
+        } else if (cmp > 0) {
+            node.right = insert(node.right, element);
+        } else {
+            return node;
+        }
+        return balance(node);
+    }
+
+    private Node<T> balance(Node<T> node) {
+        updateHeight(node);
+        int balanceFactor = height(node.left) - height(node.right);
+        if (balanceFactor > 1) {
+            if (height(node.left.left) < height(node.left.right)) {
+                node.left = rotateLeft(node.left);
+            }
+            return rotateRight(node);
+        } else if (balanceFactor < -1) {
+            if (height(node.right.right) < height(node.right.left)) {
+                node.right = rotateRight(node.right);
+            }
+            return rotateLeft(node);
+        }
+        return node;
+    }
+
+    private Node<T> rotateRight(Node<T> node) {
+        Node<T> newRoot = node.left;
+        node.left = newRoot.right;
+        newRoot.right = node;
+        updateHeight(node);
+        updateHeight(newRoot);
+        return newRoot;
+    }
+
+    private Node<T> rotateLeft(Node<T> node) {
+        Node<T> newRoot = node.right;
+        node.right = newRoot.left;
+        newRoot.left = node;
+        updateHeight(node);
+        updateHeight(newRoot);
+        return newRoot;
+    }
+
+    private void updateHeight(Node<T> node) {
+        node.height = 1 + Math.max(height(node.left), height(node.right));
+    }
+
+    private int height(Node<T> node) {
+        return node != null ? node.height : 0;
+    }
+
+    @Override
+    public boolean contains(T element) {
+        Objects.requireNonNull(element);
+        Node<T> current = root;
+        while (current != null) {
+            int cmp = element.compareTo(current.element);
+            if (cmp == 0) {
+                return true;
+            }
+            current = cmp < 0 ? current.left : current.right;
+        }
+        return false;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public int depth() {
+        return root != null ? root.height - 1 : 0;
+    }
+
+    @Override
+    public void inOrderTraversal(Consumer<T> consumer) {
+        inOrderTraversal(root, consumer);
+    }
+
+    private void inOrderTraversal(Node<T> node, Consumer<T> consumer) {
+        if (node != null) {
+            inOrderTraversal(node.left, consumer);
+            consumer.accept(node.element);
+            inOrderTraversal(node.right, consumer);
+        }
+    }
+
+    @Override
+    public T floor(T element) {
+        Objects.requireNonNull(element);
+        T floor = null;
+        Node<T> current = root;
+        while (current != null) {
+            int cmp = element.compareTo(current.element);
+            if (cmp == 0) {
+                return current.element;
+            } else if (cmp < 0) {
+                current = current.left;
+            } else {
+                floor = current.element;
+                current = current.right;
+            }
+        }
+        return floor;
+    }
+
+    @Override
+    public T ceiling(T element) {
+        Objects.requireNonNull(element);
+        T ceiling = null;
+        Node<T> current = root;
+        while (current != null) {
+            int cmp = element.compareTo(current.element);
+            if (cmp == 0) {
+                return current.element;
+            } else if (cmp > 0) {
+                current = current.right;
+            } else {
+                ceiling = current.element;
+                current = current.left;
+            }
+        }
+        return ceiling;
+    }
+
+    @Override
+    public T min() {
+        if (root == null) {
+            throw new NoSuchElementException();
+        }
+        Node<T> current = root;
+        while (current.left != null) {
+            current = current.left;
+        }
+        return current.element;
+    }
+
+    @Override
+    public T max() {
+        if (root == null) {
+            throw new NoSuchElementException();
+        }
+        Node<T> current = root;
+        while (current.right != null) {
+            current = current.right;
+        }
+        return current.element;
+    }
+
+    @Override
+    public void rangeTraversal(T from, T to, Consumer<T> consumer) {
+        if (from.compareTo(to) > 0) {
+            throw new IllegalArgumentException("from is greater than to");
+        }
+        new InOrderIterator<>(root, node -> node.left, node -> node.right, node -> node.element, from, to)
+                .forEachRemaining(consumer);
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new InOrderIterator<>(root, node -> node.left, node -> node.right, node -> node.element);
+    }
+
+    /**
+     * Returns a spliterator that splits by subtree, so a parallel stream processes different subtrees in different
+     * threads without copying elements.
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return new SubtreeSpliterator<>(root, node -> node.left, node -> node.right, node -> node.element, size);
+    }
+}
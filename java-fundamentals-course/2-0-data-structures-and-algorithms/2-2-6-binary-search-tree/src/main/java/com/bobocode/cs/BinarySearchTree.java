@@ -1,8 +1,14 @@
 package com.bobocode.cs;
 
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
-public interface BinarySearchTree<T extends Comparable<T>> {
+public interface BinarySearchTree<T extends Comparable<T>> extends Iterable<T> {
     /**
      * insert an element
      * @return true if element did not exist in the tree and was inserted successfully
@@ -29,4 +35,60 @@ public interface BinarySearchTree<T extends Comparable<T>> {
      * @param consumer accepts ref. to node during traversing
      */
     void inOrderTraversal(Consumer<T> consumer);
+
+    /**
+     * @return the greatest element that is less than or equal to the given one, or null if there is no such element
+     */
+    T floor(T element);
+
+    /**
+     * @return the least element that is greater than or equal to the given one, or null if there is no such element
+     */
+    T ceiling(T element);
+
+    /**
+     * @return the least element of the tree
+     * @throws NoSuchElementException if the tree is empty
+     */
+    T min();
+
+    /**
+     * @return the greatest element of the tree
+     * @throws NoSuchElementException if the tree is empty
+     */
+    T max();
+
+    /**
+     * traverse elements between from and to (both inclusive) in element's natural order. Subtrees that are entirely
+     * out of the range are not visited
+     * @param consumer accepts ref. to node during traversing
+     * @throws IllegalArgumentException if from is greater than to
+     */
+    void rangeTraversal(T from, T to, Consumer<T> consumer);
+
+    /**
+     * @return a lazy iterator over elements in their natural order
+     */
+    @Override
+    Iterator<T> iterator();
+
+    @Override
+    default Spliterator<T> spliterator() {
+        return Spliterators.spliterator(iterator(), size(),
+                Spliterator.ORDERED | Spliterator.SORTED | Spliterator.DISTINCT | Spliterator.NONNULL);
+    }
+
+    /**
+     * @return a sequential stream over elements in their natural order
+     */
+    default Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * @return a possibly parallel stream over elements in their natural order
+     */
+    default Stream<T> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
 }
@@ -0,0 +1,243 @@
+package com.bobocode.cs;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.function.Consumer;
+
+/**
+ * {@link ConcurrentBinarySearchTree} is a thread-safe, non-blocking implementation of a {@link BinarySearchTree}. It is
+ * a balanced AVL tree, like {@link AvlBinarySearchTree}, but its nodes are immutable. Instead of changing a node,
+ * {@link ConcurrentBinarySearchTree#insert(Comparable)} copies the path from the root to the new node, and publishes
+ * the new root with compare-and-set. If another writer has published a root in the meantime, the insert is retried on
+ * top of it. All other nodes are shared between the old and the new version of the tree.
+ * <p>
+ * Every read operation takes the current root once and works on that snapshot, which is never modified. So readers
+ * never block and never wait for writers, and iteration and traversal see a consistent state of the tree even when
+ * elements are inserted concurrently. An insert allocates O(log n) nodes, so this tree suits read-mostly workloads.
+ * <p>
+ * Each node also stores the size of its subtree, so {@link ConcurrentBinarySearchTree#size()} is consistent with
+ * the snapshot as well.
+ *
+ * @param <T> a type of elements that are stored in the tree
+ */
+public class ConcurrentBinarySearchTree<T extends Comparable<T>> implements BinarySearchTree<T> {
+
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<ConcurrentBinarySearchTree, Node> ROOT =
+            AtomicReferenceFieldUpdater.newUpdater(ConcurrentBinarySearchTree.class, Node.class, "root");
+
+    private static class Node<T> {
+        final T element;
+        final Node<T> left;
+        final Node<T> right;
+        final int height;
+        final int size;
+
+        Node(T element, Node<T> left, Node<T> right) {
+            this.element = element;
+            this.left = left;
+            this.right = right;
+            this.height = 1 + Math.max(height(left), height(right));
+            this.size = 1 + size(left) + size(right);
+        }
+    }
+
+    private volatile Node<T> root;
+
+    @SafeVarargs
+    public static <T extends Comparable<T>> ConcurrentBinarySearchTree<T> of(T... elements) {
+        ConcurrentBinarySearchTree<T> concurrentBinarySearchTree = new ConcurrentBinarySearchTree<>();
+        for (T e : elements) {
+            concurrentBinarySearchTree.insert(e);
+        }
+        return concurrentBinarySearchTree;
+    }
+
+    @Override
+    public boolean insert(T element) {
+        Objects.requireNonNull(element);
+        while (true) {
+            Node<T> currentRoot = root;
+            Node<T> newRoot = insert(currentRoot, element);
+            if (newRoot == currentRoot) {
+                return false;
+            }
+            if (ROOT.compareAndSet(this, currentRoot, newRoot)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * @return a new version of the subtree with the element, or the same subtree if it already contains the element
+     */
+    private static <T extends Comparable<T>> Node<T> insert(Node<T> node, T element) {
+        if (node == null) {
+            return new Node<>(element, null, null);
+        }
+        int cmp = element.compareTo(node.element);
+        if (cmp < 0) {
+            Node<T> left = insert(node.left, element);
+            return left == node.left ? node : balance(node.element, left, node.right);
+        } else if (cmp > 0) {
+            Node<T> right = insert(node.right, element);
+            return right == node.right ? node : balance(node.element, node.left, right);
+        } else {
+            return node;
+        }
+    }
+
+    /**
+     * Creates a node of the element and subtrees which heights differ by at most two, restoring the balance with
+     * a single or a double rotation
+     */
+    private static <T> Node<T> balance(T element, Node<T> left, Node<T> right) {
+        if (height(left) > height(right) + 1) {
+            if (height(left.left) >= height(left.right)) {
+                return new Node<>(left.element, left.left, new Node<>(element, left.right, right));
+            }
+            return new Node<>(left.right.element,
+                    new Node<>(left.element, left.left, left.right.left),
+                    new Node<>(element, left.right.right, right));
+        } else if (height(right) > height(left) + 1) {
+            if (height(right.right) >= height(right.left)) {
+                return new Node<>(right.element, new Node<>(element, left, right.left), right.right);
+            }
+            return new Node<>(right.left.element,
+                    new Node<>(element, left, right.left.left),
+                    new Node<>(right.element, right.left.right, right.right));
+        }
+        return new Node<>(element, left, right);
+    }
+
+    private static int height(Node<?> node) {
+        return node != null ? node.height : 0;
+    }
+
+    private static int size(Node<?> node) {
+        return node != null ? node.size : 0;
+    }
+
+    @Override
+    public boolean contains(T element) {
+        Objects.requireNonNull(element);
+        Node<T> current = root;
+        while (current != null) {
+            int cmp = element.compareTo(current.element);
+            if (cmp == 0) {
+                return true;
+            }
+            current = cmp < 0 ? current.left : current.right;
+        }
+        return false;
+    }
+
+    @Override
+    public int size() {
+        return size(root);
+    }
+
+    @Override
+    public int depth() {
+        Node<T> snapshot = root;
+        return snapshot != null ? snapshot.height - 1 : 0;
+    }
+
+    @Override
+    public void inOrderTraversal(Consumer<T> consumer) {
+        iterator().forEachRemaining(consumer);
+    }
+
+    @Override
+    public T floor(T element) {
+        Objects.requireNonNull(element);
+        T floor = null;
+        Node<T> current = root;
+        while (current != null) {
+            int cmp = element.compareTo(current.element);
+            if (cmp == 0) {
+                return current.element;
+            } else if (cmp < 0) {
+                current = current.left;
+            } else {
+                floor = current.element;
+                current = current.right;
+            }
+        }
+        return floor;
+    }
+
+    @Override
+    public T ceiling(T element) {
+        Objects.requireNonNull(element);
+        T ceiling = null;
+        Node<T> current = root;
+        while (current != null) {
+            int cmp = element.compareTo(current.element);
+            if (cmp == 0) {
+                return current.element;
+            } else if (cmp > 0) {
+                current = current.right;
+            } else {
+                ceiling = current.element;
+                current = current.left;
+            }
+        }
+        return ceiling;
+    }
+
+    @Override
+    public T min() {
+        Node<T> current = root;
+        if (current == null) {
+            throw new NoSuchElementException();
+        }
+        while (current.left != null) {
+            current = current.left;
+        }
+        return current.element;
+    }
+
+    @Override
+    public T max() {
+        Node<T> current = root;
+        if (current == null) {
+            throw new NoSuchElementException();
+        }
+        while (current.right != null) {
+            current = current.right;
+        }
+        return current.element;
+    }
+
+    @Override
+    public void rangeTraversal(T from, T to, Consumer<T> consumer) {
+        if (from.compareTo(to) > 0) {
+            throw new IllegalArgumentException("from is greater than to");
+        }
+        new InOrderIterator<>(root, node -> node.left, node -> node.right, node -> node.element, from, to)
+                .forEachRemaining(consumer);
+    }
+
+    /**
+     * @return an iterator over a snapshot of the tree, that is not affected by concurrent inserts
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new InOrderIterator<>(root, node -> node.left, node -> node.right, node -> node.element);
+    }
+
+    @Override
+    public Spliterator<T> spliterator() {
+        Node<T> snapshot = root;
+        return Spliterators.spliterator(
+                new InOrderIterator<>(snapshot, node -> node.left, node -> node.right, node -> node.element),
+                size(snapshot),
+                Spliterator.ORDERED | Spliterator.SORTED | Spliterator.DISTINCT | Spliterator.NONNULL
+                        | Spliterator.IMMUTABLE);
+    }
+}
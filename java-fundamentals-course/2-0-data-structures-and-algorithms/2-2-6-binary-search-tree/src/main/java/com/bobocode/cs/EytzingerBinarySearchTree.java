@@ -0,0 +1,219 @@
+package com.bobocode.cs;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+
+/**
+ * {@link EytzingerBinarySearchTree} is an immutable, read-optimized snapshot of a {@link BinarySearchTree}. Instead of
+ * linked nodes, elements are stored in one array in the Eytzinger (breadth-first) order: the root is at index 1, and
+ * children of a node at index k are at indices 2k and 2k + 1. So a lookup does not follow references between nodes,
+ * and the top levels of the tree, that are visited by every lookup, are packed together at the beginning of the array
+ * and stay in cache.
+ * <p>
+ * {@link EytzingerBinarySearchTree#contains(Comparable)} and {@link EytzingerBinarySearchTree#ceiling(Comparable)}
+ * always go down to the bottom of the tree with the same loop that has no early exit, and then recover the answer
+ * from the final index with bit operations. The loop body has a single predictable branch, and the index of the next
+ * node depends only on the result of the comparison.
+ * <p>
+ * The tree is built in O(n) from elements of any {@link BinarySearchTree}, and its depth is always
+ * {@code floor(log2(n))}. It can not be modified, {@link EytzingerBinarySearchTree#insert(Comparable)} throws
+ * {@link UnsupportedOperationException}.
+ *
+ * @param <T> a type of elements that are stored in the tree
+ */
+public class EytzingerBinarySearchTree<T extends Comparable<T>> implements BinarySearchTree<T> {
+
+    private final Object[] elements;
+    private final int size;
+
+    private EytzingerBinarySearchTree(Object[] elements, int size) {
+        this.elements = elements;
+        this.size = size;
+    }
+
+    /**
+     * Creates a snapshot of elements of the tree
+     *
+     * @param tree a tree to copy
+     * @param <T>  generic type
+     * @return a new immutable tree of the same elements
+     */
+    public static <T extends Comparable<T>> EytzingerBinarySearchTree<T> copyOf(BinarySearchTree<T> tree) {
+        int size = tree.size();
+        Object[] elements = new Object[size + 1];
+        int[] index = {firstIndex(size)};
+        tree.inOrderTraversal(e -> {
+            elements[index[0]] = e;
+            index[0] = nextIndex(index[0], size);
+        });
+        return new EytzingerBinarySearchTree<>(elements, size);
+    }
+
+    /**
+     * @return index of the least element, or 0 if the tree is empty
+     */
+    private static int firstIndex(int size) {
+        int k = size > 0 ? 1 : 0;
+        while (k != 0 && 2 * k <= size) {
+            k = 2 * k;
+        }
+        return k;
+    }
+
+    /**
+     * @return index of the element that follows the element at index k in natural order, or 0 if it is the greatest
+     */
+    private static int nextIndex(int k, int size) {
+        if (2 * k + 1 <= size) {
+            k = 2 * k + 1;
+            while (2 * k <= size) {
+                k = 2 * k;
+            }
+            return k;
+        }
+        k >>= Integer.numberOfTrailingZeros(~k) + 1;
+        return k;
+    }
+
+    /**
+     * Goes down to the bottom of the tree, turning right after each element that is less than the given one. The last
+     * left turn on this path was made at the least element that is greater than or equal to the given one. Right
+     * turns are 1-bits at the end of the index, so they are dropped together with that left turn.
+     *
+     * @return index of the least element that is greater than or equal to the given one, or 0 if there is no such
+     */
+    @SuppressWarnings("unchecked")
+    private int lowerBound(T element) {
+        int k = 1;
+        while (k <= size) {
+            k = 2 * k + (((T) elements[k]).compareTo(element) < 0 ? 1 : 0);
+        }
+        return k >> (Integer.numberOfTrailingZeros(~k) + 1);
+    }
+
+    @SuppressWarnings("unchecked")
+    private T elementAt(int k) {
+        return (T) elements[k];
+    }
+
+    /**
+     * @throws UnsupportedOperationException always, the tree is immutable
+     */
+    @Override
+    public boolean insert(T element) {
+        throw new UnsupportedOperationException("EytzingerBinarySearchTree is immutable");
+    }
+
+    @Override
+    public boolean contains(T element) {
+        Objects.requireNonNull(element);
+        int k = lowerBound(element);
+        return k != 0 && elementAt(k).compareTo(element) == 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public int depth() {
+        return size > 0 ? 31 - Integer.numberOfLeadingZeros(size) : 0;
+    }
+
+    @Override
+    public void inOrderTraversal(Consumer<T> consumer) {
+        for (int k = firstIndex(size); k != 0; k = nextIndex(k, size)) {
+            consumer.accept(elementAt(k));
+        }
+    }
+
+    @Override
+    public T floor(T element) {
+        Objects.requireNonNull(element);
+        T floor = null;
+        int k = 1;
+        while (k <= size) {
+            int cmp = element.compareTo(elementAt(k));
+            if (cmp == 0) {
+                return elementAt(k);
+            } else if (cmp < 0) {
+                k = 2 * k;
+            } else {
+                floor = elementAt(k);
+                k = 2 * k + 1;
+            }
+        }
+        return floor;
+    }
+
+    @Override
+    public T ceiling(T element) {
+        Objects.requireNonNull(element);
+        int k = lowerBound(element);
+        return k != 0 ? elementAt(k) : null;
+    }
+
+    @Override
+    public T min() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        return elementAt(firstIndex(size));
+    }
+
+    @Override
+    public T max() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        int k = 1;
+        while (2 * k + 1 <= size) {
+            k = 2 * k + 1;
+        }
+        return elementAt(k);
+    }
+
+    @Override
+    public void rangeTraversal(T from, T to, Consumer<T> consumer) {
+        if (from.compareTo(to) > 0) {
+            throw new IllegalArgumentException("from is greater than to");
+        }
+        for (int k = lowerBound(from); k != 0 && elementAt(k).compareTo(to) <= 0; k = nextIndex(k, size)) {
+            consumer.accept(elementAt(k));
+        }
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<>() {
+            private int next = firstIndex(size);
+
+            @Override
+            public boolean hasNext() {
+                return next != 0;
+            }
+
+            @Override
+            public T next() {
+                if (next == 0) {
+                    throw new NoSuchElementException();
+                }
+                T element = elementAt(next);
+                next = nextIndex(next, size);
+                return element;
+            }
+        };
+    }
+
+    @Override
+    public Spliterator<T> spliterator() {
+        return Spliterators.spliterator(iterator(), size,
+                Spliterator.ORDERED | Spliterator.SORTED | Spliterator.DISTINCT | Spliterator.NONNULL
+                        | Spliterator.IMMUTABLE);
+    }
+}
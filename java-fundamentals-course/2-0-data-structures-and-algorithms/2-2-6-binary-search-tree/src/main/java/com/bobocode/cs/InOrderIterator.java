@@ -0,0 +1,91 @@
+package com.bobocode.cs;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+/**
+ * {@link InOrderIterator} lazily iterates over elements of linked tree nodes in their natural order. Nodes are accessed
+ * with functions, so a {@link BinarySearchTree} implementation can keep its node class private.
+ * <p>
+ * The iterator can be bounded by the least and the greatest element (both inclusive). Subtrees that are entirely
+ * out of the bounds are never visited, so iterating over k elements of a balanced tree touches O(log n + k) nodes.
+ * The iterator keeps a stack of ancestors which elements are not returned yet, so it does not use recursion.
+ *
+ * @param <N> a type of tree nodes
+ * @param <T> a type of elements that are stored in the tree
+ */
+class InOrderIterator<N, T extends Comparable<T>> implements Iterator<T> {
+
+    private final UnaryOperator<N> left;
+    private final UnaryOperator<N> right;
+    private final Function<N, T> element;
+    private final T from;
+    private final T to;
+    private final Deque<N> ancestors = new ArrayDeque<>();
+
+    /**
+     * Creates an iterator over all elements of the tree
+     */
+    InOrderIterator(N root, UnaryOperator<N> left, UnaryOperator<N> right, Function<N, T> element) {
+        this(root, left, right, element, null, null);
+    }
+
+    /**
+     * Creates an iterator over elements of the tree between from and to, or unbounded on a side that is null
+     */
+    InOrderIterator(N root, UnaryOperator<N> left, UnaryOperator<N> right, Function<N, T> element, T from, T to) {
+        this.left = left;
+        this.right = right;
+        this.element = element;
+        this.from = from;
+        this.to = to;
+        pushLeftPath(root, from);
+    }
+
+    /**
+     * Pushes the path to the least element of the subtree that is not less than the lower bound. Elements of a right
+     * subtree of a returned node are all greater than the bound, so they are pushed with no bound at all.
+     */
+    private void pushLeftPath(N node, T lowerBound) {
+        while (node != null) {
+            if (lowerBound != null && element.apply(node).compareTo(lowerBound) < 0) {
+                node = right.apply(node);
+            } else {
+                ancestors.push(node);
+                node = left.apply(node);
+            }
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        N next = ancestors.peek();
+        return next != null && (to == null || element.apply(next).compareTo(to) <= 0);
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return advance();
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super T> action) {
+        while (hasNext()) {
+            action.accept(advance());
+        }
+    }
+
+    private T advance() {
+        N node = ancestors.pop();
+        pushLeftPath(right.apply(node), null);
+        return element.apply(node);
+    }
+}
@@ -2,13 +2,24 @@ package com.bobocode.cs;
 
 import com.bobocode.util.ExerciseNotCompletedException;
 
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.Spliterator;
 import java.util.function.Consumer;
 
 /**
- * {@link RecursiveBinarySearchTree} is an implementation of a {@link BinarySearchTree} that is based on a linked nodes
- * and recursion. A tree node is represented as a nested class {@link Node}. It holds an element (a value) and
+ * {@link RecursiveBinarySearchTree} is an implementation of a {@link BinarySearchTree} that is based on a linked nodes.
+ * A tree node is represented as a nested class {@link Node}. It holds an element (a value) and
  * two references to the left and right child nodes.
+ * <p>
+ * The tree is not balanced, so inserting sorted elements turns it into a list of the same depth. That's why all
+ * operations walk the tree with loops instead of recursion: a deep tree can not cause a {@link StackOverflowError}.
+ * {@link RecursiveBinarySearchTree#insert(Comparable)} and {@link RecursiveBinarySearchTree#contains(Comparable)}
+ * don't allocate anything besides the inserted node.
  *
  * @param <T> a type of elements that are stored in the tree
  * @author Taras Boychuk
@@ -39,60 +50,133 @@ public class RecursiveBinarySearchTree<T extends Comparable<T>> implements Binar
         return recursiveBinarySearchTree;
     }
 
+    /**
+     * Creates a height-balanced tree of provided elements in O(n) time if elements are sorted, and in O(n log n)
+     * otherwise. Duplicates are dropped. Unlike {@link RecursiveBinarySearchTree#of(Comparable[])}, the result does
+     * not depend on the order of elements, and its depth is {@code floor(log2(n))}.
+     *
+     * @param elements elements to add
+     * @param <T>      generic type
+     * @return a new balanced tree of unique elements
+     */
+    @SafeVarargs
+    @SuppressWarnings("unchecked")
+    public static <T extends Comparable<T>> RecursiveBinarySearchTree<T> balancedOf(T... elements) {
+        Object[] sorted = new Object[elements.length];
+        boolean isSorted = true;
+        for (int i = 0; i < sorted.length; i++) {
+            sorted[i] = Objects.requireNonNull(elements[i]);
+            if (i > 0 && ((T) sorted[i - 1]).compareTo((T) sorted[i]) > 0) {
+                isSorted = false;
+            }
+        }
+        if (!isSorted) {
+            Arrays.sort(sorted);
+        }
+        int unique = 0;
+        for (Object e : sorted) {
+            if (unique == 0 || ((T) sorted[unique - 1]).compareTo((T) e) != 0) {
+                sorted[unique++] = e;
+            }
+        }
+        RecursiveBinarySearchTree<T> recursiveBinarySearchTree = new RecursiveBinarySearchTree<>();
+        recursiveBinarySearchTree.root = buildBalanced(sorted, 0, unique);
+        recursiveBinarySearchTree.size = unique;
+        return recursiveBinarySearchTree;
+    }
+
+    /**
+     * Builds a subtree of sorted elements between from (inclusive) and to (exclusive), taking the middle element as
+     * a root. Recursion is only as deep as the resulting tree, i.e. {@code log2(n)}.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> Node<T> buildBalanced(Object[] sorted, int from, int to) {
+        if (from >= to) {
+            return null;
+        }
+        int middle = (from + to) >>> 1;
+        Node<T> node = new Node<>((T) sorted[middle]);
+        node.leftNode = buildBalanced(sorted, from, middle);
+        node.rightNode = buildBalanced(sorted, middle + 1, to);
+        return node;
+    }
+
+    /**
+     * Rebuilds the tree into a height-balanced one in O(n) time. Existing nodes are relinked, so no new nodes are
+     * created.
+     */
+    public void rebalance() {
+        Object[] nodes = new Object[size];
+        Deque<Node<T>> ancestors = new ArrayDeque<>();
+        Node<T> current = root;
+        int index = 0;
+        while (current != null || !ancestors.isEmpty()) {
+            while (current != null) {
+                ancestors.push(current);
+                current = current.leftNode;
+            }
+            current = ancestors.pop();
+            nodes[index++] = current;
+            current = current.rightNode;
+        }
+        root = relinkBalanced(nodes, 0, index);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Node<T> relinkBalanced(Object[] nodes, int from, int to) {
+        if (from >= to) {
+            return null;
+        }
+        int middle = (from + to) >>> 1;
+        Node<T> node = (Node<T>) nodes[middle];
+        node.leftNode = relinkBalanced(nodes, from, middle);
+        node.rightNode = relinkBalanced(nodes, middle + 1, to);
+        return node;
+    }
+
     @Override
     public boolean insert(T element) {
+        Objects.requireNonNull(element);
         if (root == null) {
             root = new Node<>(element);
             size++;
             return true;
-        } else {
-            return insert(root, element);
         }
-    }
-
-    private boolean insert(Node<T> node, T element) {
-        Node<T> newNode = new Node<>(element);
-
-        if (node.element.compareTo(element) > 0) {
-            if (node.leftNode != null) {
-                return insert(node.leftNode, element);
+        Node<T> current = root;
+        while (true) {
+            int cmp = element.compareTo(current.element);
+            if (cmp < 0) {
+                if (current.leftNode == null) {
+                    current.leftNode = new Node<>(element);
+                    size++;
+                    return true;
+                }
+                current = current.leftNode;
+            } else if (cmp > 0) {
+                if (current.rightNode == null) {
+                    current.rightNode = new Node<>(element);
+                    size++;
+                    return true;
+                }
+                current = current.rightNode;
             } else {
-                node.leftNode = newNode;
-                size++;
-                return true;
-            }
-        } else if (node.element.compareTo(element) < 0) {
-            if (node.rightNode != null) {
-                return insert(node.rightNode, element);
-            } else {
-                node.rightNode = newNode;
-                size++;
-                return true;
+                return false;
             }
-        } else {
-            return false;
         }
     }
 
     @Override
     public boolean contains(T element) {
         Objects.requireNonNull(element);
-        return contains(root, element);
-    }
-
-    private boolean contains(Node<T> node, T element) {
-        boolean isContains = false;
-        if (node == null)
-            return false;
-        if (node.element.compareTo(element) == 0) {
-            isContains = true;
-        }
-        if (node.element.compareTo(element) > 0) {
-            isContains = contains(node.leftNode, element);
-        } else if (node.element.compareTo(element) < 0) {
-            isContains = contains(node.rightNode, element);
+        Node<T> current = root;
+        while (current != null) {
+            int cmp = element.compareTo(current.element);
+            if (cmp == 0) {
+                return true;
+            }
+            current = cmp < 0 ? current.leftNode : current.rightNode;
         }
-        return isContains;
+        return false;
     }
 
     @Override
@@ -100,29 +184,137 @@ public class RecursiveBinarySearchTree<T extends Comparable<T>> implements Binar
         return size;
     }
 
+    /**
+     * Finds the longest path from the root with an iterative post-order traversal. The stack holds exactly the path
+     * from the root to the current node, so it takes O(h) memory, like the recursive version.
+     */
     @Override
     public int depth() {
-        return root != null ? depth(root) - 1 : 0;
-    }
-
-    private int depth(Node<T> node) {
-        if (node == null) {
+        if (root == null) {
             return 0;
         }
-        return 1 + Math.max(depth(node.leftNode), depth(node.rightNode));
+        Deque<Node<T>> path = new ArrayDeque<>();
+        Node<T> current = root;
+        Node<T> lastVisited = null;
+        int maxPathLength = 0;
+        while (current != null || !path.isEmpty()) {
+            if (current != null) {
+                path.push(current);
+                maxPathLength = Math.max(maxPathLength, path.size());
+                current = current.leftNode;
+            } else {
+                Node<T> top = path.peek();
+                if (top.rightNode != null && top.rightNode != lastVisited) {
+                    current = top.rightNode;
+                } else {
+                    lastVisited = path.pop();
+                }
+            }
+        }
+        return maxPathLength - 1;
     }
 
+    /**
+     * Traverses the tree with an explicit stack of ancestors whose elements were not visited yet, so the call stack
+     * does not grow with the depth of the tree.
+     */
     @Override
     public void inOrderTraversal(Consumer<T> consumer) {
-        inOrderTraversal(root, consumer);
+        Deque<Node<T>> ancestors = new ArrayDeque<>();
+        Node<T> current = root;
+        while (current != null || !ancestors.isEmpty()) {
+            while (current != null) {
+                ancestors.push(current);
+                current = current.leftNode;
+            }
+            current = ancestors.pop();
+            consumer.accept(current.element);
+            current = current.rightNode;
+        }
+    }
+
+    @Override
+    public T floor(T element) {
+        Objects.requireNonNull(element);
+        T floor = null;
+        Node<T> current = root;
+        while (current != null) {
+            int cmp = element.compareTo(current.element);
+            if (cmp == 0) {
+                return current.element;
+            } else if (cmp < 0) {
+                current = current.leftNode;
+            } else {
+                floor = current.element;
+                current = current.rightNode;
+            }
+        }
+        return floor;
+    }
+
+    @Override
+    public T ceiling(T element) {
+        Objects.requireNonNull(element);
+        T ceiling = null;
+        Node<T> current = root;
+        while (current != null) {
+            int cmp = element.compareTo(current.element);
+            if (cmp == 0) {
+                return current.element;
+            } else if (cmp > 0) {
+                current = current.rightNode;
+            } else {
+                ceiling = current.element;
+                current = current.leftNode;
+            }
+        }
+        return ceiling;
     }
 
-    private void inOrderTraversal(Node<T> node, Consumer<T> consumer) {
-        if (node != null) {
-            inOrderTraversal(node.leftNode, consumer);
-            consumer.accept(node.element);
-            inOrderTraversal(node.rightNode, consumer);
+    @Override
+    public T min() {
+        if (root == null) {
+            throw new NoSuchElementException();
+        }
+        Node<T> current = root;
+        while (current.leftNode != null) {
+            current = current.leftNode;
+        }
+        return current.element;
+    }
+
+    @Override
+    public T max() {
+        if (root == null) {
+            throw new NoSuchElementException();
+        }
+        Node<T> current = root;
+        while (current.rightNode != null) {
+            current = current.rightNode;
         }
+        return current.element;
     }
 
+    @Override
+    public void rangeTraversal(T from, T to, Consumer<T> consumer) {
+        if (from.compareTo(to) > 0) {
+            throw new IllegalArgumentException("from is greater than to");
+        }
+        new InOrderIterator<>(root, node -> node.leftNode, node -> node.rightNode, node -> node.element, from, to)
+                .forEachRemaining(consumer);
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new InOrderIterator<>(root, node -> node.leftNode, node -> node.rightNode, node -> node.element);
+    }
+
+    /**
+     * Returns a spliterator that splits by subtree, so a parallel stream processes different subtrees in different
+     * threads without copying elements.
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return new SubtreeSpliterator<>(root, node -> node.leftNode, node -> node.rightNode, node -> node.element, size);
+    }
 }
@@ -0,0 +1,132 @@
+package com.bobocode.cs;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+/**
+ * {@link SubtreeSpliterator} traverses elements of linked tree nodes in their natural order and splits by subtree.
+ * Nodes are accessed with functions, the same way as in {@link InOrderIterator}.
+ * <p>
+ * A spliterator covers one element that goes first, if any, and all elements of a subtree that follow it. A split
+ * gives away that element together with the left subtree of the subtree root, and keeps the root element with its
+ * right subtree. Nodes are not copied, so each split takes O(1), and a balanced tree is divided into parts of nearly
+ * the same size. Nodes do not know sizes of their subtrees, so the size of each part is estimated as a half of the
+ * split one.
+ *
+ * @param <N> a type of tree nodes
+ * @param <T> a type of elements that are stored in the tree
+ */
+class SubtreeSpliterator<N, T extends Comparable<T>> implements Spliterator<T> {
+
+    private static final int CHARACTERISTICS = ORDERED | SORTED | DISTINCT | NONNULL;
+
+    private final UnaryOperator<N> left;
+    private final UnaryOperator<N> right;
+    private final Function<N, T> element;
+    private T first;
+    private N subtree;
+    private Iterator<T> iterator;
+    private long estimatedSize;
+    private boolean sized;
+
+    /**
+     * Creates a spliterator over all elements of the tree of the given size
+     */
+    SubtreeSpliterator(N root, UnaryOperator<N> left, UnaryOperator<N> right, Function<N, T> element, int size) {
+        this(null, root, left, right, element, size, true);
+    }
+
+    private SubtreeSpliterator(T first, N subtree, UnaryOperator<N> left, UnaryOperator<N> right,
+                               Function<N, T> element, long estimatedSize, boolean sized) {
+        this.first = first;
+        this.subtree = subtree;
+        this.left = left;
+        this.right = right;
+        this.element = element;
+        this.estimatedSize = estimatedSize;
+        this.sized = sized;
+    }
+
+    /**
+     * Splits off the first element and the left subtree. When there is nothing to split off on the left, the root
+     * element becomes the first one, and the right subtree is split instead. Once the traversal of the subtree has
+     * started, the spliterator is not split anymore.
+     */
+    @Override
+    public Spliterator<T> trySplit() {
+        if (iterator != null) {
+            return null;
+        }
+        while (subtree != null) {
+            N leftSubtree = left.apply(subtree);
+            if (first != null || leftSubtree != null) {
+                estimatedSize >>>= 1;
+                sized = false;
+                Spliterator<T> prefix = new SubtreeSpliterator<>(first, leftSubtree, left, right, element,
+                        estimatedSize, false);
+                first = element.apply(subtree);
+                subtree = right.apply(subtree);
+                return prefix;
+            }
+            first = element.apply(subtree);
+            subtree = right.apply(subtree);
+        }
+        return null;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+        Objects.requireNonNull(action);
+        if (first != null) {
+            T next = first;
+            first = null;
+            action.accept(next);
+            return true;
+        }
+        if (iterator == null) {
+            iterator = new InOrderIterator<>(subtree, left, right, element);
+        }
+        if (iterator.hasNext()) {
+            action.accept(iterator.next());
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super T> action) {
+        Objects.requireNonNull(action);
+        if (first != null) {
+            T next = first;
+            first = null;
+            action.accept(next);
+        }
+        if (iterator == null) {
+            iterator = new InOrderIterator<>(subtree, left, right, element);
+        }
+        iterator.forEachRemaining(action);
+    }
+
+    @Override
+    public long estimateSize() {
+        return estimatedSize;
+    }
+
+    @Override
+    public int characteristics() {
+        return sized ? CHARACTERISTICS | SIZED : CHARACTERISTICS;
+    }
+
+    /**
+     * @return null, elements are sorted in their natural order
+     */
+    @Override
+    public Comparator<? super T> getComparator() {
+        return null;
+    }
+}
@@ -0,0 +1,291 @@
+package com.bobocode.cs;
+
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.Spliterator;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+/**
+ * A test class for {@link AvlBinarySearchTree}.
+ */
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class AvlBinarySearchTreeTest {
+
+    private static final Integer[] someElements = {10, 9, 11, 8, 12, 7};
+
+    private BinarySearchTree<Integer> tree = new AvlBinarySearchTree<>();
+
+    @Test
+    @Order(1)
+    void of() {
+        tree = AvlBinarySearchTree.of(someElements);
+
+        for (Integer e : someElements) {
+            assertThat(tree.contains(e)).isTrue();
+        }
+        assertThat(tree.size()).isEqualTo(someElements.length);
+    }
+
+    @Test
+    @Order(2)
+    void insert() {
+        for (Integer e : someElements) {
+            assertThat(tree.contains(e)).isFalse();
+            assertThat(tree.insert(e)).isTrue();
+            assertThat(tree.contains(e)).isTrue();
+        }
+    }
+
+    @Test
+    @Order(3)
+    void insertDoesNotAddDuplicateElements() {
+        tree = AvlBinarySearchTree.of(10, 11, 12);
+
+        assertThat(tree.insert(10)).isFalse();
+        assertThat(tree.insert(11)).isFalse();
+        assertThat(tree.insert(12)).isFalse();
+        assertThat(tree.size()).isEqualTo(3);
+    }
+
+    @Test
+    @Order(4)
+    void insertThrowsExceptionWhenArgumentIsNull() {
+        tree = AvlBinarySearchTree.of(someElements);
+
+        assertThatNullPointerException().isThrownBy(() -> tree.insert(null));
+    }
+
+    @Test
+    @Order(5)
+    void containsReturnsFalseIfElementDoesntExist() {
+        tree = AvlBinarySearchTree.of(someElements);
+
+        assertThat(tree.contains(100)).isFalse();
+    }
+
+    @Test
+    @Order(6)
+    void containsThrowsExceptionIfParameterIsNull() {
+        assertThatNullPointerException().isThrownBy(() -> tree.contains(null));
+    }
+
+    @Order(7)
+    @ParameterizedTest
+    @MethodSource("depthArguments")
+    void depth(Integer[] elements, int depth) {
+        tree = AvlBinarySearchTree.of(elements);
+
+        assertThat(tree.depth()).isEqualTo(depth);
+    }
+
+    @Test
+    @Order(8)
+    void inOrderTraversal() {
+        tree = AvlBinarySearchTree.of(someElements);
+        Integer[] sortedElements = Arrays.copyOf(someElements, someElements.length);
+        Arrays.sort(sortedElements);
+
+        List<Integer> traversedElements = new ArrayList<>(tree.size());
+        tree.inOrderTraversal(traversedElements::add);
+
+        assertThat(traversedElements).isEqualTo(List.of(sortedElements));
+    }
+
+    @Test
+    @Order(9)
+    void randomInsertsMatchTreeSet() {
+        Random random = new Random(42);
+        TreeSet<Integer> expected = new TreeSet<>();
+        for (int i = 0; i < 100_000; i++) {
+            int element = random.nextInt(50_000);
+            assertThat(tree.insert(element)).isEqualTo(expected.add(element));
+        }
+
+        List<Integer> traversedElements = new ArrayList<>(tree.size());
+        tree.inOrderTraversal(traversedElements::add);
+
+        assertThat(traversedElements).isEqualTo(new ArrayList<>(expected));
+        assertThat(tree.size()).isEqualTo(expected.size());
+        assertThat(tree.depth()).isLessThanOrEqualTo(maxAvlDepth(expected.size()));
+    }
+
+    @Test
+    @Order(10)
+    void sortedInsertsKeepTreeBalanced() {
+        int count = 100_000;
+        for (int i = 0; i < count; i++) {
+            tree.insert(i);
+        }
+
+        assertThat(tree.size()).isEqualTo(count);
+        assertThat(tree.depth()).isLessThanOrEqualTo(maxAvlDepth(count));
+        assertThat(tree.contains(0)).isTrue();
+        assertThat(tree.contains(count - 1)).isTrue();
+        assertThat(tree.contains(count)).isFalse();
+        int[] next = {0};
+        int[] outOfOrder = {0};
+        tree.inOrderTraversal(e -> {
+            if (e != next[0]++) {
+                outOfOrder[0]++;
+            }
+        });
+        assertThat(next[0]).isEqualTo(count);
+        assertThat(outOfOrder[0]).isEqualTo(0);
+    }
+
+    @Test
+    @Order(11)
+    void floorAndCeiling() {
+        tree = AvlBinarySearchTree.of(10, 20, 30, 40);
+
+        assertThat(tree.floor(25)).isEqualTo(20);
+        assertThat(tree.floor(30)).isEqualTo(30);
+        assertThat(tree.floor(5)).isNull();
+        assertThat(tree.ceiling(25)).isEqualTo(30);
+        assertThat(tree.ceiling(10)).isEqualTo(10);
+        assertThat(tree.ceiling(45)).isNull();
+    }
+
+    @Test
+    @Order(12)
+    void minAndMax() {
+        assertThatExceptionOfType(NoSuchElementException.class).isThrownBy(() -> tree.min());
+        assertThatExceptionOfType(NoSuchElementException.class).isThrownBy(() -> tree.max());
+
+        tree = AvlBinarySearchTree.of(someElements);
+
+        assertThat(tree.min()).isEqualTo(7);
+        assertThat(tree.max()).isEqualTo(12);
+    }
+
+    @Test
+    @Order(13)
+    void rangeTraversal() {
+        tree = AvlBinarySearchTree.of(5, 1, 9, 3, 7, 2, 8, 4, 6);
+
+        List<Integer> traversedElements = new ArrayList<>();
+        tree.rangeTraversal(3, 7, traversedElements::add);
+
+        assertThat(traversedElements).containsExactly(3, 4, 5, 6, 7);
+        assertThatIllegalArgumentException().isThrownBy(() -> tree.rangeTraversal(7, 3, e -> {
+        }));
+    }
+
+    @Test
+    @Order(14)
+    void rangeTraversalSkipsSubtreesOutOfRange() {
+        int count = 100_000;
+        AvlBinarySearchTree<CountingKey> countingTree = new AvlBinarySearchTree<>();
+        for (int i = 0; i < count; i++) {
+            countingTree.insert(new CountingKey(i));
+        }
+        CountingKey.comparisons = 0;
+
+        List<CountingKey> traversedElements = new ArrayList<>();
+        countingTree.rangeTraversal(new CountingKey(50_000), new CountingKey(50_999), traversedElements::add);
+
+        assertThat(traversedElements).hasSize(1000);
+        assertThat(CountingKey.comparisons).isLessThan(1000 + 2 * maxAvlDepth(count));
+    }
+
+    @Test
+    @Order(15)
+    void iteratorReturnsElementsInNaturalOrder() {
+        tree = AvlBinarySearchTree.of(someElements);
+
+        Iterator<Integer> iterator = tree.iterator();
+        List<Integer> iteratedElements = new ArrayList<>();
+        while (iterator.hasNext()) {
+            iteratedElements.add(iterator.next());
+        }
+
+        assertThat(iteratedElements).containsExactly(7, 8, 9, 10, 11, 12);
+        assertThatExceptionOfType(NoSuchElementException.class).isThrownBy(iterator::next);
+    }
+
+    @Test
+    @Order(16)
+    void spliteratorIsSortedAndSized() {
+        tree = AvlBinarySearchTree.of(someElements);
+
+        Spliterator<Integer> spliterator = tree.spliterator();
+
+        assertThat(spliterator.hasCharacteristics(Spliterator.SORTED)).isTrue();
+        assertThat(spliterator.getExactSizeIfKnown()).isEqualTo(someElements.length);
+        assertThat(StreamSupport.stream(spliterator, false).collect(Collectors.toList()))
+                .containsExactly(7, 8, 9, 10, 11, 12);
+    }
+
+    @Test
+    @Order(17)
+    void parallelStreamMatchesSequentialStream() {
+        Random random = new Random(42);
+        for (int i = 0; i < 50_000; i++) {
+            tree.insert(random.nextInt());
+        }
+
+        List<Integer> sequential = tree.stream().collect(Collectors.toList());
+        List<Integer> parallel = tree.parallelStream().collect(Collectors.toList());
+
+        assertThat(sequential).hasSize(tree.size()).isSorted();
+        assertThat(parallel).isEqualTo(sequential);
+    }
+
+    public static Stream<Arguments> depthArguments() {
+        return Stream.of(
+                //empty tree
+                arguments(new Integer[]{}, 0),
+                //tree with a single element
+                arguments(new Integer[]{24}, 0),
+                arguments(new Integer[]{10, 5, 15, 1, 20}, 2),
+                //sorted input is rebalanced into 2(1, 4(3, 5))
+                arguments(new Integer[]{1, 2, 3, 4, 5}, 2),
+                //sorted input of 2^3 - 1 elements makes a perfect tree
+                arguments(new Integer[]{1, 2, 3, 4, 5, 6, 7}, 2),
+                arguments(new Integer[]{6, 2, 7, 1, 5, 8, 4, 9, 3}, 3));
+    }
+
+    /**
+     * The height of an AVL tree with n nodes is less than 1.4405 * log2(n + 2) - 0.3277
+     */
+    private static int maxAvlDepth(int size) {
+        return (int) (1.4405 * Math.log(size + 2) / Math.log(2) - 0.3277) - 1;
+    }
+
+    private static class CountingKey implements Comparable<CountingKey> {
+        static long comparisons;
+
+        private final int key;
+
+        CountingKey(int key) {
+            this.key = key;
+        }
+
+        @Override
+        public int compareTo(CountingKey other) {
+            comparisons++;
+            return Integer.compare(key, other.key);
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package com.bobocode.cs;
+
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+/**
+ * A test class for {@link ConcurrentBinarySearchTree}.
+ */
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class ConcurrentBinarySearchTreeTest {
+
+    private static final Integer[] someElements = {10, 9, 11, 8, 12, 7};
+
+    private BinarySearchTree<Integer> tree = new ConcurrentBinarySearchTree<>();
+
+    @Test
+    @Order(1)
+    void insertAndContains() {
+        for (Integer e : someElements) {
+            assertThat(tree.contains(e)).isFalse();
+            assertThat(tree.insert(e)).isTrue();
+            assertThat(tree.contains(e)).isTrue();
+        }
+
+        assertThat(tree.insert(10)).isFalse();
+        assertThat(tree.size()).isEqualTo(someElements.length);
+    }
+
+    @Test
+    @Order(2)
+    void insertAndContainsThrowExceptionWhenArgumentIsNull() {
+        assertThatNullPointerException().isThrownBy(() -> tree.insert(null));
+        assertThatNullPointerException().isThrownBy(() -> tree.contains(null));
+    }
+
+    @Test
+    @Order(3)
+    void sortedInsertsKeepTreeBalanced() {
+        for (int i = 0; i < 1 << 16; i++) {
+            tree.insert(i);
+        }
+
+        assertThat(tree.size()).isEqualTo(1 << 16);
+        assertThat(tree.depth()).isLessThanOrEqualTo(22);
+    }
+
+    @Test
+    @Order(4)
+    void orderedQueries() {
+        tree = ConcurrentBinarySearchTree.of(10, 20, 30, 40);
+
+        assertThat(tree.floor(25)).isEqualTo(20);
+        assertThat(tree.ceiling(25)).isEqualTo(30);
+        assertThat(tree.floor(5)).isNull();
+        assertThat(tree.ceiling(45)).isNull();
+        assertThat(tree.min()).isEqualTo(10);
+        assertThat(tree.max()).isEqualTo(40);
+        List<Integer> traversedElements = new ArrayList<>();
+        tree.rangeTraversal(15, 35, traversedElements::add);
+        assertThat(traversedElements).containsExactly(20, 30);
+    }
+
+    @Test
+    @Order(5)
+    void minAndMaxThrowExceptionWhenTreeIsEmpty() {
+        assertThatExceptionOfType(NoSuchElementException.class).isThrownBy(() -> tree.min());
+        assertThatExceptionOfType(NoSuchElementException.class).isThrownBy(() -> tree.max());
+    }
+
+    @Test
+    @Order(6)
+    void iteratorIsNotAffectedByLaterInserts() {
+        tree = ConcurrentBinarySearchTree.of(someElements);
+
+        Iterator<Integer> iterator = tree.iterator();
+        tree.insert(1);
+        tree.insert(100);
+        List<Integer> iteratedElements = new ArrayList<>();
+        iterator.forEachRemaining(iteratedElements::add);
+
+        assertThat(iteratedElements).containsExactly(7, 8, 9, 10, 11, 12);
+        assertThat(tree.size()).isEqualTo(someElements.length + 2);
+    }
+
+    @Test
+    @Order(7)
+    @Timeout(60)
+    void concurrentWritersInsertEachElementExactlyOnceWhileReadersSeeConsistentSnapshots() throws Exception {
+        int writers = 2;
+        int readers = 2;
+        int elementsPerWriter = 20_000;
+        AtomicInteger successfulInserts = new AtomicInteger();
+        AtomicInteger unsortedSnapshots = new AtomicInteger();
+        AtomicInteger inconsistentSnapshots = new AtomicInteger();
+        AtomicBoolean writing = new AtomicBoolean(true);
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(writers + readers);
+        List<Future<?>> writerFutures = new ArrayList<>();
+        List<Future<?>> readerFutures = new ArrayList<>();
+        try {
+            for (int w = 0; w < writers; w++) {
+                int writer = w;
+                writerFutures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < elementsPerWriter; i++) {
+                        // both writers insert every element from opposite ends, so exactly one insert of each succeeds
+                        int element = writer == 0 ? i : elementsPerWriter - 1 - i;
+                        if (tree.insert(element)) {
+                            successfulInserts.incrementAndGet();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (int r = 0; r < readers; r++) {
+                readerFutures.add(executor.submit(() -> {
+                    start.await();
+                    while (writing.get()) {
+                        Spliterator<Integer> snapshot = tree.spliterator();
+                        long expectedSize = snapshot.getExactSizeIfKnown();
+                        int[] previous = {-1};
+                        int[] count = {0};
+                        snapshot.forEachRemaining(e -> {
+                            if (e <= previous[0]) {
+                                unsortedSnapshots.incrementAndGet();
+                            }
+                            previous[0] = e;
+                            count[0]++;
+                        });
+                        if (count[0] != expectedSize) {
+                            inconsistentSnapshots.incrementAndGet();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : writerFutures) {
+                future.get();
+            }
+            writing.set(false);
+            for (Future<?> future : readerFutures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(successfulInserts.get()).isEqualTo(elementsPerWriter);
+        assertThat(unsortedSnapshots.get()).isEqualTo(0);
+        assertThat(inconsistentSnapshots.get()).isEqualTo(0);
+        assertThat(tree.size()).isEqualTo(elementsPerWriter);
+        for (int i = 0; i < elementsPerWriter; i++) {
+            assertThat(tree.contains(i)).isTrue();
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.bobocode.cs;
+
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+/**
+ * A test class for {@link EytzingerBinarySearchTree}.
+ */
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class EytzingerBinarySearchTreeTest {
+
+    private static final Integer[] someElements = {10, 9, 11, 8, 12, 7};
+
+    private BinarySearchTree<Integer> tree = EytzingerBinarySearchTree.copyOf(
+            RecursiveBinarySearchTree.of(someElements));
+
+    @Test
+    @Order(1)
+    void copyOfKeepsAllElements() {
+        assertThat(tree.size()).isEqualTo(someElements.length);
+        for (Integer e : someElements) {
+            assertThat(tree.contains(e)).isTrue();
+        }
+        assertThat(tree.contains(100)).isFalse();
+        assertThat(tree.contains(0)).isFalse();
+    }
+
+    @Test
+    @Order(2)
+    void insertThrowsException() {
+        assertThatExceptionOfType(UnsupportedOperationException.class).isThrownBy(() -> tree.insert(1));
+    }
+
+    @Test
+    @Order(3)
+    void containsThrowsExceptionIfParameterIsNull() {
+        assertThatNullPointerException().isThrownBy(() -> tree.contains(null));
+    }
+
+    @Test
+    @Order(4)
+    void emptyTree() {
+        tree = EytzingerBinarySearchTree.copyOf(new RecursiveBinarySearchTree<Integer>());
+
+        assertThat(tree.size()).isEqualTo(0);
+        assertThat(tree.depth()).isEqualTo(0);
+        assertThat(tree.contains(1)).isFalse();
+        assertThat(tree.floor(1)).isNull();
+        assertThat(tree.ceiling(1)).isNull();
+        assertThat(tree.iterator().hasNext()).isFalse();
+        assertThatExceptionOfType(NoSuchElementException.class).isThrownBy(() -> tree.min());
+        assertThatExceptionOfType(NoSuchElementException.class).isThrownBy(() -> tree.max());
+    }
+
+    @Test
+    @Order(5)
+    void depthIsMinimal() {
+        assertThat(tree.depth()).isEqualTo(2);
+
+        tree = EytzingerBinarySearchTree.copyOf(RecursiveBinarySearchTree.of(1, 2, 3, 4, 5, 6, 7, 8));
+
+        assertThat(tree.depth()).isEqualTo(3);
+    }
+
+    @Test
+    @Order(6)
+    void inOrderTraversalAndIterator() {
+        List<Integer> traversedElements = new ArrayList<>();
+        tree.inOrderTraversal(traversedElements::add);
+        List<Integer> iteratedElements = new ArrayList<>();
+        Iterator<Integer> iterator = tree.iterator();
+        iterator.forEachRemaining(iteratedElements::add);
+
+        assertThat(traversedElements).containsExactly(7, 8, 9, 10, 11, 12);
+        assertThat(iteratedElements).containsExactly(7, 8, 9, 10, 11, 12);
+        assertThatExceptionOfType(NoSuchElementException.class).isThrownBy(iterator::next);
+    }
+
+    @Test
+    @Order(7)
+    void minMaxAndRangeTraversal() {
+        assertThat(tree.min()).isEqualTo(7);
+        assertThat(tree.max()).isEqualTo(12);
+
+        List<Integer> traversedElements = new ArrayList<>();
+        tree.rangeTraversal(9, 11, traversedElements::add);
+
+        assertThat(traversedElements).containsExactly(9, 10, 11);
+    }
+
+    @Test
+    @Order(8)
+    void queriesMatchTreeSetForEverySize() {
+        Random random = new Random(42);
+        for (int size = 0; size < 70; size++) {
+            TreeSet<Integer> expected = new TreeSet<>();
+            AvlBinarySearchTree<Integer> source = new AvlBinarySearchTree<>();
+            while (expected.size() < size) {
+                int element = random.nextInt(200) * 2;
+                expected.add(element);
+                source.insert(element);
+            }
+
+            tree = EytzingerBinarySearchTree.copyOf(source);
+
+            List<Integer> traversedElements = new ArrayList<>();
+            tree.inOrderTraversal(traversedElements::add);
+            assertThat(traversedElements).isEqualTo(new ArrayList<>(expected));
+            for (int query = -1; query <= 401; query++) {
+                assertThat(tree.contains(query)).isEqualTo(expected.contains(query));
+                assertThat(tree.floor(query)).isEqualTo(expected.floor(query));
+                assertThat(tree.ceiling(query)).isEqualTo(expected.ceiling(query));
+            }
+            List<Integer> rangeElements = new ArrayList<>();
+            tree.rangeTraversal(101, 299, rangeElements::add);
+            assertThat(rangeElements).isEqualTo(new ArrayList<>(expected.subSet(101, true, 299, true)));
+        }
+    }
+}
@@ -13,11 +13,16 @@ import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.Assertions.assertThatNullPointerException;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
 
@@ -249,6 +254,209 @@ class RecursiveBinarySearchTreeTest {
         assertThat(traversedElements).isEqualTo(List.of(sortedElements));
     }
 
+    @Test
+    @Order(20)
+    void insertAndContainsWorkOnDegenerateTree() {
+        int count = 20_000;
+        for (int i = 0; i < count; i++) {
+            assertThat(tree.insert(i)).isTrue();
+        }
+
+        assertThat(tree.insert(count - 1)).isFalse();
+        assertThat(tree.contains(count - 1)).isTrue();
+        assertThat(tree.contains(count)).isFalse();
+        assertThat(getInnerSize()).isEqualTo(count);
+    }
+
+    @Test
+    @Order(21)
+    void depthAndInOrderTraversalWorkOnDegenerateTree() {
+        int count = 20_000;
+        for (int i = count - 1; i >= 0; i--) {
+            tree.insert(i);
+        }
+
+        List<Integer> traversedElements = new ArrayList<>(count);
+        tree.inOrderTraversal(traversedElements::add);
+
+        assertThat(tree.depth()).isEqualTo(count - 1);
+        assertThat(traversedElements).hasSize(count);
+        for (int i = 0; i < count; i++) {
+            assertThat(traversedElements.get(i)).isEqualTo(i);
+        }
+    }
+
+    @Test
+    @Order(22)
+    void floorAndCeiling() {
+        fillTestTree(10, 20, 30, 40);
+
+        assertThat(tree.floor(25)).isEqualTo(20);
+        assertThat(tree.floor(30)).isEqualTo(30);
+        assertThat(tree.floor(5)).isNull();
+        assertThat(tree.ceiling(25)).isEqualTo(30);
+        assertThat(tree.ceiling(10)).isEqualTo(10);
+        assertThat(tree.ceiling(45)).isNull();
+    }
+
+    @Test
+    @Order(23)
+    void minAndMax() {
+        assertThatExceptionOfType(NoSuchElementException.class).isThrownBy(() -> tree.min());
+        assertThatExceptionOfType(NoSuchElementException.class).isThrownBy(() -> tree.max());
+
+        fillTestTree(someElements);
+
+        assertThat(tree.min()).isEqualTo(7);
+        assertThat(tree.max()).isEqualTo(12);
+    }
+
+    @Test
+    @Order(24)
+    void rangeTraversal() {
+        fillTestTree(6, 2, 7, 1, 5, 8, 4, 9, 3);
+
+        List<Integer> traversedElements = new ArrayList<>();
+        tree.rangeTraversal(3, 7, traversedElements::add);
+
+        assertThat(traversedElements).containsExactly(3, 4, 5, 6, 7);
+    }
+
+    @Test
+    @Order(25)
+    void iteratorReturnsElementsInNaturalOrder() {
+        fillTestTree(someElements);
+
+        Iterator<Integer> iterator = tree.iterator();
+        List<Integer> iteratedElements = new ArrayList<>();
+        while (iterator.hasNext()) {
+            iteratedElements.add(iterator.next());
+        }
+
+        assertThat(iteratedElements).containsExactly(7, 8, 9, 10, 11, 12);
+        assertThatExceptionOfType(NoSuchElementException.class).isThrownBy(iterator::next);
+    }
+
+    @Test
+    @Order(26)
+    void balancedOfSortsAndDropsDuplicates() {
+        tree = RecursiveBinarySearchTree.balancedOf(5, 3, 9, 3, 1, 5, 7);
+
+        List<Integer> traversedElements = new ArrayList<>();
+        tree.inOrderTraversal(traversedElements::add);
+
+        assertThat(traversedElements).containsExactly(1, 3, 5, 7, 9);
+        assertThat(getInnerSize()).isEqualTo(5);
+        assertThat(tree.depth()).isEqualTo(2);
+    }
+
+    @Test
+    @Order(27)
+    void balancedOfThrowsExceptionWhenElementIsNull() {
+        assertThatNullPointerException().isThrownBy(() -> RecursiveBinarySearchTree.balancedOf(1, null, 3));
+    }
+
+    @Test
+    @Order(28)
+    void balancedOfBuildsTreeOfMinimalDepthFromSortedInput() {
+        int count = 1_000_000;
+        Integer[] elements = new Integer[count];
+        for (int i = 0; i < count; i++) {
+            elements[i] = i;
+        }
+
+        tree = RecursiveBinarySearchTree.balancedOf(elements);
+
+        assertThat(getInnerSize()).isEqualTo(count);
+        assertThat(tree.depth()).isEqualTo(31 - Integer.numberOfLeadingZeros(count));
+        assertThat(tree.contains(0)).isTrue();
+        assertThat(tree.contains(count - 1)).isTrue();
+        assertThat(tree.contains(count)).isFalse();
+    }
+
+    @Test
+    @Order(29)
+    void rebalanceKeepsElementsAndMinimizesDepth() {
+        int count = 20_000;
+        for (int i = 0; i < count; i++) {
+            tree.insert(i);
+        }
+        assertThat(tree.depth()).isEqualTo(count - 1);
+
+        ((RecursiveBinarySearchTree<Integer>) tree).rebalance();
+
+        assertThat(tree.depth()).isEqualTo(31 - Integer.numberOfLeadingZeros(count));
+        assertThat(getInnerSize()).isEqualTo(count);
+        List<Integer> traversedElements = new ArrayList<>(count);
+        tree.inOrderTraversal(traversedElements::add);
+        for (int i = 0; i < count; i++) {
+            assertThat(traversedElements.get(i)).isEqualTo(i);
+        }
+        assertThat(tree.insert(count)).isTrue();
+        assertThat(tree.contains(count)).isTrue();
+    }
+
+    @Test
+    @Order(30)
+    void rebalanceOfEmptyTree() {
+        ((RecursiveBinarySearchTree<Integer>) tree).rebalance();
+
+        assertThat(getRootObject()).isNull();
+        assertThat(tree.depth()).isEqualTo(0);
+    }
+
+    @Test
+    @Order(31)
+    void spliteratorSplitsBySubtree() {
+        Integer[] elements = new Integer[1023];
+        for (int i = 0; i < elements.length; i++) {
+            elements[i] = i;
+        }
+        tree = RecursiveBinarySearchTree.balancedOf(elements);
+
+        Spliterator<Integer> suffix = tree.spliterator();
+        assertThat(suffix.getExactSizeIfKnown()).isEqualTo(elements.length);
+        Spliterator<Integer> prefix = suffix.trySplit();
+
+        assertThat(suffix.hasCharacteristics(Spliterator.SORTED)).isTrue();
+        assertThat(suffix.getComparator()).isNull();
+        List<Integer> prefixElements = new ArrayList<>();
+        prefix.forEachRemaining(prefixElements::add);
+        List<Integer> suffixElements = new ArrayList<>();
+        suffix.forEachRemaining(suffixElements::add);
+        assertThat(prefixElements).hasSize(511).startsWith(0).endsWith(510);
+        assertThat(suffixElements).hasSize(512).startsWith(511).endsWith(1022);
+    }
+
+    @Test
+    @Order(32)
+    void parallelStreamVisitsEveryElementOnce() {
+        int count = 100_000;
+        Integer[] elements = new Integer[count];
+        for (int i = 0; i < count; i++) {
+            elements[i] = i;
+        }
+        tree = RecursiveBinarySearchTree.balancedOf(elements);
+
+        long sum = tree.parallelStream().mapToLong(Integer::longValue).sum();
+        List<Integer> streamedElements = tree.parallelStream().collect(Collectors.toList());
+
+        assertThat(sum).isEqualTo((long) count * (count - 1) / 2);
+        assertThat(streamedElements).isEqualTo(Arrays.asList(elements));
+    }
+
+    @Test
+    @Order(33)
+    void spliteratorOfDegenerateTree() {
+        int count = 20_000;
+        for (int i = 0; i < count; i++) {
+            tree.insert(i);
+        }
+
+        assertThat(tree.parallelStream().count()).isEqualTo(count);
+        assertThat(tree.stream().skip(count - 1).findFirst()).contains(count - 1);
+    }
+
     public static Stream<Arguments> depthArguments() {
         return Stream.of(
                 //empty tree
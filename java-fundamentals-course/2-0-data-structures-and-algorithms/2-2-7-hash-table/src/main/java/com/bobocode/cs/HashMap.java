@@ -0,0 +1,165 @@
+package com.bobocode.cs;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+
+/**
+ * {@link HashMap} is an implementation of {@link Map} based on a hash table with open addressing. Keys and values are
+ * stored in two flat arrays, at the same index, so adding an entry does not allocate any node object. Collisions are
+ * resolved with linear probing: a key is stored in the first free slot after its home slot, so a lookup reads
+ * neighbouring slots that are usually in the same cache line.
+ * <p>
+ * An entry is removed with backward shift deletion: entries that follow the removed one on the same probe path are
+ * moved back to fill the gap. So the table never has tombstones, and a lookup of a missing key stops at the first free
+ * slot. When the number of entries exceeds capacity multiplied by the load factor, the table is doubled.
+ * <p>
+ * Null keys are not allowed. The map is not thread-safe.
+ *
+ * @param <K> a type of keys
+ * @param <V> a type of values
+ */
+public class HashMap<K, V> implements Map<K, V> {
+
+    private final float loadFactor;
+    private final int maxCapacity;
+    private Object[] keys;
+    private Object[] values;
+    private int size;
+    private int mask;
+    private int threshold;
+
+    /**
+     * Creates an empty map with the default load factor 0.5
+     */
+    public HashMap() {
+        this(OpenAddressing.DEFAULT_EXPECTED_SIZE);
+    }
+
+    /**
+     * Creates an empty map that holds expectedSize entries without resizing
+     *
+     * @param expectedSize expected number of entries
+     * @throws IllegalArgumentException if expectedSize is negative
+     */
+    public HashMap(int expectedSize) {
+        this(expectedSize, OpenAddressing.DEFAULT_LOAD_FACTOR);
+    }
+
+    /**
+     * Creates an empty map that holds expectedSize entries without resizing. A lower load factor makes probe
+     * sequences shorter at the cost of a larger table.
+     *
+     * @param expectedSize expected number of entries
+     * @param loadFactor   max share of occupied slots, in range (0, 1)
+     * @throws IllegalArgumentException if expectedSize is negative or loadFactor is out of range
+     */
+    public HashMap(int expectedSize, float loadFactor) {
+        this(expectedSize, loadFactor, OpenAddressing.MAX_CAPACITY);
+    }
+
+    HashMap(int expectedSize, float loadFactor, int maxCapacity) {
+        this.loadFactor = loadFactor;
+        this.maxCapacity = maxCapacity;
+        allocate(OpenAddressing.capacityFor(expectedSize, loadFactor));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalStateException if the key is new and the table is full and can not grow anymore; the map is not
+     *                               changed then
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public V put(K key, V value) {
+        Objects.requireNonNull(key);
+        int index = indexOf(key);
+        if (keys[index] != null) {
+            V oldValue = (V) values[index];
+            values[index] = value;
+            return oldValue;
+        }
+        if (size >= threshold) {
+            resize(OpenAddressing.grow(keys.length, maxCapacity));
+            index = indexOf(key);
+        }
+        keys[index] = key;
+        values[index] = value;
+        size++;
+        return null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V get(K key) {
+        Objects.requireNonNull(key);
+        return (V) values[indexOf(key)];
+    }
+
+    @Override
+    public boolean containsKey(K key) {
+        Objects.requireNonNull(key);
+        return keys[indexOf(key)] != null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V remove(K key) {
+        Objects.requireNonNull(key);
+        int index = indexOf(key);
+        if (keys[index] == null) {
+            return null;
+        }
+        V oldValue = (V) values[index];
+        OpenAddressing.shiftBack(keys, values, index, mask);
+        size--;
+        return oldValue;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(keys, null);
+        Arrays.fill(values, null);
+        size = 0;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void forEach(BiConsumer<? super K, ? super V> consumer) {
+        Objects.requireNonNull(consumer);
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != null) {
+                consumer.accept((K) keys[i], (V) values[i]);
+            }
+        }
+    }
+
+    private int indexOf(Object key) {
+        return OpenAddressing.indexOf(keys, key, mask);
+    }
+
+    private void allocate(int capacity) {
+        keys = new Object[capacity];
+        values = new Object[capacity];
+        mask = capacity - 1;
+        threshold = OpenAddressing.threshold(capacity, loadFactor);
+    }
+
+    private void resize(int capacity) {
+        Object[] oldKeys = keys;
+        Object[] oldValues = values;
+        allocate(capacity);
+        OpenAddressing.rehash(oldKeys, oldValues, keys, values, mask);
+    }
+}
@@ -0,0 +1,211 @@
+package com.bobocode.cs;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * {@link HashSet} is a set of unique elements based on a hash table with open addressing. Elements are stored in one
+ * flat array, with linear probing and backward shift deletion, the same way as keys of {@link HashMap}. Unlike
+ * {@link java.util.HashSet}, it is not backed by a map, so no array of values is allocated.
+ * <p>
+ * Null elements are not allowed. The set is not thread-safe.
+ *
+ * @param <E> a type of elements
+ */
+public class HashSet<E> implements Iterable<E> {
+
+    private final float loadFactor;
+    private final int maxCapacity;
+    private Object[] elements;
+    private int size;
+    private int mask;
+    private int threshold;
+
+    /**
+     * Creates an empty set with the default load factor 0.5
+     */
+    public HashSet() {
+        this(OpenAddressing.DEFAULT_EXPECTED_SIZE);
+    }
+
+    /**
+     * Creates an empty set that holds expectedSize elements without resizing
+     *
+     * @param expectedSize expected number of elements
+     * @throws IllegalArgumentException if expectedSize is negative
+     */
+    public HashSet(int expectedSize) {
+        this(expectedSize, OpenAddressing.DEFAULT_LOAD_FACTOR);
+    }
+
+    /**
+     * Creates an empty set that holds expectedSize elements without resizing
+     *
+     * @param expectedSize expected number of elements
+     * @param loadFactor   max share of occupied slots, in range (0, 1)
+     * @throws IllegalArgumentException if expectedSize is negative or loadFactor is out of range
+     */
+    public HashSet(int expectedSize, float loadFactor) {
+        this(expectedSize, loadFactor, OpenAddressing.MAX_CAPACITY);
+    }
+
+    HashSet(int expectedSize, float loadFactor, int maxCapacity) {
+        this.loadFactor = loadFactor;
+        this.maxCapacity = maxCapacity;
+        allocate(OpenAddressing.capacityFor(expectedSize, loadFactor));
+    }
+
+    /**
+     * Creates a set of provided elements
+     *
+     * @param elements elements to add
+     * @param <E>      generic type
+     * @return a new set of unique elements
+     */
+    @SafeVarargs
+    public static <E> HashSet<E> of(E... elements) {
+        HashSet<E> set = new HashSet<>(elements.length);
+        for (E e : elements) {
+            set.add(e);
+        }
+        return set;
+    }
+
+    /**
+     * Adds an element to the set
+     *
+     * @param element an element, not null
+     * @return {@code true} if the set did not contain the element
+     * @throws IllegalStateException if the element is new and the table is full and can not grow anymore; the set is
+     *                               not changed then
+     */
+    public boolean add(E element) {
+        Objects.requireNonNull(element);
+        int index = indexOf(element);
+        if (elements[index] != null) {
+            return false;
+        }
+        if (size >= threshold) {
+            resize(OpenAddressing.grow(elements.length, maxCapacity));
+            index = indexOf(element);
+        }
+        elements[index] = element;
+        size++;
+        return true;
+    }
+
+    /**
+     * @param element an element, not null
+     * @return {@code true} if the set contains the element
+     */
+    public boolean contains(E element) {
+        Objects.requireNonNull(element);
+        return elements[indexOf(element)] != null;
+    }
+
+    /**
+     * Removes an element from the set
+     *
+     * @param element an element, not null
+     * @return {@code true} if the set contained the element
+     */
+    public boolean remove(E element) {
+        Objects.requireNonNull(element);
+        int index = indexOf(element);
+        if (elements[index] == null) {
+            return false;
+        }
+        OpenAddressing.shiftBack(elements, null, index, mask);
+        size--;
+        return true;
+    }
+
+    /**
+     * @return number of elements in the set
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return {@code true} if the set is empty, {@code false} otherwise
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Removes all elements
+     */
+    public void clear() {
+        Arrays.fill(elements, null);
+        size = 0;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void forEach(Consumer<? super E> action) {
+        Objects.requireNonNull(action);
+        for (Object e : elements) {
+            if (e != null) {
+                action.accept((E) e);
+            }
+        }
+    }
+
+    /**
+     * Returns an iterator over elements in no particular order. The set must not be modified during iteration, and
+     * the iterator does not support {@link Iterator#remove()}, because removal shifts elements back.
+     *
+     * @return an iterator over elements of the set
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<>() {
+            private final Object[] table = elements;
+            private int index = nextOccupied(0);
+
+            private int nextOccupied(int from) {
+                while (from < table.length && table[from] == null) {
+                    from++;
+                }
+                return from;
+            }
+
+            @Override
+            public boolean hasNext() {
+                return index < table.length;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public E next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                E element = (E) table[index];
+                index = nextOccupied(index + 1);
+                return element;
+            }
+        };
+    }
+
+    private int indexOf(Object element) {
+        return OpenAddressing.indexOf(elements, element, mask);
+    }
+
+    private void allocate(int capacity) {
+        elements = new Object[capacity];
+        mask = capacity - 1;
+        threshold = OpenAddressing.threshold(capacity, loadFactor);
+    }
+
+    private void resize(int capacity) {
+        Object[] oldElements = elements;
+        allocate(capacity);
+        OpenAddressing.rehash(oldElements, null, elements, null, mask);
+    }
+}
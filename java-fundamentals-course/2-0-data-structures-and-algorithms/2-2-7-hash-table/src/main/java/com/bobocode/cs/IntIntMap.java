@@ -0,0 +1,255 @@
+package com.bobocode.cs;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * {@link IntIntMap} is a hash map with primitive {@code int} keys and values. Keys and values are stored in two
+ * {@code int[]} arrays, so the map allocates nothing per entry, and a lookup reads no objects at all. It uses linear
+ * probing and backward shift deletion, the same way as {@link HashMap}.
+ * <p>
+ * A free slot is marked with key 0, so an entry with key 0 is kept in separate fields outside the table.
+ * The map is not thread-safe.
+ */
+public class IntIntMap {
+
+    private static final int FREE = 0;
+
+    private final float loadFactor;
+    private final int maxCapacity;
+    private int[] keys;
+    private int[] values;
+    private int size;
+    private int mask;
+    private int threshold;
+    private boolean hasFreeKey;
+    private int freeKeyValue;
+
+    /**
+     * Creates an empty map with the default load factor 0.5
+     */
+    public IntIntMap() {
+        this(OpenAddressing.DEFAULT_EXPECTED_SIZE);
+    }
+
+    /**
+     * Creates an empty map that holds expectedSize entries without resizing
+     *
+     * @param expectedSize expected number of entries
+     * @throws IllegalArgumentException if expectedSize is negative
+     */
+    public IntIntMap(int expectedSize) {
+        this(expectedSize, OpenAddressing.DEFAULT_LOAD_FACTOR);
+    }
+
+    /**
+     * Creates an empty map that holds expectedSize entries without resizing
+     *
+     * @param expectedSize expected number of entries
+     * @param loadFactor   max share of occupied slots, in range (0, 1)
+     * @throws IllegalArgumentException if expectedSize is negative or loadFactor is out of range
+     */
+    public IntIntMap(int expectedSize, float loadFactor) {
+        this(expectedSize, loadFactor, OpenAddressing.MAX_CAPACITY);
+    }
+
+    IntIntMap(int expectedSize, float loadFactor, int maxCapacity) {
+        this.loadFactor = loadFactor;
+        this.maxCapacity = maxCapacity;
+        allocate(OpenAddressing.capacityFor(expectedSize, loadFactor));
+    }
+
+    /**
+     * Associates the value with the key. If the map already contains the key, its value is replaced.
+     *
+     * @throws IllegalStateException if the key is new and the table is full and can not grow anymore
+     */
+    public void put(int key, int value) {
+        if (key == FREE) {
+            if (!hasFreeKey) {
+                hasFreeKey = true;
+                size++;
+            }
+            freeKeyValue = value;
+            return;
+        }
+        int index = indexOf(key);
+        if (keys[index] != FREE) {
+            values[index] = value;
+        } else {
+            insert(index, key, value);
+        }
+    }
+
+    /**
+     * Adds increment to the value associated with the key, or associates increment with the key if there is no
+     * such key. It is the same as {@code put(key, getOrDefault(key, 0) + increment)}, but looks the key up once.
+     *
+     * @return the new value associated with the key
+     * @throws IllegalStateException if the key is new and the table is full and can not grow anymore
+     */
+    public int addTo(int key, int increment) {
+        if (key == FREE) {
+            put(FREE, freeKeyValue + increment);
+            return freeKeyValue;
+        }
+        int index = indexOf(key);
+        if (keys[index] != FREE) {
+            return values[index] += increment;
+        }
+        insert(index, key, increment);
+        return increment;
+    }
+
+    /**
+     * @return the value associated with the key, or defaultValue if there is no such key
+     */
+    public int getOrDefault(int key, int defaultValue) {
+        if (key == FREE) {
+            return hasFreeKey ? freeKeyValue : defaultValue;
+        }
+        int index = indexOf(key);
+        return keys[index] != FREE ? values[index] : defaultValue;
+    }
+
+    /**
+     * @return {@code true} if the map contains the key, {@code false} otherwise
+     */
+    public boolean containsKey(int key) {
+        if (key == FREE) {
+            return hasFreeKey;
+        }
+        return keys[indexOf(key)] != FREE;
+    }
+
+    /**
+     * Removes the key and its value from the map
+     *
+     * @return {@code true} if the map contained the key
+     */
+    public boolean remove(int key) {
+        if (key == FREE) {
+            if (!hasFreeKey) {
+                return false;
+            }
+            hasFreeKey = false;
+            freeKeyValue = 0;
+            size--;
+            return true;
+        }
+        int index = indexOf(key);
+        if (keys[index] == FREE) {
+            return false;
+        }
+        shiftBack(index);
+        size--;
+        return true;
+    }
+
+    /**
+     * @return number of entries in the map
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return {@code true} if the map is empty, {@code false} otherwise
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Removes all entries
+     */
+    public void clear() {
+        Arrays.fill(keys, FREE);
+        hasFreeKey = false;
+        freeKeyValue = 0;
+        size = 0;
+    }
+
+    /**
+     * Passes every entry to the consumer, in no particular order
+     *
+     * @param consumer accepts a key and its value
+     */
+    public void forEach(IntIntConsumer consumer) {
+        Objects.requireNonNull(consumer);
+        if (hasFreeKey) {
+            consumer.accept(FREE, freeKeyValue);
+        }
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != FREE) {
+                consumer.accept(keys[i], values[i]);
+            }
+        }
+    }
+
+    /**
+     * Accepts a primitive int key and its primitive int value
+     */
+    @FunctionalInterface
+    public interface IntIntConsumer {
+        void accept(int key, int value);
+    }
+
+    private int indexOf(int key) {
+        int index = OpenAddressing.mix(key) & mask;
+        int current;
+        while ((current = keys[index]) != FREE && current != key) {
+            index = (index + 1) & mask;
+        }
+        return index;
+    }
+
+    private void shiftBack(int gap) {
+        for (int index = (gap + 1) & mask; keys[index] != FREE; index = (index + 1) & mask) {
+            int home = OpenAddressing.mix(keys[index]) & mask;
+            if (OpenAddressing.canShift(home, gap, index, mask)) {
+                keys[gap] = keys[index];
+                values[gap] = values[index];
+                gap = index;
+            }
+        }
+        keys[gap] = FREE;
+    }
+
+    /**
+     * Stores a new key in the free slot at index, resizing the table first if the key would exceed the threshold. If
+     * the table can not grow anymore, the map is not changed.
+     */
+    private void insert(int index, int key, int value) {
+        if (size >= threshold) {
+            resize(OpenAddressing.grow(keys.length, maxCapacity));
+            index = indexOf(key);
+        }
+        keys[index] = key;
+        values[index] = value;
+        size++;
+    }
+
+    private void allocate(int capacity) {
+        keys = new int[capacity];
+        values = new int[capacity];
+        mask = capacity - 1;
+        threshold = OpenAddressing.threshold(capacity, loadFactor);
+    }
+
+    private void resize(int capacity) {
+        int[] oldKeys = keys;
+        int[] oldValues = values;
+        allocate(capacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != FREE) {
+                int index = OpenAddressing.mix(oldKeys[i]) & mask;
+                while (keys[index] != FREE) {
+                    index = (index + 1) & mask;
+                }
+                keys[index] = oldKeys[i];
+                values[index] = oldValues[i];
+            }
+        }
+    }
+}
@@ -0,0 +1,249 @@
+package com.bobocode.cs;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * {@link LongObjectMap} is a hash map with primitive {@code long} keys. Keys are stored in a {@code long[]} array, so
+ * they are neither boxed nor referenced from node objects. It uses linear probing and backward shift deletion, the
+ * same way as {@link HashMap}.
+ * <p>
+ * A free slot is marked with key 0, so an entry with key 0 is kept in separate fields outside the table.
+ * The map is not thread-safe.
+ *
+ * @param <V> a type of values
+ */
+public class LongObjectMap<V> {
+
+    private static final long FREE = 0L;
+
+    private final float loadFactor;
+    private final int maxCapacity;
+    private long[] keys;
+    private Object[] values;
+    private int size;
+    private int mask;
+    private int threshold;
+    private boolean hasFreeKey;
+    private V freeKeyValue;
+
+    /**
+     * Creates an empty map with the default load factor 0.5
+     */
+    public LongObjectMap() {
+        this(OpenAddressing.DEFAULT_EXPECTED_SIZE);
+    }
+
+    /**
+     * Creates an empty map that holds expectedSize entries without resizing
+     *
+     * @param expectedSize expected number of entries
+     * @throws IllegalArgumentException if expectedSize is negative
+     */
+    public LongObjectMap(int expectedSize) {
+        this(expectedSize, OpenAddressing.DEFAULT_LOAD_FACTOR);
+    }
+
+    /**
+     * Creates an empty map that holds expectedSize entries without resizing
+     *
+     * @param expectedSize expected number of entries
+     * @param loadFactor   max share of occupied slots, in range (0, 1)
+     * @throws IllegalArgumentException if expectedSize is negative or loadFactor is out of range
+     */
+    public LongObjectMap(int expectedSize, float loadFactor) {
+        this(expectedSize, loadFactor, OpenAddressing.MAX_CAPACITY);
+    }
+
+    LongObjectMap(int expectedSize, float loadFactor, int maxCapacity) {
+        this.loadFactor = loadFactor;
+        this.maxCapacity = maxCapacity;
+        allocate(OpenAddressing.capacityFor(expectedSize, loadFactor));
+    }
+
+    /**
+     * Associates the value with the key
+     *
+     * @return the previous value associated with the key, or null if there was no such key
+     * @throws IllegalStateException if the key is new and the table is full and can not grow anymore
+     */
+    @SuppressWarnings("unchecked")
+    public V put(long key, V value) {
+        if (key == FREE) {
+            V oldValue = freeKeyValue;
+            if (!hasFreeKey) {
+                hasFreeKey = true;
+                size++;
+            }
+            freeKeyValue = value;
+            return oldValue;
+        }
+        int index = indexOf(key);
+        if (keys[index] != FREE) {
+            V oldValue = (V) values[index];
+            values[index] = value;
+            return oldValue;
+        }
+        insert(index, key, value);
+        return null;
+    }
+
+    /**
+     * @return the value associated with the key, or null if there is no such key
+     */
+    @SuppressWarnings("unchecked")
+    public V get(long key) {
+        if (key == FREE) {
+            return freeKeyValue;
+        }
+        return (V) values[indexOf(key)];
+    }
+
+    /**
+     * @return {@code true} if the map contains the key, {@code false} otherwise
+     */
+    public boolean containsKey(long key) {
+        if (key == FREE) {
+            return hasFreeKey;
+        }
+        return keys[indexOf(key)] != FREE;
+    }
+
+    /**
+     * Removes the key and its value from the map
+     *
+     * @return the removed value, or null if there was no such key
+     */
+    @SuppressWarnings("unchecked")
+    public V remove(long key) {
+        if (key == FREE) {
+            V oldValue = freeKeyValue;
+            if (hasFreeKey) {
+                hasFreeKey = false;
+                freeKeyValue = null;
+                size--;
+            }
+            return oldValue;
+        }
+        int index = indexOf(key);
+        if (keys[index] == FREE) {
+            return null;
+        }
+        V oldValue = (V) values[index];
+        shiftBack(index);
+        size--;
+        return oldValue;
+    }
+
+    /**
+     * @return number of entries in the map
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return {@code true} if the map is empty, {@code false} otherwise
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Removes all entries
+     */
+    public void clear() {
+        Arrays.fill(keys, FREE);
+        Arrays.fill(values, null);
+        hasFreeKey = false;
+        freeKeyValue = null;
+        size = 0;
+    }
+
+    /**
+     * Passes every entry to the consumer, in no particular order
+     *
+     * @param consumer accepts a key and its value
+     */
+    @SuppressWarnings("unchecked")
+    public void forEach(LongObjectConsumer<? super V> consumer) {
+        Objects.requireNonNull(consumer);
+        if (hasFreeKey) {
+            consumer.accept(FREE, freeKeyValue);
+        }
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != FREE) {
+                consumer.accept(keys[i], (V) values[i]);
+            }
+        }
+    }
+
+    /**
+     * Accepts a primitive long key and its value
+     *
+     * @param <V> a type of values
+     */
+    @FunctionalInterface
+    public interface LongObjectConsumer<V> {
+        void accept(long key, V value);
+    }
+
+    private int indexOf(long key) {
+        int index = OpenAddressing.mix(key) & mask;
+        long current;
+        while ((current = keys[index]) != FREE && current != key) {
+            index = (index + 1) & mask;
+        }
+        return index;
+    }
+
+    private void shiftBack(int gap) {
+        for (int index = (gap + 1) & mask; keys[index] != FREE; index = (index + 1) & mask) {
+            int home = OpenAddressing.mix(keys[index]) & mask;
+            if (OpenAddressing.canShift(home, gap, index, mask)) {
+                keys[gap] = keys[index];
+                values[gap] = values[index];
+                gap = index;
+            }
+        }
+        keys[gap] = FREE;
+        values[gap] = null;
+    }
+
+    /**
+     * Stores a new key in the free slot at index, resizing the table first if the key would exceed the threshold. If
+     * the table can not grow anymore, the map is not changed.
+     */
+    private void insert(int index, long key, V value) {
+        if (size >= threshold) {
+            resize(OpenAddressing.grow(keys.length, maxCapacity));
+            index = indexOf(key);
+        }
+        keys[index] = key;
+        values[index] = value;
+        size++;
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new Object[capacity];
+        mask = capacity - 1;
+        threshold = OpenAddressing.threshold(capacity, loadFactor);
+    }
+
+    private void resize(int capacity) {
+        long[] oldKeys = keys;
+        Object[] oldValues = values;
+        allocate(capacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != FREE) {
+                int index = OpenAddressing.mix(oldKeys[i]) & mask;
+                while (keys[index] != FREE) {
+                    index = (index + 1) & mask;
+                }
+                keys[index] = oldKeys[i];
+                values[index] = oldValues[i];
+            }
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.bobocode.cs;
+
+import java.util.function.BiConsumer;
+
+/**
+ * Map is a data structure that stores key-value pairs, where each key is unique. Operations
+ * {@link Map#put(Object, Object)}, {@link Map#get(Object)} and {@link Map#remove(Object)} are performed in constant
+ * time O(1) on average.
+ *
+ * @param <K> a type of keys
+ * @param <V> a type of values
+ */
+public interface Map<K, V> {
+    /**
+     * Associates the value with the key. If the map already contains the key, its value is replaced.
+     *
+     * @param key   a key, not null
+     * @param value a value
+     * @return the previous value associated with the key, or null if there was no such key
+     */
+    V put(K key, V value);
+
+    /**
+     * @param key a key, not null
+     * @return the value associated with the key, or null if there is no such key
+     */
+    V get(K key);
+
+    /**
+     * @param key a key, not null
+     * @return {@code true} if the map contains the key, {@code false} otherwise
+     */
+    boolean containsKey(K key);
+
+    /**
+     * Removes the key and its value from the map.
+     *
+     * @param key a key, not null
+     * @return the removed value, or null if there was no such key
+     */
+    V remove(K key);
+
+    /**
+     * @return number of key-value pairs in the map
+     */
+    int size();
+
+    /**
+     * @return {@code true} if the map is empty, {@code false} otherwise
+     */
+    boolean isEmpty();
+
+    /**
+     * Removes all key-value pairs
+     */
+    void clear();
+
+    /**
+     * Passes every key-value pair to the consumer, in no particular order
+     *
+     * @param consumer accepts a key and its value
+     */
+    void forEach(BiConsumer<? super K, ? super V> consumer);
+}
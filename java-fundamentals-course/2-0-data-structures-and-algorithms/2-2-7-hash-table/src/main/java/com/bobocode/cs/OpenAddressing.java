@@ -0,0 +1,128 @@
+package com.bobocode.cs;
+
+/**
+ * {@link OpenAddressing} holds the table arithmetic shared by hash tables of this package. A table has a capacity that
+ * is a power of two, so a slot index is taken with a bit mask. Hash codes are mixed before masking, so keys with
+ * sequential hash codes or hash codes that differ only in high bits are spread over the whole table.
+ * <p>
+ * A table never becomes full: the resize threshold is always less than the capacity, and a table that can not grow
+ * anymore refuses to insert an entry past its threshold, so a probe sequence always reaches a free slot.
+ * <p>
+ * Probing of tables with object keys is shared here. Tables with primitive keys have their own copies of the same
+ * loops, because they compare keys with {@code ==} and mark free slots with key 0.
+ */
+final class OpenAddressing {
+
+    static final float DEFAULT_LOAD_FACTOR = 0.5f;
+    static final int DEFAULT_EXPECTED_SIZE = 8;
+    static final int MAX_CAPACITY = 1 << 30;
+
+    private OpenAddressing() {
+    }
+
+    static int mix(int hash) {
+        int h = hash * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    static int mix(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    /**
+     * @return the least power of two capacity that holds expectedSize entries without exceeding the load factor
+     * @throws IllegalArgumentException if expectedSize is negative or loadFactor is not in range (0, 1)
+     */
+    static int capacityFor(int expectedSize, float loadFactor) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("Expected size is negative: " + expectedSize);
+        }
+        if (!(loadFactor > 0 && loadFactor < 1)) {
+            throw new IllegalArgumentException("Load factor must be in range (0, 1): " + loadFactor);
+        }
+        long minCapacity = (long) Math.ceil(expectedSize / (double) loadFactor) + 1;
+        if (minCapacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Expected size is too large: " + expectedSize);
+        }
+        return Math.max(2, Integer.highestOneBit((int) minCapacity - 1) << 1);
+    }
+
+    /**
+     * @return max number of entries a table of the capacity holds before it is resized
+     */
+    static int threshold(int capacity, float loadFactor) {
+        return Math.min((int) (capacity * loadFactor), capacity - 1);
+    }
+
+    /**
+     * @return capacity of a table that replaces a full one
+     * @throws IllegalStateException if the table already has maxCapacity
+     */
+    static int grow(int capacity, int maxCapacity) {
+        if (capacity >= maxCapacity) {
+            throw new IllegalStateException("Hash table is full");
+        }
+        return capacity << 1;
+    }
+
+    /**
+     * Checks whether an entry that is stored at index, but belongs to home index, can be moved to an earlier free
+     * slot gap. It can, if the gap is on its probe path, i.e. the gap is between home and index in cyclic order.
+     */
+    static boolean canShift(int home, int gap, int index, int mask) {
+        return ((index - home) & mask) >= ((index - gap) & mask);
+    }
+
+    /**
+     * @return index of the slot that holds the key, or of the free slot where the key should be stored
+     */
+    static int indexOf(Object[] keys, Object key, int mask) {
+        int index = mix(key.hashCode()) & mask;
+        Object current;
+        while ((current = keys[index]) != null && !current.equals(key)) {
+            index = (index + 1) & mask;
+        }
+        return index;
+    }
+
+    /**
+     * Frees the slot at gap, moving back entries that follow it on their probe paths. Values are moved together with
+     * their keys, unless values is null.
+     */
+    static void shiftBack(Object[] keys, Object[] values, int gap, int mask) {
+        for (int index = (gap + 1) & mask; keys[index] != null; index = (index + 1) & mask) {
+            int home = mix(keys[index].hashCode()) & mask;
+            if (canShift(home, gap, index, mask)) {
+                keys[gap] = keys[index];
+                if (values != null) {
+                    values[gap] = values[index];
+                }
+                gap = index;
+            }
+        }
+        keys[gap] = null;
+        if (values != null) {
+            values[gap] = null;
+        }
+    }
+
+    /**
+     * Stores all entries of the old arrays in the new empty ones. Values are copied together with their keys, unless
+     * values are null.
+     */
+    static void rehash(Object[] oldKeys, Object[] oldValues, Object[] keys, Object[] values, int mask) {
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != null) {
+                int index = mix(oldKeys[i].hashCode()) & mask;
+                while (keys[index] != null) {
+                    index = (index + 1) & mask;
+                }
+                keys[index] = oldKeys[i];
+                if (values != null) {
+                    values[index] = oldValues[i];
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package com.bobocode.cs;
+
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+/**
+ * A test class for {@link HashMap}.
+ */
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class HashMapTest {
+
+    private Map<String, Integer> map = new HashMap<>();
+
+    @Test
+    @Order(1)
+    void putAndGet() {
+        assertThat(map.put("one", 1)).isNull();
+        assertThat(map.put("two", 2)).isNull();
+
+        assertThat(map.get("one")).isEqualTo(1);
+        assertThat(map.get("two")).isEqualTo(2);
+        assertThat(map.get("three")).isNull();
+        assertThat(map.size()).isEqualTo(2);
+    }
+
+    @Test
+    @Order(2)
+    void putReplacesValue() {
+        map.put("one", 1);
+
+        assertThat(map.put("one", 10)).isEqualTo(1);
+        assertThat(map.get("one")).isEqualTo(10);
+        assertThat(map.size()).isEqualTo(1);
+    }
+
+    @Test
+    @Order(3)
+    void removeAndContainsKey() {
+        map.put("one", 1);
+        map.put("two", 2);
+
+        assertThat(map.remove("one")).isEqualTo(1);
+        assertThat(map.remove("one")).isNull();
+        assertThat(map.containsKey("one")).isFalse();
+        assertThat(map.containsKey("two")).isTrue();
+        assertThat(map.size()).isEqualTo(1);
+    }
+
+    @Test
+    @Order(4)
+    void nullKeysAreNotAllowed() {
+        assertThatNullPointerException().isThrownBy(() -> map.put(null, 1));
+        assertThatNullPointerException().isThrownBy(() -> map.get(null));
+        assertThatNullPointerException().isThrownBy(() -> map.remove(null));
+    }
+
+    @Test
+    @Order(5)
+    void wrongConstructorParameters() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new HashMap<>(-1));
+        assertThatIllegalArgumentException().isThrownBy(() -> new HashMap<>(10, 0f));
+        assertThatIllegalArgumentException().isThrownBy(() -> new HashMap<>(10, 1f));
+    }
+
+    @Test
+    @Order(6)
+    void removeKeepsCollidingKeysReachable() {
+        Map<CollidingKey, Integer> collidingMap = new HashMap<>(4, 0.9f);
+        for (int i = 0; i < 30; i++) {
+            collidingMap.put(new CollidingKey(i, i % 3), i);
+        }
+
+        for (int i = 0; i < 30; i += 2) {
+            assertThat(collidingMap.remove(new CollidingKey(i, i % 3))).isEqualTo(i);
+        }
+
+        assertThat(collidingMap.size()).isEqualTo(15);
+        for (int i = 0; i < 30; i++) {
+            assertThat(collidingMap.get(new CollidingKey(i, i % 3))).isEqualTo(i % 2 == 0 ? null : i);
+        }
+    }
+
+    @Test
+    @Order(7)
+    void randomOperationsMatchJdkHashMap() {
+        for (float loadFactor : new float[]{0.25f, 0.5f, 0.9f}) {
+            Map<Integer, Integer> tested = new HashMap<>(0, loadFactor);
+            java.util.HashMap<Integer, Integer> expected = new java.util.HashMap<>();
+            Random random = new Random(42);
+            for (int i = 0; i < 100_000; i++) {
+                int key = random.nextInt(5000);
+                if (random.nextInt(3) == 0) {
+                    assertThat(tested.remove(key)).isEqualTo(expected.remove(key));
+                } else {
+                    assertThat(tested.put(key, i)).isEqualTo(expected.put(key, i));
+                }
+            }
+
+            assertThat(tested.size()).isEqualTo(expected.size());
+            java.util.HashMap<Integer, Integer> copy = new java.util.HashMap<>();
+            tested.forEach(copy::put);
+            assertThat(copy).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    @Order(8)
+    void clear() {
+        map.put("one", 1);
+
+        map.clear();
+
+        assertThat(map.isEmpty()).isTrue();
+        assertThat(map.get("one")).isNull();
+        map.put("one", 1);
+        assertThat(map.size()).isEqualTo(1);
+    }
+
+    @Test
+    @Order(9)
+    void fullTableRejectsNewKeysWithoutChange() {
+        map = new HashMap<>(0, 0.5f, 4);
+        map.put("one", 1);
+        map.put("two", 2);
+
+        for (int i = 0; i < 3; i++) {
+            assertThatIllegalStateException().isThrownBy(() -> map.put("three", 3));
+        }
+
+        assertThat(map.size()).isEqualTo(2);
+        assertThat(map.containsKey("three")).isFalse();
+        assertThat(map.get("four")).isNull();
+        assertThat(map.put("one", 10)).isEqualTo(1);
+        map.remove("two");
+        map.put("three", 3);
+        assertThat(map.get("three")).isEqualTo(3);
+    }
+
+    static class CollidingKey {
+        private final int id;
+        private final int hash;
+
+        CollidingKey(int id, int hash) {
+            this.id = id;
+            this.hash = hash;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof CollidingKey && ((CollidingKey) o).id == id;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
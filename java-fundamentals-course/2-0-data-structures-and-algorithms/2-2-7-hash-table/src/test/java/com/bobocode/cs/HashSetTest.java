@@ -0,0 +1,92 @@
+package com.bobocode.cs;
+
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+/**
+ * A test class for {@link HashSet}.
+ */
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class HashSetTest {
+
+    private HashSet<Integer> set = new HashSet<>();
+
+    @Test
+    @Order(1)
+    void addContainsAndRemove() {
+        assertThat(set.add(1)).isTrue();
+        assertThat(set.add(1)).isFalse();
+        assertThat(set.add(2)).isTrue();
+
+        assertThat(set.contains(1)).isTrue();
+        assertThat(set.remove(1)).isTrue();
+        assertThat(set.remove(1)).isFalse();
+        assertThat(set.contains(1)).isFalse();
+        assertThat(set.size()).isEqualTo(1);
+    }
+
+    @Test
+    @Order(2)
+    void ofKeepsUniqueElements() {
+        set = HashSet.of(3, 1, 3, 2, 1);
+
+        assertThat(set.size()).isEqualTo(3);
+        assertThat(set).containsExactlyInAnyOrder(1, 2, 3);
+    }
+
+    @Test
+    @Order(3)
+    void nullElementsAreNotAllowed() {
+        assertThatNullPointerException().isThrownBy(() -> set.add(null));
+        assertThatNullPointerException().isThrownBy(() -> set.contains(null));
+    }
+
+    @Test
+    @Order(4)
+    void iteratorVisitsEveryElementOnce() {
+        for (int i = 0; i < 1000; i++) {
+            set.add(i * 31);
+        }
+
+        List<Integer> iterated = new ArrayList<>();
+        Iterator<Integer> iterator = set.iterator();
+        while (iterator.hasNext()) {
+            iterated.add(iterator.next());
+        }
+
+        assertThat(iterated).hasSize(1000).doesNotHaveDuplicates().allMatch(e -> e % 31 == 0);
+        assertThatExceptionOfType(NoSuchElementException.class).isThrownBy(iterator::next);
+    }
+
+    @Test
+    @Order(5)
+    void randomOperationsMatchJdkHashSet() {
+        java.util.HashSet<Integer> expected = new java.util.HashSet<>();
+        Random random = new Random(42);
+        for (int i = 0; i < 100_000; i++) {
+            int element = random.nextInt(5000);
+            if (random.nextBoolean()) {
+                assertThat(set.remove(element)).isEqualTo(expected.remove(element));
+            } else {
+                assertThat(set.add(element)).isEqualTo(expected.add(element));
+            }
+        }
+
+        assertThat(set.size()).isEqualTo(expected.size());
+        java.util.HashSet<Integer> copy = new java.util.HashSet<>();
+        set.forEach(copy::add);
+        assertThat(copy).isEqualTo(expected);
+    }
+}
@@ -0,0 +1,115 @@
+package com.bobocode.cs;
+
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+/**
+ * A test class for {@link IntIntMap}.
+ */
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class IntIntMapTest {
+
+    private IntIntMap map = new IntIntMap();
+
+    @Test
+    @Order(1)
+    void putGetAndRemove() {
+        map.put(1, 10);
+        map.put(-1, -10);
+        map.put(1, 11);
+
+        assertThat(map.getOrDefault(1, 0)).isEqualTo(11);
+        assertThat(map.getOrDefault(-1, 0)).isEqualTo(-10);
+        assertThat(map.getOrDefault(2, -1)).isEqualTo(-1);
+        assertThat(map.size()).isEqualTo(2);
+        assertThat(map.remove(1)).isTrue();
+        assertThat(map.remove(1)).isFalse();
+        assertThat(map.containsKey(1)).isFalse();
+    }
+
+    @Test
+    @Order(2)
+    void zeroKey() {
+        map.put(0, 5);
+
+        assertThat(map.containsKey(0)).isTrue();
+        assertThat(map.getOrDefault(0, -1)).isEqualTo(5);
+        assertThat(map.addTo(0, 2)).isEqualTo(7);
+        assertThat(map.size()).isEqualTo(1);
+        assertThat(map.remove(0)).isTrue();
+        assertThat(map.getOrDefault(0, -1)).isEqualTo(-1);
+        assertThat(map.isEmpty()).isTrue();
+    }
+
+    @Test
+    @Order(3)
+    void addToCountsOccurrences() {
+        int[] words = {3, 0, 3, 7, 3, 0};
+        for (int word : words) {
+            map.addTo(word, 1);
+        }
+
+        assertThat(map.getOrDefault(3, 0)).isEqualTo(3);
+        assertThat(map.getOrDefault(0, 0)).isEqualTo(2);
+        assertThat(map.getOrDefault(7, 0)).isEqualTo(1);
+        assertThat(map.size()).isEqualTo(3);
+    }
+
+    @Test
+    @Order(4)
+    void wrongConstructorParameters() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new IntIntMap(-1));
+        assertThatIllegalArgumentException().isThrownBy(() -> new IntIntMap(10, 1.5f));
+    }
+
+    @Test
+    @Order(5)
+    void randomOperationsMatchJdkHashMap() {
+        for (float loadFactor : new float[]{0.25f, 0.5f, 0.9f}) {
+            map = new IntIntMap(0, loadFactor);
+            java.util.HashMap<Integer, Integer> expected = new java.util.HashMap<>();
+            Random random = new Random(42);
+            for (int i = 0; i < 100_000; i++) {
+                int key = (random.nextInt(5000) - 2500) << 12;
+                int operation = random.nextInt(3);
+                if (operation == 0) {
+                    assertThat(map.remove(key)).isEqualTo(expected.remove(key) != null);
+                } else if (operation == 1) {
+                    map.put(key, i);
+                    expected.put(key, i);
+                } else {
+                    assertThat(map.addTo(key, i)).isEqualTo(expected.merge(key, i, Integer::sum));
+                }
+            }
+
+            assertThat(map.size()).isEqualTo(expected.size());
+            java.util.HashMap<Integer, Integer> copy = new java.util.HashMap<>();
+            map.forEach(copy::put);
+            assertThat(copy).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    @Order(6)
+    void fullTableRejectsNewKeysWithoutChange() {
+        map = new IntIntMap(0, 0.5f, 4);
+        map.put(1, 1);
+        map.addTo(2, 2);
+
+        assertThatIllegalStateException().isThrownBy(() -> map.put(3, 3));
+        assertThatIllegalStateException().isThrownBy(() -> map.addTo(3, 3));
+
+        assertThat(map.size()).isEqualTo(2);
+        assertThat(map.containsKey(3)).isFalse();
+        assertThat(map.getOrDefault(4, -1)).isEqualTo(-1);
+        assertThat(map.addTo(1, 1)).isEqualTo(2);
+    }
+}
@@ -0,0 +1,83 @@
+package com.bobocode.cs;
+
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * A test class for {@link LongObjectMap}.
+ */
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class LongObjectMapTest {
+
+    private LongObjectMap<String> map = new LongObjectMap<>();
+
+    @Test
+    @Order(1)
+    void putGetAndRemove() {
+        assertThat(map.put(1L, "one")).isNull();
+        assertThat(map.put(Long.MAX_VALUE, "max")).isNull();
+        assertThat(map.put(1L, "ONE")).isEqualTo("one");
+
+        assertThat(map.get(1L)).isEqualTo("ONE");
+        assertThat(map.get(Long.MAX_VALUE)).isEqualTo("max");
+        assertThat(map.get(2L)).isNull();
+        assertThat(map.remove(1L)).isEqualTo("ONE");
+        assertThat(map.containsKey(1L)).isFalse();
+        assertThat(map.size()).isEqualTo(1);
+    }
+
+    @Test
+    @Order(2)
+    void zeroKey() {
+        assertThat(map.containsKey(0L)).isFalse();
+
+        assertThat(map.put(0L, "zero")).isNull();
+
+        assertThat(map.containsKey(0L)).isTrue();
+        assertThat(map.get(0L)).isEqualTo("zero");
+        assertThat(map.size()).isEqualTo(1);
+        assertThat(map.remove(0L)).isEqualTo("zero");
+        assertThat(map.remove(0L)).isNull();
+        assertThat(map.isEmpty()).isTrue();
+    }
+
+    @Test
+    @Order(3)
+    void randomOperationsMatchJdkHashMap() {
+        java.util.HashMap<Long, String> expected = new java.util.HashMap<>();
+        Random random = new Random(42);
+        for (int i = 0; i < 100_000; i++) {
+            long key = (random.nextInt(5000) - 2500) * 0x1_0000_0000L;
+            if (random.nextInt(3) == 0) {
+                assertThat(map.remove(key)).isEqualTo(expected.remove(key));
+            } else {
+                String value = String.valueOf(i);
+                assertThat(map.put(key, value)).isEqualTo(expected.put(key, value));
+            }
+        }
+
+        assertThat(map.size()).isEqualTo(expected.size());
+        java.util.HashMap<Long, String> copy = new java.util.HashMap<>();
+        map.forEach(copy::put);
+        assertThat(copy).isEqualTo(expected);
+    }
+
+    @Test
+    @Order(4)
+    void clear() {
+        map.put(0L, "zero");
+        map.put(1L, "one");
+
+        map.clear();
+
+        assertThat(map.isEmpty()).isTrue();
+        assertThat(map.containsKey(0L)).isFalse();
+        assertThat(map.get(1L)).isNull();
+    }
+}
@@ -1,7 +1,13 @@
 package com.bobocode.cs;
 
 
-public interface List<T> {
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+public interface List<T> extends Iterable<T> {
     void add(T element);
 
     void add(int index, T element);
@@ -23,4 +29,56 @@ public interface List<T> {
     int size();
 
     void clear();
+
+    /**
+     * Returns an iterator that accesses elements by index with {@link List#get(int)}. It does not detect concurrent
+     * modifications, so implementations should override this method with a fail-fast iterator, and with a faster
+     * one if {@link List#get(int)} does not take constant time.
+     *
+     * @return an iterator over elements of the list in proper sequence
+     */
+    @Override
+    default Iterator<T> iterator() {
+        return new Iterator<>() {
+            private int cursor;
+
+            @Override
+            public boolean hasNext() {
+                return cursor < size();
+            }
+
+            @Override
+            public T next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return get(cursor++);
+            }
+        };
+    }
+
+    /**
+     * Returns a spliterator that accesses elements by index with {@link List#get(int)} and splits by index range.
+     * Implementations that can traverse elements faster than by index should override this method.
+     *
+     * @return a spliterator over elements of the list
+     */
+    @Override
+    default Spliterator<T> spliterator() {
+        return new RandomAccessSpliterator<>(this, 0, size());
+    }
+
+    /**
+     * @return a sequential stream over elements of the list
+     */
+    default Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * @return a possibly parallel stream over elements of the list
+     */
+    default Stream<T> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
 }
@@ -0,0 +1,63 @@
+package com.bobocode.cs;
+
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * {@link RandomAccessSpliterator} traverses elements of a {@link List} between origin, inclusive, and fence, exclusive,
+ * using {@link List#get(int)}. It splits the range in halves, so each part knows its exact size.
+ *
+ * @param <T> a type of list elements
+ */
+class RandomAccessSpliterator<T> implements Spliterator<T> {
+
+    private final List<T> list;
+    private int index;
+    private final int fence;
+
+    RandomAccessSpliterator(List<T> list, int origin, int fence) {
+        this.list = list;
+        this.index = origin;
+        this.fence = fence;
+    }
+
+    @Override
+    public Spliterator<T> trySplit() {
+        int mid = (index + fence) >>> 1;
+        if (mid <= index) {
+            return null;
+        }
+        Spliterator<T> prefix = new RandomAccessSpliterator<>(list, index, mid);
+        index = mid;
+        return prefix;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+        Objects.requireNonNull(action);
+        if (index >= fence) {
+            return false;
+        }
+        action.accept(list.get(index++));
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super T> action) {
+        Objects.requireNonNull(action);
+        while (index < fence) {
+            action.accept(list.get(index++));
+        }
+    }
+
+    @Override
+    public long estimateSize() {
+        return fence - index;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | SIZED | SUBSIZED;
+    }
+}
@@ -0,0 +1,127 @@
+package com.bobocode.cs.benchmark;
+
+import com.bobocode.cs.ArrayList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares growth and bulk operations of {@link ArrayList} with {@link java.util.ArrayList}. Each benchmark builds
+ * a list of {@code size} elements from scratch, so resizing cost is a part of the measurement.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ArrayListBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    private int size;
+
+    private Integer[] elements;
+    private Integer[] batch;
+
+    @Setup
+    public void setUp() {
+        elements = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            elements[i] = i;
+        }
+        batch = Arrays.copyOf(elements, Math.max(1, size / 10));
+    }
+
+    @Benchmark
+    public ArrayList<Integer> appendOneByOne() {
+        ArrayList<Integer> list = new ArrayList<>();
+        for (Integer e : elements) {
+            list.add(e);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public java.util.ArrayList<Integer> appendOneByOneJdk() {
+        java.util.ArrayList<Integer> list = new java.util.ArrayList<>();
+        for (Integer e : elements) {
+            list.add(e);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public ArrayList<Integer> appendWithEnsureCapacity() {
+        ArrayList<Integer> list = new ArrayList<>();
+        list.ensureCapacity(size);
+        for (Integer e : elements) {
+            list.add(e);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public java.util.ArrayList<Integer> appendWithEnsureCapacityJdk() {
+        java.util.ArrayList<Integer> list = new java.util.ArrayList<>();
+        list.ensureCapacity(size);
+        for (Integer e : elements) {
+            list.add(e);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public ArrayList<Integer> addAll() {
+        ArrayList<Integer> list = new ArrayList<>();
+        list.addAll(elements);
+        return list;
+    }
+
+    @Benchmark
+    public java.util.ArrayList<Integer> addAllJdk() {
+        java.util.ArrayList<Integer> list = new java.util.ArrayList<>();
+        list.addAll(Arrays.asList(elements));
+        return list;
+    }
+
+    @Benchmark
+    public ArrayList<Integer> insertAllInTheMiddle() {
+        ArrayList<Integer> list = new ArrayList<>();
+        list.addAll(elements);
+        list.insertAll(size / 2, batch);
+        return list;
+    }
+
+    @Benchmark
+    public java.util.ArrayList<Integer> insertAllInTheMiddleJdk() {
+        java.util.ArrayList<Integer> list = new java.util.ArrayList<>(Arrays.asList(elements));
+        list.addAll(size / 2, Arrays.asList(batch));
+        return list;
+    }
+
+    @Benchmark
+    public ArrayList<Integer> removeRangeInTheMiddle() {
+        ArrayList<Integer> list = new ArrayList<>();
+        list.addAll(elements);
+        list.removeRange(size / 4, size / 2);
+        return list;
+    }
+
+    @Benchmark
+    public java.util.ArrayList<Integer> removeRangeInTheMiddleJdk() {
+        java.util.ArrayList<Integer> list = new java.util.ArrayList<>(Arrays.asList(elements));
+        list.subList(size / 4, size / 2).clear();
+        return list;
+    }
+}
@@ -0,0 +1,193 @@
+package com.bobocode.cs.benchmark;
+
+import com.bobocode.cs.ConcurrentLinkedQueue;
+import com.bobocode.cs.LinkedQueue;
+import com.bobocode.cs.Queue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures multi-producer/multi-consumer throughput of {@link ConcurrentLinkedQueue}, a {@link LinkedQueue} guarded
+ * by {@code synchronized} and {@link java.util.concurrent.ConcurrentLinkedQueue}. Producers and consumers of each
+ * group run in equal numbers, and groups cover 2, 4, 8, 16 and 32 threads. With a single thread the same thread
+ * adds an element and polls it right after.
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConcurrentQueueBenchmark {
+
+    private static final Integer ELEMENT = 42;
+
+    @Param({"lock-free", "synchronized", "jdk"})
+    private String implementation;
+
+    private Queue<Integer> queue;
+
+    @Setup
+    public void setUp() {
+        switch (implementation) {
+            case "lock-free":
+                queue = new ConcurrentLinkedQueue<>();
+                break;
+            case "synchronized":
+                queue = new SynchronizedQueue<>(new LinkedQueue<>());
+                break;
+            case "jdk":
+                queue = new JdkQueue<>(new java.util.concurrent.ConcurrentLinkedQueue<>());
+                break;
+            default:
+                throw new IllegalArgumentException(implementation);
+        }
+    }
+
+    @Benchmark
+    @Group("transfer1Thread")
+    @GroupThreads(1)
+    public Integer addPoll1Thread() {
+        queue.add(ELEMENT);
+        return queue.poll();
+    }
+
+    @Benchmark
+    @Group("transfer2Threads")
+    @GroupThreads(1)
+    public void add2Threads() {
+        queue.add(ELEMENT);
+    }
+
+    @Benchmark
+    @Group("transfer2Threads")
+    @GroupThreads(1)
+    public Integer poll2Threads() {
+        return queue.poll();
+    }
+
+    @Benchmark
+    @Group("transfer4Threads")
+    @GroupThreads(2)
+    public void add4Threads() {
+        queue.add(ELEMENT);
+    }
+
+    @Benchmark
+    @Group("transfer4Threads")
+    @GroupThreads(2)
+    public Integer poll4Threads() {
+        return queue.poll();
+    }
+
+    @Benchmark
+    @Group("transfer8Threads")
+    @GroupThreads(4)
+    public void add8Threads() {
+        queue.add(ELEMENT);
+    }
+
+    @Benchmark
+    @Group("transfer8Threads")
+    @GroupThreads(4)
+    public Integer poll8Threads() {
+        return queue.poll();
+    }
+
+    @Benchmark
+    @Group("transfer16Threads")
+    @GroupThreads(8)
+    public void add16Threads() {
+        queue.add(ELEMENT);
+    }
+
+    @Benchmark
+    @Group("transfer16Threads")
+    @GroupThreads(8)
+    public Integer poll16Threads() {
+        return queue.poll();
+    }
+
+    @Benchmark
+    @Group("transfer32Threads")
+    @GroupThreads(16)
+    public void add32Threads() {
+        queue.add(ELEMENT);
+    }
+
+    @Benchmark
+    @Group("transfer32Threads")
+    @GroupThreads(16)
+    public Integer poll32Threads() {
+        return queue.poll();
+    }
+
+    static class SynchronizedQueue<T> implements Queue<T> {
+        private final Queue<T> delegate;
+
+        SynchronizedQueue(Queue<T> delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public synchronized void add(T element) {
+            delegate.add(element);
+        }
+
+        @Override
+        public synchronized T poll() {
+            return delegate.poll();
+        }
+
+        @Override
+        public synchronized int size() {
+            return delegate.size();
+        }
+
+        @Override
+        public synchronized boolean isEmpty() {
+            return delegate.isEmpty();
+        }
+    }
+
+    static class JdkQueue<T> implements Queue<T> {
+        private final java.util.Queue<T> delegate;
+
+        JdkQueue(java.util.Queue<T> delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void add(T element) {
+            delegate.add(element);
+        }
+
+        @Override
+        public T poll() {
+            return delegate.poll();
+        }
+
+        @Override
+        public int size() {
+            return delegate.size();
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return delegate.isEmpty();
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.bobocode.cs.benchmark;
+
+import com.bobocode.cs.AvlBinarySearchTree;
+import com.bobocode.cs.BinarySearchTree;
+import com.bobocode.cs.ConcurrentBinarySearchTree;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Iterator;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Measures throughput of a random mix of {@code contains} and {@code insert} calls on {@link ConcurrentBinarySearchTree}
+ * and on {@link AvlBinarySearchTree} guarded by {@code synchronized}. The share of reads is set by the readPercent
+ * parameter, and the number of threads can be changed with {@code -t}. The tree is refilled before each iteration,
+ * so inserts keep adding new elements instead of hitting existing ones.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(4)
+@Fork(1)
+public class ConcurrentTreeBenchmark {
+
+    private static final int KEY_RANGE = 1 << 22;
+    private static final int INITIAL_SIZE = 1 << 16;
+
+    @Param({"concurrent", "synchronized"})
+    private String implementation;
+
+    @Param({"90", "50"})
+    private int readPercent;
+
+    private BinarySearchTree<Integer> tree;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        switch (implementation) {
+            case "concurrent":
+                tree = new ConcurrentBinarySearchTree<>();
+                break;
+            case "synchronized":
+                tree = new SynchronizedTree<>(new AvlBinarySearchTree<Integer>());
+                break;
+            default:
+                throw new IllegalArgumentException(implementation);
+        }
+        Random random = new Random(42);
+        for (int i = 0; i < INITIAL_SIZE; i++) {
+            tree.insert(random.nextInt(KEY_RANGE));
+        }
+    }
+
+    @Benchmark
+    public boolean readWriteMix() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Integer key = random.nextInt(KEY_RANGE);
+        if (random.nextInt(100) < readPercent) {
+            return tree.contains(key);
+        }
+        return tree.insert(key);
+    }
+
+    static class SynchronizedTree<T extends Comparable<T>> implements BinarySearchTree<T> {
+        private final BinarySearchTree<T> delegate;
+
+        SynchronizedTree(BinarySearchTree<T> delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public synchronized boolean insert(T element) {
+            return delegate.insert(element);
+        }
+
+        @Override
+        public synchronized boolean contains(T element) {
+            return delegate.contains(element);
+        }
+
+        @Override
+        public synchronized int size() {
+            return delegate.size();
+        }
+
+        @Override
+        public synchronized int depth() {
+            return delegate.depth();
+        }
+
+        @Override
+        public synchronized void inOrderTraversal(Consumer<T> consumer) {
+            delegate.inOrderTraversal(consumer);
+        }
+
+        @Override
+        public synchronized T floor(T element) {
+            return delegate.floor(element);
+        }
+
+        @Override
+        public synchronized T ceiling(T element) {
+            return delegate.ceiling(element);
+        }
+
+        @Override
+        public synchronized T min() {
+            return delegate.min();
+        }
+
+        @Override
+        public synchronized T max() {
+            return delegate.max();
+        }
+
+        @Override
+        public synchronized void rangeTraversal(T from, T to, Consumer<T> consumer) {
+            delegate.rangeTraversal(from, to, consumer);
+        }
+
+        /**
+         * The iterator is not synchronized, it must be used while holding the lock of this tree
+         */
+        @Override
+        public Iterator<T> iterator() {
+            return delegate.iterator();
+        }
+    }
+}
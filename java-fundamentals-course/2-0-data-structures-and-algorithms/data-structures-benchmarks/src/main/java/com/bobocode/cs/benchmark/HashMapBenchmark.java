@@ -0,0 +1,176 @@
+package com.bobocode.cs.benchmark;
+
+import com.bobocode.cs.HashMap;
+import com.bobocode.cs.IntIntMap;
+import com.bobocode.cs.LongObjectMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares open-addressing {@link HashMap}, {@link IntIntMap} and {@link LongObjectMap} with {@link java.util.HashMap}
+ * holding the same keys. Put benchmarks fill a new map with {@code size} random keys, get benchmarks look up
+ * {@code size} keys in a filled map, half of them are missing.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class HashMapBenchmark {
+
+    private static final Object VALUE = new Object();
+
+    @Param({"1000", "100000", "10000000"})
+    private int size;
+
+    private int[] keys;
+    private int[] queries;
+    private Integer[] boxedKeys;
+    private Integer[] boxedQueries;
+    private Long[] boxedLongKeys;
+    private Long[] boxedLongQueries;
+
+    private HashMap<Integer, Integer> hashMap;
+    private java.util.HashMap<Integer, Integer> jdkHashMap;
+    private IntIntMap intIntMap;
+    private LongObjectMap<Object> longObjectMap;
+    private java.util.HashMap<Long, Object> jdkLongMap;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        keys = new int[size];
+        queries = new int[size];
+        boxedKeys = new Integer[size];
+        boxedQueries = new Integer[size];
+        boxedLongKeys = new Long[size];
+        boxedLongQueries = new Long[size];
+        for (int i = 0; i < size; i++) {
+            keys[i] = random.nextInt() & ~1;
+            boxedKeys[i] = keys[i];
+            boxedLongKeys[i] = (long) keys[i];
+        }
+        for (int i = 0; i < size; i++) {
+            int key = keys[random.nextInt(size)];
+            queries[i] = random.nextBoolean() ? key : key + 1;
+            boxedQueries[i] = queries[i];
+            boxedLongQueries[i] = (long) queries[i];
+        }
+        hashMap = putAll();
+        jdkHashMap = putAllJdk();
+        intIntMap = putAllIntInt();
+        longObjectMap = putAllLongObject();
+        jdkLongMap = putAllJdkLong();
+    }
+
+    @Benchmark
+    public HashMap<Integer, Integer> putAll() {
+        HashMap<Integer, Integer> map = new HashMap<>();
+        for (Integer key : boxedKeys) {
+            map.put(key, key);
+        }
+        return map;
+    }
+
+    @Benchmark
+    public java.util.HashMap<Integer, Integer> putAllJdk() {
+        java.util.HashMap<Integer, Integer> map = new java.util.HashMap<>();
+        for (Integer key : boxedKeys) {
+            map.put(key, key);
+        }
+        return map;
+    }
+
+    @Benchmark
+    public IntIntMap putAllIntInt() {
+        IntIntMap map = new IntIntMap();
+        for (int key : keys) {
+            map.put(key, key);
+        }
+        return map;
+    }
+
+    @Benchmark
+    public LongObjectMap<Object> putAllLongObject() {
+        LongObjectMap<Object> map = new LongObjectMap<>();
+        for (int key : keys) {
+            map.put(key, VALUE);
+        }
+        return map;
+    }
+
+    @Benchmark
+    public java.util.HashMap<Long, Object> putAllJdkLong() {
+        java.util.HashMap<Long, Object> map = new java.util.HashMap<>();
+        for (Long key : boxedLongKeys) {
+            map.put(key, VALUE);
+        }
+        return map;
+    }
+
+    @Benchmark
+    public int getAll() {
+        int found = 0;
+        for (Integer query : boxedQueries) {
+            if (hashMap.get(query) != null) {
+                found++;
+            }
+        }
+        return found;
+    }
+
+    @Benchmark
+    public int getAllJdk() {
+        int found = 0;
+        for (Integer query : boxedQueries) {
+            if (jdkHashMap.get(query) != null) {
+                found++;
+            }
+        }
+        return found;
+    }
+
+    @Benchmark
+    public long getAllIntInt() {
+        long sum = 0;
+        for (int query : queries) {
+            sum += intIntMap.getOrDefault(query, 0);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public int getAllLongObject() {
+        int found = 0;
+        for (int query : queries) {
+            if (longObjectMap.get(query) != null) {
+                found++;
+            }
+        }
+        return found;
+    }
+
+    @Benchmark
+    public int getAllJdkLong() {
+        int found = 0;
+        for (Long query : boxedLongQueries) {
+            if (jdkLongMap.get(query) != null) {
+                found++;
+            }
+        }
+        return found;
+    }
+}
@@ -0,0 +1,123 @@
+package com.bobocode.cs.benchmark;
+
+import com.bobocode.cs.LinkedList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ListIterator;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares patching a {@link LinkedList} during one sequential pass by index (before) and with a list iterator
+ * (after), and measures access to the last element by index.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LinkedListBenchmark {
+
+    @Param({"1000", "10000"})
+    private int size;
+
+    private LinkedList<Integer> list;
+    private java.util.LinkedList<Integer> jdkList;
+
+    @Setup
+    public void setUp() {
+        list = new LinkedList<>();
+        jdkList = new java.util.LinkedList<>();
+        for (int i = 0; i < size; i++) {
+            list.add(i);
+            jdkList.add(i);
+        }
+    }
+
+    /**
+     * Patching benchmarks modify the list, so it is rebuilt before each invocation.
+     */
+    @State(Scope.Thread)
+    public static class PatchState {
+        @Param({"1000", "10000"})
+        private int size;
+
+        private LinkedList<Integer> list;
+        private java.util.LinkedList<Integer> jdkList;
+
+        @Setup(Level.Invocation)
+        public void setUp() {
+            list = new LinkedList<>();
+            jdkList = new java.util.LinkedList<>();
+            for (int i = 0; i < size; i++) {
+                list.add(i);
+                jdkList.add(i);
+            }
+        }
+    }
+
+    @Benchmark
+    public LinkedList<Integer> patchByIndex(PatchState state) {
+        LinkedList<Integer> list = state.list;
+        for (int i = 0; i < list.size(); i++) {
+            int element = list.get(i);
+            if (element % 2 == 0) {
+                list.remove(i--);
+            } else {
+                list.set(i, element * 10);
+            }
+        }
+        return list;
+    }
+
+    @Benchmark
+    public LinkedList<Integer> patchWithListIterator(PatchState state) {
+        LinkedList<Integer> list = state.list;
+        ListIterator<Integer> iterator = list.listIterator();
+        while (iterator.hasNext()) {
+            int element = iterator.next();
+            if (element % 2 == 0) {
+                iterator.remove();
+            } else {
+                iterator.set(element * 10);
+            }
+        }
+        return list;
+    }
+
+    @Benchmark
+    public java.util.LinkedList<Integer> patchWithListIteratorJdk(PatchState state) {
+        java.util.LinkedList<Integer> jdkList = state.jdkList;
+        ListIterator<Integer> iterator = jdkList.listIterator();
+        while (iterator.hasNext()) {
+            int element = iterator.next();
+            if (element % 2 == 0) {
+                iterator.remove();
+            } else {
+                iterator.set(element * 10);
+            }
+        }
+        return jdkList;
+    }
+
+    @Benchmark
+    public Integer getLastByIndex() {
+        return list.get(size - 1);
+    }
+
+    @Benchmark
+    public Integer getLastByIndexJdk() {
+        return jdkList.get(size - 1);
+    }
+}
@@ -0,0 +1,94 @@
+package com.bobocode.cs.benchmark;
+
+import com.bobocode.cs.LinkedQueue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link LinkedQueue} with {@link java.util.LinkedList} and {@link ArrayDeque} used as queues: adding
+ * {@code size} elements to a new queue and polling all of them, and iterating over a full queue.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class LinkedQueueBenchmark {
+
+    @Param({"1000", "100000", "10000000"})
+    private int size;
+
+    private Integer[] elements;
+    private LinkedQueue<Integer> queue;
+    private Queue<Integer> jdkQueue;
+
+    @Setup
+    public void setUp() {
+        elements = new Integer[size];
+        queue = new LinkedQueue<>();
+        jdkQueue = new java.util.LinkedList<>();
+        for (int i = 0; i < size; i++) {
+            elements[i] = i;
+            queue.add(elements[i]);
+            jdkQueue.add(elements[i]);
+        }
+    }
+
+    @Benchmark
+    public long addAndPollAll() {
+        LinkedQueue<Integer> newQueue = new LinkedQueue<>();
+        for (Integer e : elements) {
+            newQueue.add(e);
+        }
+        long sum = 0;
+        while (!newQueue.isEmpty()) {
+            sum += newQueue.poll();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long addAndPollAllJdk() {
+        return fillAndDrain(new java.util.LinkedList<>());
+    }
+
+    @Benchmark
+    public long addAndPollAllJdkArrayDeque() {
+        return fillAndDrain(new ArrayDeque<>());
+    }
+
+    private long fillAndDrain(Queue<Integer> newQueue) {
+        for (Integer e : elements) {
+            newQueue.add(e);
+        }
+        long sum = 0;
+        while (!newQueue.isEmpty()) {
+            sum += newQueue.poll();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long iterate() {
+        return queue.stream().mapToLong(Integer::longValue).sum();
+    }
+
+    @Benchmark
+    public long iterateJdk() {
+        return jdkQueue.stream().mapToLong(Integer::longValue).sum();
+    }
+}
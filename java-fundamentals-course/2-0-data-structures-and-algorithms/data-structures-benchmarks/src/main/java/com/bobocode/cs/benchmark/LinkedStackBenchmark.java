@@ -0,0 +1,84 @@
+package com.bobocode.cs.benchmark;
+
+import com.bobocode.cs.LinkedStack;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayDeque;
+import java.util.Stack;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares single-threaded {@link LinkedStack} with {@link java.util.Stack} and {@link ArrayDeque} used as a stack.
+ * Each benchmark pushes {@code size} elements to a new stack and pops all of them. Concurrent stacks are measured by
+ * {@link StackBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class LinkedStackBenchmark {
+
+    @Param({"1000", "100000", "10000000"})
+    private int size;
+
+    private Integer[] elements;
+
+    @Setup
+    public void setUp() {
+        elements = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            elements[i] = i;
+        }
+    }
+
+    @Benchmark
+    public long pushAndPopAll() {
+        LinkedStack<Integer> stack = new LinkedStack<>();
+        for (Integer e : elements) {
+            stack.push(e);
+        }
+        long sum = 0;
+        while (!stack.isEmpty()) {
+            sum += stack.pop();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long pushAndPopAllJdk() {
+        Stack<Integer> stack = new Stack<>();
+        for (Integer e : elements) {
+            stack.push(e);
+        }
+        long sum = 0;
+        while (!stack.isEmpty()) {
+            sum += stack.pop();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long pushAndPopAllJdkArrayDeque() {
+        ArrayDeque<Integer> stack = new ArrayDeque<>();
+        for (Integer e : elements) {
+            stack.push(e);
+        }
+        long sum = 0;
+        while (!stack.isEmpty()) {
+            sum += stack.pop();
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,181 @@
+package com.bobocode.cs.benchmark;
+
+import com.bobocode.cs.ArrayList;
+import com.bobocode.cs.LinkedList;
+import com.bobocode.cs.List;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Iterator;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Compares common list workloads on {@link ArrayList} and {@link LinkedList} with {@link java.util.ArrayList} and
+ * {@link java.util.LinkedList}: appending {@code size} elements to a new list, reading an element at a random index,
+ * inserting an element in the middle (and removing it, so the size stays the same), and iterating over all elements.
+ * The largest size needs a few gigabytes of heap, the forked JVM is started with {@code -Xmx4g}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class ListWorkloadBenchmark {
+
+    private static final int INDICES = 1 << 16;
+
+    @Param({"array", "jdk-array", "linked", "jdk-linked"})
+    private String implementation;
+
+    @Param({"1000", "100000", "10000000"})
+    private int size;
+
+    private Supplier<List<Integer>> factory;
+    private List<Integer> list;
+    private Integer[] elements;
+    private int[] indices;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        switch (implementation) {
+            case "array":
+                factory = ArrayList::new;
+                break;
+            case "jdk-array":
+                factory = () -> new JdkList<>(new java.util.ArrayList<>());
+                break;
+            case "linked":
+                factory = LinkedList::new;
+                break;
+            case "jdk-linked":
+                factory = () -> new JdkList<>(new java.util.LinkedList<>());
+                break;
+            default:
+                throw new IllegalArgumentException(implementation);
+        }
+        elements = new Integer[size];
+        list = factory.get();
+        for (int i = 0; i < size; i++) {
+            elements[i] = i;
+            list.add(elements[i]);
+        }
+        Random random = new Random(42);
+        indices = new int[INDICES];
+        for (int i = 0; i < INDICES; i++) {
+            indices[i] = random.nextInt(size);
+        }
+    }
+
+    @Benchmark
+    public List<Integer> append() {
+        List<Integer> newList = factory.get();
+        for (Integer e : elements) {
+            newList.add(e);
+        }
+        return newList;
+    }
+
+    @Benchmark
+    public Integer randomGet() {
+        return list.get(indices[next++ & (INDICES - 1)]);
+    }
+
+    @Benchmark
+    public Integer insertInTheMiddle() {
+        list.add(size / 2, -1);
+        return list.remove(size / 2);
+    }
+
+    @Benchmark
+    public long iterate() {
+        long sum = 0;
+        for (Integer e : list) {
+            sum += e;
+        }
+        return sum;
+    }
+
+    /**
+     * Adapts a {@link java.util.List} to {@link List}, so the same benchmark code runs on both
+     */
+    static class JdkList<T> implements List<T> {
+        private final java.util.List<T> delegate;
+
+        JdkList(java.util.List<T> delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void add(T element) {
+            delegate.add(element);
+        }
+
+        @Override
+        public void add(int index, T element) {
+            delegate.add(index, element);
+        }
+
+        @Override
+        public void set(int index, T element) {
+            delegate.set(index, element);
+        }
+
+        @Override
+        public T get(int index) {
+            return delegate.get(index);
+        }
+
+        @Override
+        public T getFirst() {
+            return delegate.get(0);
+        }
+
+        @Override
+        public T getLast() {
+            return delegate.get(delegate.size() - 1);
+        }
+
+        @Override
+        public T remove(int index) {
+            return delegate.remove(index);
+        }
+
+        @Override
+        public boolean contains(T element) {
+            return delegate.contains(element);
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return delegate.isEmpty();
+        }
+
+        @Override
+        public int size() {
+            return delegate.size();
+        }
+
+        @Override
+        public void clear() {
+            delegate.clear();
+        }
+
+        @Override
+        public Iterator<T> iterator() {
+            return delegate.iterator();
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package com.bobocode.cs.benchmark;
+
+import com.bobocode.cs.ArrayStack;
+import com.bobocode.cs.LinkedStack;
+import com.bobocode.cs.LockFreeStack;
+import com.bobocode.cs.Stack;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures push/pop throughput of {@link LockFreeStack}, {@link LinkedStack} and {@link ArrayStack} guarded by
+ * {@code synchronized}, and {@link ConcurrentLinkedDeque} used as a stack. Every thread pushes an element and pops
+ * one right after it, so the stack never runs empty. Each benchmark method runs the same operation with a different
+ * number of threads.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StackBenchmark {
+
+    private static final Integer ELEMENT = 42;
+
+    @Param({"lock-free", "linked", "array", "jdk"})
+    private String implementation;
+
+    private Stack<Integer> stack;
+
+    @Setup
+    public void setUp() {
+        switch (implementation) {
+            case "lock-free":
+                stack = new LockFreeStack<>();
+                break;
+            case "linked":
+                stack = new SynchronizedStack<>(new LinkedStack<>());
+                break;
+            case "array":
+                stack = new SynchronizedStack<>(new ArrayStack<>());
+                break;
+            case "jdk":
+                stack = new JdkStack<>(new ConcurrentLinkedDeque<>());
+                break;
+            default:
+                throw new IllegalArgumentException(implementation);
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Integer pushPop1Thread() {
+        return pushPop();
+    }
+
+    @Benchmark
+    @Threads(2)
+    public Integer pushPop2Threads() {
+        return pushPop();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Integer pushPop4Threads() {
+        return pushPop();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public Integer pushPop8Threads() {
+        return pushPop();
+    }
+
+    private Integer pushPop() {
+        stack.push(ELEMENT);
+        return stack.pop();
+    }
+
+    static class SynchronizedStack<T> implements Stack<T> {
+        private final Stack<T> delegate;
+
+        SynchronizedStack(Stack<T> delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public synchronized void push(T element) {
+            delegate.push(element);
+        }
+
+        @Override
+        public synchronized T pop() {
+            return delegate.pop();
+        }
+
+        @Override
+        public synchronized int size() {
+            return delegate.size();
+        }
+
+        @Override
+        public synchronized boolean isEmpty() {
+            return delegate.isEmpty();
+        }
+    }
+
+    static class JdkStack<T> implements Stack<T> {
+        private final java.util.Deque<T> delegate;
+
+        JdkStack(java.util.Deque<T> delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void push(T element) {
+            delegate.push(element);
+        }
+
+        @Override
+        public T pop() {
+            return delegate.pop();
+        }
+
+        @Override
+        public int size() {
+            return delegate.size();
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return delegate.isEmpty();
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.bobocode.cs.benchmark;
+
+import com.bobocode.cs.ArrayList;
+import com.bobocode.cs.BinarySearchTree;
+import com.bobocode.cs.LinkedList;
+import com.bobocode.cs.LinkedQueue;
+import com.bobocode.cs.RecursiveBinarySearchTree;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures sequential and parallel stream sums over elements of {@link ArrayList}, {@link LinkedList},
+ * {@link LinkedQueue} and a balanced {@link RecursiveBinarySearchTree}, and over {@link java.util.ArrayList} as
+ * a baseline. Parallel sums should scale with the number of cores, the size of the common pool can be changed with
+ * {@code -jvmArgs -Djava.util.concurrent.ForkJoinPool.common.parallelism=N}. Large sizes need a larger heap, e.g.
+ * {@code -p size=100000000 -jvmArgs -Xmx8g}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StreamBenchmark {
+
+    @Param({"1000000"})
+    private int size;
+
+    private ArrayList<Integer> arrayList;
+    private LinkedList<Integer> linkedList;
+    private LinkedQueue<Integer> linkedQueue;
+    private BinarySearchTree<Integer> tree;
+    private java.util.ArrayList<Integer> jdkList;
+
+    @Setup
+    public void setUp() {
+        Integer[] elements = new Integer[size];
+        arrayList = new ArrayList<>(size);
+        linkedList = new LinkedList<>();
+        linkedQueue = new LinkedQueue<>();
+        jdkList = new java.util.ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            elements[i] = i;
+            arrayList.add(i);
+            linkedList.add(i);
+            linkedQueue.add(i);
+            jdkList.add(i);
+        }
+        tree = RecursiveBinarySearchTree.balancedOf(elements);
+    }
+
+    @Benchmark
+    public long arrayListSequential() {
+        return arrayList.stream().mapToLong(Integer::longValue).sum();
+    }
+
+    @Benchmark
+    public long arrayListParallel() {
+        return arrayList.parallelStream().mapToLong(Integer::longValue).sum();
+    }
+
+    @Benchmark
+    public long linkedListSequential() {
+        return linkedList.stream().mapToLong(Integer::longValue).sum();
+    }
+
+    @Benchmark
+    public long linkedListParallel() {
+        return linkedList.parallelStream().mapToLong(Integer::longValue).sum();
+    }
+
+    @Benchmark
+    public long linkedQueueParallel() {
+        return linkedQueue.parallelStream().mapToLong(Integer::longValue).sum();
+    }
+
+    @Benchmark
+    public long treeSequential() {
+        return tree.stream().mapToLong(Integer::longValue).sum();
+    }
+
+    @Benchmark
+    public long treeParallel() {
+        return tree.parallelStream().mapToLong(Integer::longValue).sum();
+    }
+
+    @Benchmark
+    public long jdkListParallel() {
+        return jdkList.parallelStream().mapToLong(Integer::longValue).sum();
+    }
+}
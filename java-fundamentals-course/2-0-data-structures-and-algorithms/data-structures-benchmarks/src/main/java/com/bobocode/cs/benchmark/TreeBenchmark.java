@@ -0,0 +1,120 @@
+package com.bobocode.cs.benchmark;
+
+import com.bobocode.cs.AvlBinarySearchTree;
+import com.bobocode.cs.RecursiveBinarySearchTree;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Random;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link RecursiveBinarySearchTree} with {@link TreeSet}: inserting {@code size} elements in random order,
+ * looking up a random element, and iterating over all elements in order.
+ * <p>
+ * Sorted inserts into {@link RecursiveBinarySearchTree} are quadratic, so they are measured on smaller sizes by
+ * {@link TreeSortedInsertBenchmark}. An {@link AvlBinarySearchTree} stays balanced on sorted input, so its sorted
+ * inserts are measured here on all sizes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class TreeBenchmark {
+
+    private static final int QUERIES = 1 << 16;
+
+    @Param({"1000", "100000", "10000000"})
+    private int size;
+
+    private Integer[] shuffledElements;
+    private RecursiveBinarySearchTree<Integer> tree;
+    private TreeSet<Integer> jdkTree;
+    private Integer[] queries;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        shuffledElements = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            shuffledElements[i] = i;
+        }
+        Random random = new Random(42);
+        Collections.shuffle(Arrays.asList(shuffledElements), random);
+        tree = RecursiveBinarySearchTree.of(shuffledElements);
+        jdkTree = new TreeSet<>(Arrays.asList(shuffledElements));
+        queries = new Integer[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            queries[i] = random.nextInt(size);
+        }
+    }
+
+    @Benchmark
+    public RecursiveBinarySearchTree<Integer> insertRandom() {
+        RecursiveBinarySearchTree<Integer> newTree = new RecursiveBinarySearchTree<>();
+        for (Integer e : shuffledElements) {
+            newTree.insert(e);
+        }
+        return newTree;
+    }
+
+    @Benchmark
+    public TreeSet<Integer> insertRandomJdk() {
+        TreeSet<Integer> newTree = new TreeSet<>();
+        for (Integer e : shuffledElements) {
+            newTree.add(e);
+        }
+        return newTree;
+    }
+
+    @Benchmark
+    public AvlBinarySearchTree<Integer> insertSortedAvl() {
+        AvlBinarySearchTree<Integer> newTree = new AvlBinarySearchTree<>();
+        for (int i = 0; i < size; i++) {
+            newTree.insert(i);
+        }
+        return newTree;
+    }
+
+    @Benchmark
+    public boolean contains() {
+        return tree.contains(queries[next++ & (QUERIES - 1)]);
+    }
+
+    @Benchmark
+    public boolean containsJdk() {
+        return jdkTree.contains(queries[next++ & (QUERIES - 1)]);
+    }
+
+    @Benchmark
+    public long iterate() {
+        long sum = 0;
+        for (Integer e : tree) {
+            sum += e;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long iterateJdk() {
+        long sum = 0;
+        for (Integer e : jdkTree) {
+            sum += e;
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,90 @@
+package com.bobocode.cs.benchmark;
+
+import com.bobocode.cs.AvlBinarySearchTree;
+import com.bobocode.cs.BinarySearchTree;
+import com.bobocode.cs.EytzingerBinarySearchTree;
+import com.bobocode.cs.RecursiveBinarySearchTree;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures random {@code contains} lookups in trees of the same elements with different memory layouts: linked nodes
+ * of a balanced {@link RecursiveBinarySearchTree} and of {@link AvlBinarySearchTree}, the array of
+ * {@link EytzingerBinarySearchTree}, and {@link TreeSet}. Half of the lookups hit an element.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TreeLookupBenchmark {
+
+    private static final int QUERIES = 1 << 16;
+
+    @Param({"1024", "1048576"})
+    private int size;
+
+    private BinarySearchTree<Integer> recursiveTree;
+    private BinarySearchTree<Integer> avlTree;
+    private BinarySearchTree<Integer> eytzingerTree;
+    private TreeSet<Integer> jdkTree;
+    private Integer[] queries;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        Integer[] elements = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            elements[i] = random.nextInt() & ~1;
+        }
+        recursiveTree = RecursiveBinarySearchTree.balancedOf(elements);
+        avlTree = AvlBinarySearchTree.of(elements);
+        eytzingerTree = EytzingerBinarySearchTree.copyOf(recursiveTree);
+        jdkTree = new TreeSet<>(Arrays.asList(elements));
+        queries = new Integer[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            Integer element = elements[random.nextInt(size)];
+            queries[i] = random.nextBoolean() ? element : element + 1;
+        }
+    }
+
+    private Integer nextQuery() {
+        return queries[next++ & (QUERIES - 1)];
+    }
+
+    @Benchmark
+    public boolean recursive() {
+        return recursiveTree.contains(nextQuery());
+    }
+
+    @Benchmark
+    public boolean avl() {
+        return avlTree.contains(nextQuery());
+    }
+
+    @Benchmark
+    public boolean eytzinger() {
+        return eytzingerTree.contains(nextQuery());
+    }
+
+    @Benchmark
+    public boolean jdk() {
+        return jdkTree.contains(nextQuery());
+    }
+}
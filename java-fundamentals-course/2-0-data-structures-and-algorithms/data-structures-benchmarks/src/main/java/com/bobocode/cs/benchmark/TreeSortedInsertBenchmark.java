@@ -0,0 +1,62 @@
+package com.bobocode.cs.benchmark;
+
+import com.bobocode.cs.RecursiveBinarySearchTree;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link RecursiveBinarySearchTree} with {@link TreeSet} on inserting {@code sortedSize} elements in sorted
+ * order. Sorted input turns {@link RecursiveBinarySearchTree} into a linked list, so each insert takes O(n) and the
+ * whole run O(n^2). That is why these inserts are measured apart from {@link TreeBenchmark}, on smaller sizes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TreeSortedInsertBenchmark {
+
+    @Param({"1000", "10000"})
+    private int sortedSize;
+
+    private Integer[] sortedElements;
+
+    @Setup
+    public void setUp() {
+        sortedElements = new Integer[sortedSize];
+        for (int i = 0; i < sortedSize; i++) {
+            sortedElements[i] = i;
+        }
+    }
+
+    @Benchmark
+    public RecursiveBinarySearchTree<Integer> insertSorted() {
+        RecursiveBinarySearchTree<Integer> newTree = new RecursiveBinarySearchTree<>();
+        for (Integer e : sortedElements) {
+            newTree.insert(e);
+        }
+        return newTree;
+    }
+
+    @Benchmark
+    public TreeSet<Integer> insertSortedJdk() {
+        TreeSet<Integer> newTree = new TreeSet<>();
+        for (Integer e : sortedElements) {
+            newTree.add(e);
+        }
+        return newTree;
+    }
+}
@@ -1,9 +1,7 @@
 package com.bobocode.se;
 
-import java.io.BufferedReader;
-import java.io.File;
-import java.io.FileReader;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.net.URISyntaxException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -11,7 +9,7 @@ import java.util.Objects;
 import java.util.Scanner;
 
 /**
- * {@link FileReaders} provides an API that allow to read whole file into a {@link String} by file name.
+ * {@link FileReaders} provides an API that allow to read whole file into a {@link String} by file name or by path.
  */
 public class FileReaders {
 
@@ -20,17 +18,33 @@ public class FileReaders {
      *
      * @param fileName a name of a text file
      * @return string that holds whole file content
+     * @throws IllegalArgumentException if the file name can not be converted to a path
+     * @throws UncheckedIOException     if the file can not be read
      */
     public static String readWholeFile(String fileName) {
-        StringBuilder sb = new StringBuilder();
         try {
             Path filePath = Paths.get(Objects.requireNonNull(FileReaders.class.getClassLoader().getResource(fileName)).toURI());
-            Scanner scanner = new Scanner(new File(String.valueOf(filePath)));
+            return readWholeFile(filePath);
+        } catch (URISyntaxException e) {
+            throw new IllegalArgumentException("Cannot resolve file " + fileName, e);
+        }
+    }
+
+    /**
+     * Returns a {@link String} that contains whole text from the file specified by path in the file system.
+     *
+     * @param filePath a path of a text file
+     * @return string that holds whole file content
+     * @throws UncheckedIOException if the file can not be read
+     */
+    public static String readWholeFile(Path filePath) {
+        StringBuilder sb = new StringBuilder();
+        try (Scanner scanner = new Scanner(filePath)) {
             while (scanner.hasNextLine()) {
                 sb.append(scanner.nextLine()).append(System.lineSeparator());
             }
-        } catch (URISyntaxException | IOException e) {
-            e.printStackTrace();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read file " + filePath, e);
         }
         return (sb.length() > 0) ? sb.substring(0, sb.length() - 1) : sb.toString();
     }
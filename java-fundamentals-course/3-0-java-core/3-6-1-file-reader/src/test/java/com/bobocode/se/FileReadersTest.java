@@ -1,8 +1,17 @@
 package com.bobocode.se;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class FileReadersTest {
 
@@ -31,4 +40,23 @@ public class FileReadersTest {
 
         assertEquals("Hello!\n" + "It's a test file.", fileContent);
     }
+
+    @Test
+    void testReadWholeFileByPath(@TempDir Path directory) throws IOException {
+        Path file = Files.writeString(directory.resolve("simple.txt"), "Hello!\nIt's a test file.\n");
+
+        String fileContent = FileReaders.readWholeFile(file);
+
+        assertEquals("Hello!\n" + "It's a test file.", fileContent);
+    }
+
+    @Test
+    void testReadWholeFileByMissingPath(@TempDir Path directory) {
+        Path file = directory.resolve("missing.txt");
+
+        UncheckedIOException exception = assertThrows(UncheckedIOException.class,
+                () -> FileReaders.readWholeFile(file));
+
+        assertTrue(exception.getCause() instanceof NoSuchFileException);
+    }
 }
@@ -0,0 +1,74 @@
+package com.bobocode.se;
+
+import java.nio.CharBuffer;
+import java.util.Arrays;
+
+/**
+ * {@link CharHistogram} counts occurrences of every char in a dense table indexed by the char itself. The table always
+ * takes 512 KB, no matter how much text is counted, and every count is read in O(1).
+ */
+final class CharHistogram {
+
+    private final long[] counts = new long[Character.MAX_VALUE + 1];
+
+    /**
+     * Counts all remaining chars of the buffer and moves its position to the limit.
+     *
+     * @param chars chars to count
+     */
+    void add(CharBuffer chars) {
+        long[] counts = this.counts;
+        if (chars.hasArray()) {
+            char[] array = chars.array();
+            int end = chars.arrayOffset() + chars.limit();
+            for (int i = chars.arrayOffset() + chars.position(); i < end; i++) {
+                counts[array[i]]++;
+            }
+            chars.position(chars.limit());
+        } else {
+            while (chars.hasRemaining()) {
+                counts[chars.get()]++;
+            }
+        }
+    }
+
+    /**
+     * Adds all counts of another histogram to this one.
+     *
+     * @param other a histogram to merge
+     */
+    void addAll(CharHistogram other) {
+        for (int c = 0; c < counts.length; c++) {
+            counts[c] += other.counts[c];
+        }
+    }
+
+    /**
+     * Removes all counts.
+     */
+    void clear() {
+        Arrays.fill(counts, 0);
+    }
+
+    long count(char character) {
+        return counts[character];
+    }
+
+    /**
+     * Finds a non-whitespace char with the biggest count. If several chars have the same count, the smallest one is
+     * returned.
+     *
+     * @return the most popular non-whitespace char, or -1 if there is no such char
+     */
+    int mostPopularCharacter() {
+        int mostPopular = -1;
+        long maxCount = 0;
+        for (int c = 0; c < counts.length; c++) {
+            if (counts[c] > maxCount && !Character.isWhitespace(c)) {
+                mostPopular = c;
+                maxCount = counts[c];
+            }
+        }
+        return mostPopular;
+    }
+}
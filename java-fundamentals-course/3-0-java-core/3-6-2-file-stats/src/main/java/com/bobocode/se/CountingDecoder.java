@@ -0,0 +1,96 @@
+package com.bobocode.se;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * {@link CountingDecoder} reads bytes of a file in fixed-size chunks, decodes them as UTF-8 and counts decoded chars in
+ * a {@link CharHistogram}. Chars are never stored, so the memory it takes does not depend on the file size.
+ * <p>
+ * Bytes of a char that is split between two chunks are kept in the buffer until the rest of the char is read.
+ * Malformed input is replaced with {@code '�'} the same way {@link java.io.FileReader} does it.
+ */
+final class CountingDecoder {
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder()
+            .onMalformedInput(CodingErrorAction.REPLACE)
+            .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    private final ByteBuffer bytes = ByteBuffer.allocate(BUFFER_SIZE);
+    private final CharBuffer chars = CharBuffer.allocate(BUFFER_SIZE);
+    private final CharHistogram histogram;
+
+    CountingDecoder(CharHistogram histogram) {
+        this.histogram = histogram;
+    }
+
+    CharHistogram histogram() {
+        return histogram;
+    }
+
+    /**
+     * Reads, decodes and counts bytes of the channel from position {@code from}, inclusive, to position {@code to},
+     * exclusive, or to the end of the channel if it is reached earlier.
+     *
+     * @param channel a channel to read
+     * @param from    position of the first byte to read
+     * @param to      position after the last byte to read
+     * @return position after the last byte read
+     * @throws IOException if an I/O error occurs
+     */
+    long read(FileChannel channel, long from, long to) throws IOException {
+        long position = from;
+        while (position < to) {
+            bytes.limit(bytes.position() + (int) Math.min(bytes.remaining(), to - position));
+            int read = channel.read(bytes, position);
+            bytes.limit(bytes.capacity());
+            if (read < 0) {
+                break;
+            }
+            position += read;
+            bytes.flip();
+            decode(false);
+            bytes.compact();
+        }
+        return position;
+    }
+
+    /**
+     * Decodes and counts bytes of an incomplete char left at the end of input, if any, and resets the decoder.
+     */
+    void finish() {
+        bytes.flip();
+        decode(true);
+        bytes.clear();
+        decoder.flush(chars);
+        chars.flip();
+        histogram.add(chars);
+        chars.clear();
+        decoder.reset();
+    }
+
+    /**
+     * Drops bytes of an incomplete char left from the previous read, if any, and resets the decoder.
+     */
+    void reset() {
+        bytes.clear();
+        decoder.reset();
+    }
+
+    private void decode(boolean endOfInput) {
+        CoderResult result;
+        do {
+            result = decoder.decode(bytes, chars, endOfInput);
+            chars.flip();
+            histogram.add(chars);
+            chars.clear();
+        } while (result.isOverflow());
+    }
+}
@@ -1,20 +1,32 @@
 package com.bobocode.se;
 
-import java.io.*;
-import java.net.URI;
+import java.io.IOException;
 import java.net.URISyntaxException;
 import java.net.URL;
+import java.nio.channels.FileChannel;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.*;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * {@link FileStats} provides an API that allow to get character statistic based on text file. All whitespace characters
  * are ignored.
+ * <p>
+ * The file is read in a single streaming pass. Chars are decoded from UTF-8 chunk by chunk and only their counts are
+ * kept, so the memory taken does not depend on the file size, and all statistic methods work in O(1). Big files can be
+ * counted on all cores with {@link #parallelFrom(Path)}, and many files can be counted together with
+ * {@link FileStatsAggregator}.
  */
 public class FileStats {
 
-    private List<Character> chars;
+    private final CharHistogram histogram;
+    private final int mostPopularCharacter;
+
+    FileStats(CharHistogram histogram) {
+        this.histogram = histogram;
+        this.mostPopularCharacter = histogram.mostPopularCharacter();
+    }
 
     /**
      * Creates a new immutable {@link FileStats} objects using data from text file received as a parameter.
@@ -23,58 +35,118 @@ public class FileStats {
      * @return new FileStats object created from text file
      */
     public static FileStats from(String fileName) {
-        FileStats fileStats = new FileStats();
-        try {
-            fileStats.chars = fileStats.convertFileToCharArray(new File(fileName));
-        } catch (IOException | URISyntaxException | NullPointerException e) {
-            throw new FileStatsException("File not found");
+        return from(resolve(fileName));
+    }
+
+    /**
+     * Creates a new immutable {@link FileStats} object using data from text file in the file system.
+     *
+     * @param path a path of input text file
+     * @return new FileStats object created from text file
+     */
+    public static FileStats from(Path path) {
+        CharHistogram histogram = new CharHistogram();
+        try (FileChannel channel = FileChannel.open(path)) {
+            CountingDecoder decoder = new CountingDecoder(histogram);
+            decoder.read(channel, 0, Long.MAX_VALUE);
+            decoder.finish();
+        } catch (IOException e) {
+            throw new FileStatsException("Cannot read file " + path, e);
         }
-        return fileStats;
+        return new FileStats(histogram);
     }
 
-    private List<Character> convertFileToCharArray(File file) throws IOException, URISyntaxException, NullPointerException {
-        List<Character> characters = new ArrayList<>();
-        URL res = getClass().getClassLoader().getResource(file.getName());
-        if (res == null)
-            throw new NullPointerException();
+    /**
+     * Creates a new immutable {@link FileStats} object like {@link #from(String)} does, but counts parts of the file
+     * in parallel in the {@link ForkJoinPool#commonPool()}.
+     *
+     * @param fileName input text file name
+     * @return new FileStats object created from text file
+     */
+    public static FileStats parallelFrom(String fileName) {
+        return parallelFrom(resolve(fileName), ForkJoinPool.commonPool());
+    }
 
-        BufferedReader br = new BufferedReader(new FileReader(Paths.get(res.toURI()).toFile()));
-        int c;
-        while ((c = br.read()) != -1) {
-            characters.add((char) c);
+    /**
+     * Creates a new immutable {@link FileStats} object like {@link #from(String)} does, but counts parts of the file
+     * in parallel in the provided pool, see {@link #parallelFrom(Path, ForkJoinPool)}.
+     *
+     * @param fileName input text file name
+     * @param pool     a pool that counts parts of the file
+     * @return new FileStats object created from text file
+     */
+    public static FileStats parallelFrom(String fileName, ForkJoinPool pool) {
+        return parallelFrom(resolve(fileName), pool);
+    }
+
+    /**
+     * Creates a new immutable {@link FileStats} object like {@link #from(Path)} does, but counts parts of the file
+     * in parallel in the {@link ForkJoinPool#commonPool()}.
+     *
+     * @param path a path of input text file
+     * @return new FileStats object created from text file
+     */
+    public static FileStats parallelFrom(Path path) {
+        return parallelFrom(path, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a new immutable {@link FileStats} object like {@link #from(Path)} does, but counts parts of the file
+     * in parallel in the provided pool. The file is split into byte ranges aligned to UTF-8 chars, each range is
+     * counted by a fork/join task, and counts of all worker threads are merged at the end. The result is the same as
+     * of {@link #from(Path)}.
+     *
+     * @param path a path of input text file
+     * @param pool a pool that counts parts of the file
+     * @return new FileStats object created from text file
+     */
+    public static FileStats parallelFrom(Path path, ForkJoinPool pool) {
+        return parallelFrom(path, pool, ParallelCountTask.DEFAULT_MIN_RANGE_SIZE);
+    }
+
+    static FileStats parallelFrom(Path path, ForkJoinPool pool, long minRangeSize) {
+        try (FileChannel channel = FileChannel.open(path)) {
+            return new FileStats(ParallelCountTask.count(channel, pool, minRangeSize));
+        } catch (IOException e) {
+            throw new FileStatsException("Cannot read file " + path, e);
+        }
+    }
+
+    static Path resolve(String fileName) {
+        URL resource = FileStats.class.getClassLoader().getResource(fileName);
+        if (resource == null) {
+            throw new FileStatsException("File not found");
+        }
+        try {
+            return Paths.get(resource.toURI());
+        } catch (URISyntaxException e) {
+            throw new FileStatsException("File not found", e);
         }
-        return characters;
     }
 
     /**
-     * Returns a number of occurrences of the particular character.
+     * Returns a number of occurrences of the particular character. A count that does not fit into int is returned as
+     * {@link Integer#MAX_VALUE}.
      *
      * @param character a specific character
      * @return a number that shows how many times this character appeared in a text file
      */
     public int getCharCount(char character) {
-        return (int) chars.stream().filter(c -> c == character).count();
+        return (int) Math.min(histogram.count(character), Integer.MAX_VALUE);
     }
 
     /**
-     * Returns a character that appeared most often in the text.
+     * Returns a character that appeared most often in the text. If several characters appeared the same number of
+     * times, the smallest one is returned.
      *
      * @return the most frequently appeared character
+     * @throws NoSuchElementException if the text has no characters except whitespaces
      */
     public char getMostPopularCharacter() {
-        Map<Character, Integer> pairs = new HashMap<>();
-        for (char c : chars) {
-            if (Character.isWhitespace(c))
-                continue;
-            if (!pairs.containsKey(c)) {
-                pairs.put(c, 1);
-            } else {
-                pairs.put(c, pairs.get(c) + 1);
-            }
+        if (mostPopularCharacter < 0) {
+            throw new NoSuchElementException();
         }
-        return pairs.entrySet()
-                .stream()
-                .max(Map.Entry.comparingByValue()).get().getKey();
+        return (char) mostPopularCharacter;
     }
 
     /**
@@ -84,7 +156,7 @@ public class FileStats {
      * @return {@code true} if this character has appeared in the text, and {@code false} otherwise
      */
     public boolean containsCharacter(char character) {
-        return chars.stream().filter(c -> !Character.isWhitespace(c)).anyMatch(c -> c == character);
+        return !Character.isWhitespace(character) && histogram.count(character) > 0;
     }
 
 }
@@ -0,0 +1,194 @@
+package com.bobocode.se;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * {@link FileStatsAggregator} computes combined {@link FileStats} of all files of a directory tree whose paths match a
+ * glob pattern, e.g. {@code "**.log"}. Files are read by a fixed number of threads. Each thread counts all files it
+ * reads into its own histogram, and histograms of all threads are merged when every file is counted.
+ * <p>
+ * Memory taken does not depend on the number and the size of files: the directory tree is walked lazily, at most a few
+ * files per thread wait to be read, and there is one histogram and one read buffer per thread.
+ * <p>
+ * A listener can be set to get a {@link FileProgress} after each counted file. It is called by reading threads, so it
+ * must be thread-safe.
+ */
+public class FileStatsAggregator {
+
+    private static final int QUEUED_FILES_PER_THREAD = 4;
+
+    private final int threads;
+    private final Consumer<FileProgress> progressListener;
+
+    /**
+     * Creates an aggregator that reads files with provided number of threads.
+     *
+     * @param threads number of threads that read files
+     * @throws IllegalArgumentException if number of threads is not positive
+     */
+    public FileStatsAggregator(int threads) {
+        this(threads, progress -> {
+        });
+    }
+
+    /**
+     * Creates an aggregator that reads files with provided number of threads and reports each counted file to the
+     * listener.
+     *
+     * @param threads          number of threads that read files
+     * @param progressListener a thread-safe listener that accepts progress after each counted file
+     * @throws IllegalArgumentException if number of threads is not positive
+     */
+    public FileStatsAggregator(int threads, Consumer<FileProgress> progressListener) {
+        if (threads <= 0) {
+            throw new IllegalArgumentException();
+        }
+        this.threads = threads;
+        this.progressListener = Objects.requireNonNull(progressListener);
+    }
+
+    /**
+     * Counts combined statistic of all regular files in the directory tree whose paths relative to the directory match
+     * the glob pattern.
+     *
+     * @param directory a root directory
+     * @param glob      a glob pattern, see {@link java.nio.file.FileSystem#getPathMatcher(String)}
+     * @return new FileStats object created from all matching files
+     * @throws FileStatsException if the directory or any of matching files cannot be read
+     */
+    public FileStats aggregate(Path directory, String glob) {
+        PathMatcher matcher = directory.getFileSystem().getPathMatcher("glob:" + glob);
+        Map<Thread, CountingDecoder> decoders = new ConcurrentHashMap<>();
+        Semaphore queuedFiles = new Semaphore(threads * QUEUED_FILES_PER_THREAD);
+        AtomicReference<FileStatsException> failure = new AtomicReference<>();
+        AtomicLong countedFiles = new AtomicLong();
+        AtomicLong countedBytes = new AtomicLong();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try (Stream<Path> files = Files.walk(directory)) {
+            Iterator<Path> matchingFiles = files
+                    .filter(file -> matcher.matches(directory.relativize(file)) && Files.isRegularFile(file))
+                    .iterator();
+            while (matchingFiles.hasNext() && failure.get() == null) {
+                Path file = matchingFiles.next();
+                queuedFiles.acquire();
+                executor.execute(() -> {
+                    try {
+                        if (failure.get() == null) {
+                            long start = System.nanoTime();
+                            long bytes = count(file, decoders);
+                            progressListener.accept(new FileProgress(file, bytes, System.nanoTime() - start,
+                                    countedFiles.incrementAndGet(), countedBytes.addAndGet(bytes)));
+                        }
+                    } catch (IOException e) {
+                        failure.compareAndSet(null, new FileStatsException("Cannot read file " + file, e));
+                    } catch (RuntimeException e) {
+                        failure.compareAndSet(null, new FileStatsException("Cannot count file " + file, e));
+                    } finally {
+                        queuedFiles.release();
+                    }
+                });
+            }
+            executor.shutdown();
+            executor.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+        } catch (IOException | UncheckedIOException e) {
+            throw new FileStatsException("Cannot read directory " + directory, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FileStatsException("Interrupted while counting files of " + directory, e);
+        } finally {
+            executor.shutdownNow();
+        }
+        if (failure.get() != null) {
+            throw failure.get();
+        }
+        CharHistogram histogram = new CharHistogram();
+        for (CountingDecoder decoder : decoders.values()) {
+            histogram.addAll(decoder.histogram());
+        }
+        return new FileStats(histogram);
+    }
+
+    private static long count(Path file, Map<Thread, CountingDecoder> decoders) throws IOException {
+        CountingDecoder decoder = decoders.computeIfAbsent(Thread.currentThread(),
+                thread -> new CountingDecoder(new CharHistogram()));
+        try (FileChannel channel = FileChannel.open(file)) {
+            long bytes = decoder.read(channel, 0, Long.MAX_VALUE);
+            decoder.finish();
+            return bytes;
+        } finally {
+            decoder.reset();
+        }
+    }
+
+    /**
+     * {@link FileProgress} describes a counted file and the progress of the whole aggregation at the moment the file
+     * was counted.
+     */
+    public static class FileProgress {
+        private final Path file;
+        private final long bytes;
+        private final long nanos;
+        private final long countedFiles;
+        private final long countedBytes;
+
+        FileProgress(Path file, long bytes, long nanos, long countedFiles, long countedBytes) {
+            this.file = file;
+            this.bytes = bytes;
+            this.nanos = nanos;
+            this.countedFiles = countedFiles;
+            this.countedBytes = countedBytes;
+        }
+
+        /**
+         * @return a path of the counted file
+         */
+        public Path getFile() {
+            return file;
+        }
+
+        /**
+         * @return size of the counted file in bytes
+         */
+        public long getBytes() {
+            return bytes;
+        }
+
+        /**
+         * @return time it took to count the file in nanoseconds
+         */
+        public long getNanos() {
+            return nanos;
+        }
+
+        /**
+         * @return number of files counted so far, including this one
+         */
+        public long getCountedFiles() {
+            return countedFiles;
+        }
+
+        /**
+         * @return number of bytes of all files counted so far, including this one
+         */
+        public long getCountedBytes() {
+            return countedBytes;
+        }
+    }
+}
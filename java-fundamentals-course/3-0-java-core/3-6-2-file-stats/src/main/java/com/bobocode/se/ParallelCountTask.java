@@ -0,0 +1,102 @@
+package com.bobocode.se;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * {@link ParallelCountTask} counts chars of a byte range of a file with fork/join. A range bigger than the threshold
+ * is split in halves, and every split point is moved forward to the first byte of a UTF-8 char, so no char is split
+ * between two ranges and the counts are exactly the same as of a sequential pass.
+ * <p>
+ * Each worker thread counts all ranges it executes into its own {@link CountingDecoder} and {@link CharHistogram}, so
+ * workers never share mutable state, and there are as many histograms to merge as there are threads.
+ * <p>
+ * Tasks are never serialized. Their channel and decoders can not be serialized anyway, so these fields are transient.
+ */
+final class ParallelCountTask extends RecursiveAction {
+
+    private static final long serialVersionUID = 1L;
+
+    static final long DEFAULT_MIN_RANGE_SIZE = 1 << 22;
+    private static final int RANGES_PER_THREAD = 4;
+
+    private final transient FileChannel channel;
+    private final long from;
+    private final long to;
+    private final long threshold;
+    private final transient Map<Thread, CountingDecoder> decoders;
+
+    private ParallelCountTask(FileChannel channel, long from, long to, long threshold,
+                              Map<Thread, CountingDecoder> decoders) {
+        this.channel = channel;
+        this.from = from;
+        this.to = to;
+        this.threshold = threshold;
+        this.decoders = decoders;
+    }
+
+    /**
+     * Counts all chars of the channel in the pool. The channel is split into ranges of at least minRangeSize bytes,
+     * about {@value RANGES_PER_THREAD} ranges per pool thread.
+     *
+     * @param channel      a channel to read
+     * @param pool         a pool that executes counting tasks
+     * @param minRangeSize min number of bytes counted by one task
+     * @return a histogram of all chars of the channel
+     * @throws IOException if an I/O error occurs
+     */
+    static CharHistogram count(FileChannel channel, ForkJoinPool pool, long minRangeSize) throws IOException {
+        long size = channel.size();
+        long threshold = Math.max(minRangeSize, size / ((long) pool.getParallelism() * RANGES_PER_THREAD));
+        Map<Thread, CountingDecoder> decoders = new ConcurrentHashMap<>();
+        try {
+            pool.invoke(new ParallelCountTask(channel, 0, size, threshold, decoders));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        CharHistogram histogram = new CharHistogram();
+        for (CountingDecoder decoder : decoders.values()) {
+            histogram.addAll(decoder.histogram());
+        }
+        return histogram;
+    }
+
+    @Override
+    protected void compute() {
+        try {
+            if (to - from <= threshold) {
+                CountingDecoder decoder = decoders.computeIfAbsent(Thread.currentThread(),
+                        thread -> new CountingDecoder(new CharHistogram()));
+                decoder.read(channel, from, to);
+                decoder.finish();
+            } else {
+                long middle = charStart(from + (to - from) / 2);
+                invokeAll(new ParallelCountTask(channel, from, middle, threshold, decoders),
+                        new ParallelCountTask(channel, middle, to, threshold, decoders));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Returns the position of the first byte that is not a UTF-8 continuation byte, starting from the provided
+     * position. A UTF-8 char takes at most 4 bytes, so at most 3 bytes are skipped.
+     */
+    private long charStart(long position) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(3);
+        channel.read(buffer, position);
+        buffer.flip();
+        long start = position;
+        while (buffer.hasRemaining() && (buffer.get() & 0xC0) == 0x80 && start < to) {
+            start++;
+        }
+        return start;
+    }
+}
@@ -0,0 +1,152 @@
+package com.bobocode.se;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * {@link TailingFileStats} provides the same character statistic as {@link FileStats} for a file that keeps growing,
+ * like a log file. It remembers how many bytes it has already counted, and {@link #refresh()} reads and counts only the
+ * bytes appended since the previous call, so its cost depends on the amount of new data, not on the file size.
+ * <p>
+ * {@link #refresh()} should be called when the file may have changed, e.g. periodically or when a
+ * {@link java.nio.file.WatchService} reports that the file was modified. If the file is truncated or replaced by another
+ * file, e.g. when a log is rotated, the statistic is counted again from the beginning of the file. See
+ * {@link #refresh()} for rotations that can not be detected.
+ * <p>
+ * The class is not thread-safe. Refreshes and queries of the same instance should be done by one thread at a time.
+ */
+public class TailingFileStats {
+
+    private final Path path;
+    private final CharHistogram histogram = new CharHistogram();
+    private final CountingDecoder decoder = new CountingDecoder(histogram);
+    private Object fileKey;
+    private long offset;
+    private int mostPopularCharacter = -1;
+    private boolean mostPopularCharacterOutdated;
+
+    TailingFileStats(Path path) {
+        this.path = Objects.requireNonNull(path);
+    }
+
+    /**
+     * Creates a new {@link TailingFileStats} object and counts the current content of the text file received as a
+     * parameter.
+     *
+     * @param fileName input text file name
+     * @return new TailingFileStats object created from text file
+     */
+    public static TailingFileStats from(String fileName) {
+        return from(FileStats.resolve(fileName));
+    }
+
+    /**
+     * Creates a new {@link TailingFileStats} object and counts the current content of the text file in the file
+     * system.
+     *
+     * @param path a path of input text file
+     * @return new TailingFileStats object created from text file
+     */
+    public static TailingFileStats from(Path path) {
+        TailingFileStats fileStats = new TailingFileStats(path);
+        fileStats.refresh();
+        return fileStats;
+    }
+
+    /**
+     * Reads and counts bytes appended to the file since the previous refresh. Bytes of a char that is not completely
+     * written yet are kept until the next refresh.
+     * <p>
+     * A replaced file is recognized by its {@link BasicFileAttributes#fileKey() file key}. The key is read before and
+     * after the file is opened, and the file is opened again if they differ, so a file replaced while it is being
+     * opened is not mistaken for the old one. Some changes still go unnoticed:
+     * <ul>
+     * <li>On file systems that provide no file key, a replaced file is recognized only when it is smaller than the
+     * counted part of the old file.</li>
+     * <li>A file that is copied and then truncated in place, like with logrotate {@code copytruncate}, keeps its key.
+     * If it grows past the counted part again before the next refresh, only bytes after that part are counted.</li>
+     * </ul>
+     *
+     * @return number of new bytes that were read
+     */
+    public long refresh() {
+        try {
+            while (true) {
+                Object fileKeyBeforeOpen = readFileKey();
+                try (FileChannel channel = FileChannel.open(path)) {
+                    Object currentFileKey = readFileKey();
+                    if (Objects.equals(fileKeyBeforeOpen, currentFileKey)) {
+                        return read(channel, currentFileKey);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new FileStatsException("Cannot read file " + path, e);
+        }
+    }
+
+    private Object readFileKey() throws IOException {
+        return Files.readAttributes(path, BasicFileAttributes.class).fileKey();
+    }
+
+    private long read(FileChannel channel, Object currentFileKey) throws IOException {
+        long size = channel.size();
+        if (size < offset || (fileKey != null && !fileKey.equals(currentFileKey))) {
+            histogram.clear();
+            decoder.reset();
+            offset = 0;
+            mostPopularCharacterOutdated = true;
+        }
+        fileKey = currentFileKey;
+        long newOffset = decoder.read(channel, offset, size);
+        long read = newOffset - offset;
+        offset = newOffset;
+        mostPopularCharacterOutdated |= read > 0;
+        return read;
+    }
+
+    /**
+     * Returns a number of occurrences of the particular character. A count that does not fit into int is returned as
+     * {@link Integer#MAX_VALUE}.
+     *
+     * @param character a specific character
+     * @return a number that shows how many times this character appeared in a text file
+     */
+    public int getCharCount(char character) {
+        return (int) Math.min(histogram.count(character), Integer.MAX_VALUE);
+    }
+
+    /**
+     * Returns a character that appeared most often in the text. If several characters appeared the same number of
+     * times, the smallest one is returned. The character is found again only at the first call after the file has
+     * changed.
+     *
+     * @return the most frequently appeared character
+     * @throws NoSuchElementException if the text has no characters except whitespaces
+     */
+    public char getMostPopularCharacter() {
+        if (mostPopularCharacterOutdated) {
+            mostPopularCharacter = histogram.mostPopularCharacter();
+            mostPopularCharacterOutdated = false;
+        }
+        if (mostPopularCharacter < 0) {
+            throw new NoSuchElementException();
+        }
+        return (char) mostPopularCharacter;
+    }
+
+    /**
+     * Returns {@code true} if this character has appeared in the text, and {@code false} otherwise
+     *
+     * @param character a specific character to check
+     * @return {@code true} if this character has appeared in the text, and {@code false} otherwise
+     */
+    public boolean containsCharacter(char character) {
+        return !Character.isWhitespace(character) && histogram.count(character) > 0;
+    }
+}
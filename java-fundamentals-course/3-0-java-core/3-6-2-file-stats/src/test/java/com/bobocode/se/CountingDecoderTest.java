@@ -0,0 +1,73 @@
+package com.bobocode.se;
+
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * A test class for {@link CountingDecoder}.
+ */
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class CountingDecoderTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @Order(1)
+    void countsCharsSplitBetweenChunks() throws IOException {
+        String text = "aé€😀".repeat(50_000);
+        Path file = Files.writeString(directory.resolve("text.txt"), text);
+
+        CharHistogram histogram = count(file);
+
+        assertThat(histogram.count('a')).isEqualTo(50_000);
+        assertThat(histogram.count('é')).isEqualTo(50_000);
+        assertThat(histogram.count('€')).isEqualTo(50_000);
+        assertThat(histogram.count("😀".charAt(0))).isEqualTo(50_000);
+        assertThat(histogram.count("😀".charAt(1))).isEqualTo(50_000);
+    }
+
+    @Test
+    @Order(2)
+    void replacesMalformedInput() throws IOException {
+        byte[] bytes = {'a', (byte) 0xC3, 'b', (byte) 0xE2, (byte) 0x82};
+        Path file = Files.write(directory.resolve("malformed.txt"), bytes);
+
+        CharHistogram histogram = count(file);
+
+        assertThat(histogram.count('a')).isEqualTo(1);
+        assertThat(histogram.count('b')).isEqualTo(1);
+        assertThat(histogram.count('�')).isEqualTo(2);
+        assertThat(new String(bytes, StandardCharsets.UTF_8).chars().filter(c -> c == '�').count()).isEqualTo(2);
+    }
+
+    @Test
+    @Order(3)
+    void mostPopularCharacterIgnoresWhitespacesAndPrefersSmallestOnTie() throws IOException {
+        Path file = Files.writeString(directory.resolve("tie.txt"), "   \n\n\nzzbb");
+
+        assertThat(count(file).mostPopularCharacter()).isEqualTo('b');
+        assertThat(count(Files.writeString(directory.resolve("blank.txt"), " \n")).mostPopularCharacter()).isEqualTo(-1);
+    }
+
+    private static CharHistogram count(Path file) throws IOException {
+        CharHistogram histogram = new CharHistogram();
+        try (FileChannel channel = FileChannel.open(file)) {
+            CountingDecoder decoder = new CountingDecoder(histogram);
+            decoder.read(channel, 0, Long.MAX_VALUE);
+            decoder.finish();
+        }
+        return histogram;
+    }
+}
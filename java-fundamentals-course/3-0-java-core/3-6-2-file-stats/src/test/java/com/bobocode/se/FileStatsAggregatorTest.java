@@ -0,0 +1,85 @@
+package com.bobocode.se;
+
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * A test class for {@link FileStatsAggregator}.
+ */
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class FileStatsAggregatorTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @Order(1)
+    void aggregateMatchesStatsOfConcatenatedFiles() throws IOException {
+        StringBuilder allText = new StringBuilder();
+        Files.createDirectories(directory.resolve("a/b"));
+        for (int i = 0; i < 50; i++) {
+            String text = "file " + i + " é€😀\n".repeat(i);
+            Files.writeString(directory.resolve((i % 3 == 0 ? "a/b/" : i % 3 == 1 ? "a/" : "") + i + ".txt"), text);
+            allText.append(text);
+        }
+        Files.writeString(directory.resolve("ignored.log"), "zzzzzzzzzzzzzzzzzzzzzzzzzzzzzzzzzzzzzzzzzzzzzzzzzzzzzzzzz");
+        Path concatenated = Files.writeString(Files.createTempFile("all", ".txt"), allText);
+        List<FileStatsAggregator.FileProgress> progress = new CopyOnWriteArrayList<>();
+
+        FileStats aggregated = new FileStatsAggregator(3, progress::add).aggregate(directory, "**.txt");
+        FileStats expected = FileStats.from(concatenated);
+        Files.delete(concatenated);
+
+        for (char c : "file0123456789é€😀\n z".toCharArray()) {
+            assertThat(aggregated.getCharCount(c)).as("count of %s", c).isEqualTo(expected.getCharCount(c));
+        }
+        assertThat(aggregated.getMostPopularCharacter()).isEqualTo(expected.getMostPopularCharacter());
+        assertThat(progress).hasSize(50);
+        assertThat(progress).extracting(FileStatsAggregator.FileProgress::getCountedFiles)
+                .containsExactlyInAnyOrder(LongStream.rangeClosed(1, 50).boxed().toArray(Long[]::new));
+        assertThat(progress.stream().mapToLong(FileStatsAggregator.FileProgress::getCountedBytes).max().getAsLong())
+                .isEqualTo(progress.stream().mapToLong(FileStatsAggregator.FileProgress::getBytes).sum());
+    }
+
+    @Test
+    @Order(2)
+    void aggregateOfNoMatchingFiles() {
+        FileStats fileStats = new FileStatsAggregator(2).aggregate(directory, "**.txt");
+
+        assertThat(fileStats.containsCharacter('a')).isFalse();
+    }
+
+    @Test
+    @Order(3)
+    void wrongParameters() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new FileStatsAggregator(0));
+        assertThatThrownBy(() -> new FileStatsAggregator(2).aggregate(directory.resolve("missing"), "**"))
+                .isInstanceOf(FileStatsException.class);
+    }
+
+    @Test
+    @Order(4)
+    void pathEntryPoints() throws IOException {
+        Path file = Files.writeString(directory.resolve("text.txt"), "abb");
+
+        assertThat(FileStats.from(file).getMostPopularCharacter()).isEqualTo('b');
+        assertThat(FileStats.parallelFrom(file).getCharCount('a')).isEqualTo(1);
+        assertThat(TailingFileStats.from(file).getCharCount('b')).isEqualTo(2);
+        assertThatThrownBy(() -> FileStats.from(directory.resolve("missing.txt")))
+                .isInstanceOf(FileStatsException.class);
+    }
+}
@@ -5,6 +5,8 @@ import org.junit.jupiter.api.Order;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestMethodOrder;
 
+import java.util.concurrent.ForkJoinPool;
+
 import static org.assertj.core.api.Assertions.*;
 
 @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
@@ -66,4 +68,35 @@ public class FileStatsTest {
         assertThat(springArticleContainsExistingCharacter).isTrue();
         assertThat(springArticleContainsWhitespace).isFalse();
     }
-}
\ No newline at end of file
+
+    @Test
+    @Order(6)
+    void parallelFromMatchesFrom() {
+        FileStats fileStats = FileStats.from("sotl.txt");
+        FileStats parallelFileStats = FileStats.parallelFrom("sotl.txt");
+
+        assertThat(parallelFileStats.getCharCount('a')).isEqualTo(fileStats.getCharCount('a'));
+        assertThat(parallelFileStats.getCharCount(' ')).isEqualTo(fileStats.getCharCount(' '));
+        assertThat(parallelFileStats.getMostPopularCharacter()).isEqualTo(fileStats.getMostPopularCharacter());
+        assertThatThrownBy(() -> FileStats.parallelFrom("blahblah.txt")).isInstanceOf(FileStatsException.class);
+    }
+
+    @Test
+    @Order(7)
+    void parallelFromSplitIntoSmallRangesMatchesFrom() {
+        FileStats fileStats = FileStats.from("sotl.txt");
+        ForkJoinPool pool = new ForkJoinPool(4);
+        FileStats parallelFileStats;
+        try {
+            parallelFileStats = FileStats.parallelFrom(FileStats.resolve("sotl.txt"), pool, 512);
+        } finally {
+            pool.shutdown();
+        }
+
+        for (int c = Character.MIN_VALUE; c <= Character.MAX_VALUE; c++) {
+            assertThat(parallelFileStats.getCharCount((char) c)).as("count of %d", c)
+                    .isEqualTo(fileStats.getCharCount((char) c));
+        }
+        assertThat(parallelFileStats.getMostPopularCharacter()).isEqualTo(fileStats.getMostPopularCharacter());
+    }
+}
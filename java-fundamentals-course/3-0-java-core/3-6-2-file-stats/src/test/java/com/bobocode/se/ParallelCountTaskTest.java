@@ -0,0 +1,66 @@
+package com.bobocode.se;
+
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * A test class for {@link ParallelCountTask}.
+ */
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class ParallelCountTaskTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @Order(1)
+    void parallelCountsMatchSequentialCounts() throws IOException {
+        String[] words = {"a", "é", "€", "😀", " ", "\n"};
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < 20_000; i++) {
+            text.append(words[i % words.length]).append(words[i % 7 % words.length]);
+        }
+        Path file = Files.writeString(directory.resolve("text.txt"), text);
+
+        CharHistogram sequential = new CharHistogram();
+        CharHistogram parallel;
+        try (FileChannel channel = FileChannel.open(file)) {
+            CountingDecoder decoder = new CountingDecoder(sequential);
+            decoder.read(channel, 0, Long.MAX_VALUE);
+            decoder.finish();
+            ForkJoinPool pool = new ForkJoinPool(4);
+            try {
+                parallel = ParallelCountTask.count(channel, pool, 1001);
+            } finally {
+                pool.shutdown();
+            }
+        }
+
+        for (int c = Character.MIN_VALUE; c <= Character.MAX_VALUE; c++) {
+            assertThat(parallel.count((char) c)).as("count of %d", c).isEqualTo(sequential.count((char) c));
+        }
+        assertThat(sequential.count('�')).isZero();
+    }
+
+    @Test
+    @Order(2)
+    void countsEmptyFile() throws IOException {
+        Path file = Files.createFile(directory.resolve("empty.txt"));
+
+        try (FileChannel channel = FileChannel.open(file)) {
+            assertThat(ParallelCountTask.count(channel, ForkJoinPool.commonPool(), 1).mostPopularCharacter())
+                    .isEqualTo(-1);
+        }
+    }
+}
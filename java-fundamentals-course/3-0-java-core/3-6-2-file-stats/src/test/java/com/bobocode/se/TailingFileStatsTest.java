@@ -0,0 +1,92 @@
+package com.bobocode.se;
+
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * A test class for {@link TailingFileStats}.
+ */
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class TailingFileStatsTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @Order(1)
+    void fromMatchesFileStats() {
+        TailingFileStats tailingFileStats = TailingFileStats.from("sotl.txt");
+        FileStats fileStats = FileStats.from("sotl.txt");
+
+        assertThat(tailingFileStats.getCharCount('a')).isEqualTo(fileStats.getCharCount('a'));
+        assertThat(tailingFileStats.getMostPopularCharacter()).isEqualTo(fileStats.getMostPopularCharacter());
+        assertThat(tailingFileStats.refresh()).isZero();
+        assertThatThrownBy(() -> TailingFileStats.from("blahblah.txt")).isInstanceOf(FileStatsException.class);
+    }
+
+    @Test
+    @Order(2)
+    void refreshCountsOnlyAppendedBytes() throws IOException {
+        Path file = Files.writeString(directory.resolve("log.txt"), "aab\n");
+        TailingFileStats fileStats = new TailingFileStats(file);
+
+        assertThat(fileStats.refresh()).isEqualTo(4);
+        assertThat(fileStats.getMostPopularCharacter()).isEqualTo('a');
+
+        Files.writeString(file, "bbc\n", StandardOpenOption.APPEND);
+
+        assertThat(fileStats.refresh()).isEqualTo(4);
+        assertThat(fileStats.getCharCount('a')).isEqualTo(2);
+        assertThat(fileStats.getCharCount('b')).isEqualTo(3);
+        assertThat(fileStats.getCharCount('\n')).isEqualTo(2);
+        assertThat(fileStats.getMostPopularCharacter()).isEqualTo('b');
+        assertThat(fileStats.refresh()).isZero();
+    }
+
+    @Test
+    @Order(3)
+    void refreshKeepsCharSplitBetweenAppends() throws IOException {
+        byte[] euro = "€".getBytes(StandardCharsets.UTF_8);
+        Path file = Files.write(directory.resolve("log.txt"), Arrays.copyOf(euro, 2));
+        TailingFileStats fileStats = new TailingFileStats(file);
+
+        fileStats.refresh();
+
+        assertThat(fileStats.containsCharacter('€')).isFalse();
+        assertThat(fileStats.containsCharacter('�')).isFalse();
+
+        Files.write(file, Arrays.copyOfRange(euro, 2, 3), StandardOpenOption.APPEND);
+        fileStats.refresh();
+
+        assertThat(fileStats.getCharCount('€')).isEqualTo(1);
+        assertThat(fileStats.containsCharacter('�')).isFalse();
+    }
+
+    @Test
+    @Order(4)
+    void refreshCountsAgainAfterTruncation() throws IOException {
+        Path file = Files.writeString(directory.resolve("log.txt"), "aaaa");
+        TailingFileStats fileStats = new TailingFileStats(file);
+        fileStats.refresh();
+
+        Files.writeString(file, "bb");
+
+        assertThat(fileStats.refresh()).isEqualTo(2);
+        assertThat(fileStats.containsCharacter('a')).isFalse();
+        assertThat(fileStats.getCharCount('b')).isEqualTo(2);
+        assertThat(fileStats.getMostPopularCharacter()).isEqualTo('b');
+    }
+}
@@ -0,0 +1,310 @@
+package com.bobocode.tdd;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * {@link PersistentVector} is an immutable version of {@link List}. Each update returns a new vector and leaves the
+ * current one unchanged, while both versions share all the structure that was not changed.
+ * <p>
+ * Elements are stored in a trie with 32 children per node, so a vector of n elements has a depth of log32(n), which is
+ * at most 6 for any int size. The last, not yet full, block of up to 32 elements is kept aside in a tail array. Random
+ * access, {@link #set(int, Object)} and {@link #removeLast()} copy only one path from the root to a leaf, and
+ * {@link #add(Object)} copies only the tail in 31 cases of 32.
+ * <p>
+ * Since a vector never changes, keeping a reference to it is an O(1) snapshot that can be shared between threads and
+ * read without any locks. Inserting or removing elements in the middle is not supported, because it cannot share
+ * the structure of the trie.
+ *
+ * @param <T> generic type parameter
+ */
+public final class PersistentVector<T> implements Iterable<T> {
+
+    private static final int BITS = 5;
+    private static final int WIDTH = 1 << BITS;
+    private static final int MASK = WIDTH - 1;
+    private static final Object[] EMPTY_NODE = new Object[WIDTH];
+    private static final PersistentVector<?> EMPTY = new PersistentVector<>(0, BITS, EMPTY_NODE, new Object[0]);
+
+    private final int size;
+    private final int shift;
+    private final Object[] root;
+    private final Object[] tail;
+
+    private PersistentVector(int size, int shift, Object[] root, Object[] tail) {
+        this.size = size;
+        this.shift = shift;
+        this.root = root;
+        this.tail = tail;
+    }
+
+    /**
+     * Returns an empty vector. All empty vectors are the same instance.
+     *
+     * @param <T> generic type
+     * @return an empty vector
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> PersistentVector<T> empty() {
+        return (PersistentVector<T>) EMPTY;
+    }
+
+    /**
+     * Creates a vector of provided elements
+     *
+     * @param elements elements to add
+     * @param <T>      generic type
+     * @return a new vector of elements that were passed as method parameters
+     */
+    @SafeVarargs
+    public static <T> PersistentVector<T> of(T... elements) {
+        PersistentVector<T> vector = empty();
+        for (T element : elements) {
+            vector = vector.add(element);
+        }
+        return vector;
+    }
+
+    /**
+     * Returns a new vector with the element added to the end.
+     *
+     * @param element element to add
+     * @return a new vector
+     */
+    public PersistentVector<T> add(T element) {
+        if (size - tailOffset() < WIDTH) {
+            Object[] newTail = Arrays.copyOf(tail, tail.length + 1);
+            newTail[tail.length] = element;
+            return new PersistentVector<>(size + 1, shift, root, newTail);
+        }
+        Object[] newRoot;
+        int newShift = shift;
+        if ((size >>> BITS) > (1 << shift)) {
+            newRoot = new Object[WIDTH];
+            newRoot[0] = root;
+            newRoot[1] = newPath(shift, tail);
+            newShift += BITS;
+        } else {
+            newRoot = pushTail(shift, root, tail);
+        }
+        return new PersistentVector<>(size + 1, newShift, newRoot, new Object[]{element});
+    }
+
+    /**
+     * Returns a new vector with the element at specific position replaced. In case provided index in out of the
+     * vector bounds it throws {@link IndexOutOfBoundsException}
+     *
+     * @param index   a position of element to change
+     * @param element a new element value
+     * @return a new vector
+     */
+    public PersistentVector<T> set(int index, T element) {
+        Objects.checkIndex(index, size);
+        if (index >= tailOffset()) {
+            Object[] newTail = tail.clone();
+            newTail[index & MASK] = element;
+            return new PersistentVector<>(size, shift, root, newTail);
+        }
+        return new PersistentVector<>(size, shift, set(shift, root, index, element), tail);
+    }
+
+    /**
+     * Returns a new vector without the last element.
+     *
+     * @return a new vector
+     * @throws NoSuchElementException if vector is empty
+     */
+    public PersistentVector<T> removeLast() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        if (size == 1) {
+            return empty();
+        }
+        if (size - tailOffset() > 1) {
+            return new PersistentVector<>(size - 1, shift, root, Arrays.copyOf(tail, tail.length - 1));
+        }
+        Object[] newTail = leafFor(size - 2);
+        Object[] newRoot = popTail(shift, root);
+        int newShift = shift;
+        if (newRoot == null) {
+            newRoot = EMPTY_NODE;
+        }
+        if (shift > BITS && newRoot[1] == null) {
+            newRoot = (Object[]) newRoot[0];
+            newShift -= BITS;
+        }
+        return new PersistentVector<>(size - 1, newShift, newRoot, newTail);
+    }
+
+    /**
+     * Retrieves an elements by its position index. In case provided index in out of the vector bounds it
+     * throws {@link IndexOutOfBoundsException}
+     *
+     * @param index element index
+     * @return an element value
+     */
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        Objects.checkIndex(index, size);
+        return (T) leafFor(index)[index & MASK];
+    }
+
+    /**
+     * Returns the first element of the vector.
+     *
+     * @return the first element of the vector
+     * @throws NoSuchElementException if vector is empty
+     */
+    public T getFirst() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        return get(0);
+    }
+
+    /**
+     * Returns the last element of the vector. Operation is performed in constant time O(1)
+     *
+     * @return the last element of the vector
+     * @throws NoSuchElementException if vector is empty
+     */
+    @SuppressWarnings("unchecked")
+    public T getLast() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        return (T) tail[tail.length - 1];
+    }
+
+    /**
+     * Checks if a specific element exists in the vector
+     *
+     * @return {@code true} if element exist, {@code false} otherwise
+     */
+    public boolean contains(T element) {
+        for (T e : this) {
+            if (Objects.equals(element, e)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks if a vector is empty
+     *
+     * @return {@code true} if vector is empty, {@code false} otherwise
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the number of elements in the vector
+     *
+     * @return number of elements
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns an iterator that walks the vector leaf by leaf. It does not support {@link Iterator#remove()}.
+     *
+     * @return an iterator over elements of the vector in proper sequence
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<>() {
+            private int index;
+            private Object[] leaf = size > 0 ? leafFor(0) : tail;
+
+            @Override
+            public boolean hasNext() {
+                return index < size;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public T next() {
+                if (index >= size) {
+                    throw new NoSuchElementException();
+                }
+                if (index > 0 && (index & MASK) == 0) {
+                    leaf = leafFor(index);
+                }
+                return (T) leaf[index++ & MASK];
+            }
+        };
+    }
+
+    private int tailOffset() {
+        return size < WIDTH ? 0 : ((size - 1) >>> BITS) << BITS;
+    }
+
+    private Object[] leafFor(int index) {
+        if (index >= tailOffset()) {
+            return tail;
+        }
+        Object[] node = root;
+        for (int level = shift; level > 0; level -= BITS) {
+            node = (Object[]) node[(index >>> level) & MASK];
+        }
+        return node;
+    }
+
+    private Object[] pushTail(int level, Object[] parent, Object[] tailNode) {
+        int childIndex = ((size - 1) >>> level) & MASK;
+        Object[] node = parent.clone();
+        if (level == BITS) {
+            node[childIndex] = tailNode;
+        } else {
+            Object[] child = (Object[]) parent[childIndex];
+            node[childIndex] = child != null
+                    ? pushTail(level - BITS, child, tailNode)
+                    : newPath(level - BITS, tailNode);
+        }
+        return node;
+    }
+
+    private static Object[] newPath(int level, Object[] leaf) {
+        if (level == 0) {
+            return leaf;
+        }
+        Object[] node = new Object[WIDTH];
+        node[0] = newPath(level - BITS, leaf);
+        return node;
+    }
+
+    private static Object[] set(int level, Object[] node, int index, Object element) {
+        Object[] copy = node.clone();
+        if (level == 0) {
+            copy[index & MASK] = element;
+        } else {
+            int childIndex = (index >>> level) & MASK;
+            copy[childIndex] = set(level - BITS, (Object[]) node[childIndex], index, element);
+        }
+        return copy;
+    }
+
+    private Object[] popTail(int level, Object[] node) {
+        int childIndex = ((size - 2) >>> level) & MASK;
+        if (level > BITS) {
+            Object[] newChild = popTail(level - BITS, (Object[]) node[childIndex]);
+            if (newChild == null && childIndex == 0) {
+                return null;
+            }
+            Object[] copy = node.clone();
+            copy[childIndex] = newChild;
+            return copy;
+        } else if (childIndex == 0) {
+            return null;
+        }
+        Object[] copy = node.clone();
+        copy[childIndex] = null;
+        return copy;
+    }
+}
@@ -0,0 +1,120 @@
+package com.bobocode.tdd;
+
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import java.util.ArrayList;
+import java.util.NoSuchElementException;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * A test class for {@link PersistentVector}.
+ */
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class PersistentVectorTest {
+
+    private static final int SIZE = 32 * 32 * 32 + 100;
+
+    @Test
+    @Order(1)
+    void addAndGet() {
+        PersistentVector<Integer> vector = PersistentVector.empty();
+        for (int i = 0; i < SIZE; i++) {
+            vector = vector.add(i);
+        }
+
+        assertThat(vector.size()).isEqualTo(SIZE);
+        assertThat(vector.getFirst()).isEqualTo(0);
+        assertThat(vector.getLast()).isEqualTo(SIZE - 1);
+        for (int i = 0; i < SIZE; i++) {
+            assertThat(vector.get(i)).isEqualTo(i);
+        }
+    }
+
+    @Test
+    @Order(2)
+    void addDoesNotChangePreviousVersion() {
+        PersistentVector<Integer> empty = PersistentVector.empty();
+        PersistentVector<Integer> vector = PersistentVector.of(1, 2, 3);
+
+        PersistentVector<Integer> extended = vector.add(4);
+
+        assertThat(empty.isEmpty()).isTrue();
+        assertThat(vector).containsExactly(1, 2, 3);
+        assertThat(extended).containsExactly(1, 2, 3, 4);
+    }
+
+    @Test
+    @Order(3)
+    void setDoesNotChangePreviousVersion() {
+        PersistentVector<Integer> vector = PersistentVector.empty();
+        ArrayList<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < SIZE; i++) {
+            vector = vector.add(i);
+            expected.add(i);
+        }
+
+        PersistentVector<Integer> changed = vector;
+        for (int i = 0; i < SIZE; i += 7) {
+            changed = changed.set(i, -i);
+            expected.set(i, -i);
+        }
+
+        assertThat(changed).containsExactlyElementsOf(expected);
+        for (int i = 0; i < SIZE; i++) {
+            assertThat(vector.get(i)).isEqualTo(i);
+        }
+    }
+
+    @Test
+    @Order(4)
+    void removeLastDownToEmpty() {
+        PersistentVector<Integer> vector = PersistentVector.empty();
+        for (int i = 0; i < SIZE; i++) {
+            vector = vector.add(i);
+        }
+        PersistentVector<Integer> full = vector;
+
+        for (int i = SIZE - 1; i >= 0; i--) {
+            assertThat(vector.getLast()).isEqualTo(i);
+            vector = vector.removeLast();
+            assertThat(vector.size()).isEqualTo(i);
+            if (i % 4096 == 0) {
+                assertThat(vector).containsExactlyElementsOf(IntStream.range(0, i).boxed().collect(Collectors.toList()));
+            }
+        }
+
+        assertThat(vector.isEmpty()).isTrue();
+        assertThat(full.size()).isEqualTo(SIZE);
+        assertThat(full.get(SIZE - 1)).isEqualTo(SIZE - 1);
+    }
+
+    @Test
+    @Order(5)
+    void contains() {
+        PersistentVector<String> vector = PersistentVector.of("A", "B", "C");
+
+        assertThat(vector.contains("B")).isTrue();
+        assertThat(vector.contains("D")).isFalse();
+    }
+
+    @Test
+    @Order(6)
+    void accessToEmptyVector() {
+        PersistentVector<Integer> vector = PersistentVector.empty();
+
+        assertThatExceptionOfType(NoSuchElementException.class).isThrownBy(vector::getFirst);
+        assertThatExceptionOfType(NoSuchElementException.class).isThrownBy(vector::getLast);
+        assertThatExceptionOfType(NoSuchElementException.class).isThrownBy(vector::removeLast);
+        assertThatThrownBy(() -> vector.get(0)).isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(() -> vector.set(0, 1)).isInstanceOf(IndexOutOfBoundsException.class);
+        assertThat(vector.iterator().hasNext()).isFalse();
+    }
+}
@@ -0,0 +1,176 @@
+package com.bobocode.tdd;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * {@link PersistentBinarySearchTree} is an immutable version of {@link BinarySearchTree}. An insert returns a new tree
+ * and leaves the current one unchanged. Only the nodes on the path from the root to the new element are copied, all
+ * other nodes are shared between the old and the new tree.
+ * <p>
+ * The tree is kept balanced as an AVL tree, so its depth is O(log n) and an insert copies O(log n) nodes. Rotations
+ * are applied to the copied path only, shared nodes are never changed.
+ * <p>
+ * Since a tree never changes, keeping a reference to it is an O(1) snapshot that can be shared between threads and
+ * read without any locks.
+ *
+ * @param <T> a type of elements
+ */
+public final class PersistentBinarySearchTree<T extends Comparable> {
+
+    private static final PersistentBinarySearchTree<?> EMPTY = new PersistentBinarySearchTree<>(null, 0);
+
+    private final Node<T> root;
+    private final int size;
+
+    private PersistentBinarySearchTree(Node<T> root, int size) {
+        this.root = root;
+        this.size = size;
+    }
+
+    /**
+     * Returns an empty tree. All empty trees are the same instance.
+     *
+     * @param <T> a type of elements
+     * @return an empty tree
+     */
+    @SuppressWarnings("unchecked")
+    public static <T extends Comparable> PersistentBinarySearchTree<T> empty() {
+        return (PersistentBinarySearchTree<T>) EMPTY;
+    }
+
+    /**
+     * Creates a tree of provided elements. Duplicates are ignored.
+     *
+     * @param elements elements to insert
+     * @param <T>      a type of elements
+     * @return a new tree
+     */
+    @SafeVarargs
+    public static <T extends Comparable> PersistentBinarySearchTree<T> of(T... elements) {
+        PersistentBinarySearchTree<T> tree = empty();
+        for (T element : elements) {
+            tree = tree.insert(element);
+        }
+        return tree;
+    }
+
+    /**
+     * Returns a tree that contains provided element in addition to the elements of this tree. If the element already
+     * exists, the same tree is returned, so {@code tree.insert(e) != tree} tells if the element was inserted.
+     *
+     * @param element an element to insert
+     * @return a new tree with the element, or this tree if it already contains the element
+     */
+    public PersistentBinarySearchTree<T> insert(T element) {
+        Objects.requireNonNull(element);
+        Node<T> newRoot = insert(root, element);
+        return newRoot == root ? this : new PersistentBinarySearchTree<>(newRoot, size + 1);
+    }
+
+    /**
+     * @return true if tree contains element
+     */
+    @SuppressWarnings("unchecked")
+    public boolean contains(T element) {
+        Objects.requireNonNull(element);
+        Node<T> current = root;
+        while (current != null) {
+            int compared = element.compareTo(current.element);
+            if (compared == 0) {
+                return true;
+            }
+            current = compared < 0 ? current.left : current.right;
+        }
+        return false;
+    }
+
+    /**
+     * @return number of elements in the tree
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return max. number of transition between root node and any other node; 0 - if tree is empty or contains 1 element
+     */
+    public int depth() {
+        return root == null ? 0 : root.height;
+    }
+
+    /**
+     * traverse the tree in element's natural order
+     *
+     * @param consumer accepts ref. to node during traversing
+     */
+    public void inOrderTraversal(Consumer<T> consumer) {
+        inOrderTraversal(root, consumer);
+    }
+
+    private static <T> void inOrderTraversal(Node<T> node, Consumer<T> consumer) {
+        if (node != null) {
+            inOrderTraversal(node.left, consumer);
+            consumer.accept(node.element);
+            inOrderTraversal(node.right, consumer);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T extends Comparable> Node<T> insert(Node<T> node, T element) {
+        if (node == null) {
+            return new Node<>(element, null, null);
+        }
+        int compared = element.compareTo(node.element);
+        if (compared < 0) {
+            Node<T> left = insert(node.left, element);
+            return left == node.left ? node : balance(node.element, left, node.right);
+        } else if (compared > 0) {
+            Node<T> right = insert(node.right, element);
+            return right == node.right ? node : balance(node.element, node.left, right);
+        }
+        return node;
+    }
+
+    private static <T> Node<T> balance(T element, Node<T> left, Node<T> right) {
+        int balance = height(left) - height(right);
+        if (balance > 1) {
+            if (height(left.left) < height(left.right)) {
+                left = rotateLeft(left.element, left.left, left.right);
+            }
+            return rotateRight(element, left, right);
+        } else if (balance < -1) {
+            if (height(right.right) < height(right.left)) {
+                right = rotateRight(right.element, right.left, right.right);
+            }
+            return rotateLeft(element, left, right);
+        }
+        return new Node<>(element, left, right);
+    }
+
+    private static <T> Node<T> rotateRight(T element, Node<T> left, Node<T> right) {
+        return new Node<>(left.element, left.left, new Node<>(element, left.right, right));
+    }
+
+    private static <T> Node<T> rotateLeft(T element, Node<T> left, Node<T> right) {
+        return new Node<>(right.element, new Node<>(element, left, right.left), right.right);
+    }
+
+    private static int height(Node<?> node) {
+        return node == null ? -1 : node.height;
+    }
+
+    private static final class Node<T> {
+        private final T element;
+        private final Node<T> left;
+        private final Node<T> right;
+        private final int height;
+
+        private Node(T element, Node<T> left, Node<T> right) {
+            this.element = element;
+            this.left = left;
+            this.right = right;
+            this.height = Math.max(height(left), height(right)) + 1;
+        }
+    }
+}
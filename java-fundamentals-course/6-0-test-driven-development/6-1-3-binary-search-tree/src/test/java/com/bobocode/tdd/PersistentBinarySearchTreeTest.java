@@ -0,0 +1,94 @@
+package com.bobocode.tdd;
+
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+/**
+ * A test class for {@link PersistentBinarySearchTree}.
+ */
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class PersistentBinarySearchTreeTest {
+
+    @Test
+    @Order(1)
+    void insertDoesNotChangePreviousVersion() {
+        PersistentBinarySearchTree<Integer> tree = PersistentBinarySearchTree.of(5, 3, 8);
+
+        PersistentBinarySearchTree<Integer> extended = tree.insert(4);
+
+        assertThat(tree.size()).isEqualTo(3);
+        assertThat(tree.contains(4)).isFalse();
+        assertThat(extended.size()).isEqualTo(4);
+        assertThat(extended.contains(4)).isTrue();
+    }
+
+    @Test
+    @Order(2)
+    void insertOfExistingElementReturnsSameTree() {
+        PersistentBinarySearchTree<Integer> tree = PersistentBinarySearchTree.of(5, 3, 8);
+
+        assertThat(tree.insert(3)).isSameAs(tree);
+    }
+
+    @Test
+    @Order(3)
+    void sortedInsertsKeepTreeBalanced() {
+        PersistentBinarySearchTree<Integer> tree = PersistentBinarySearchTree.empty();
+        for (int i = 0; i < 1023; i++) {
+            tree = tree.insert(i);
+        }
+
+        assertThat(tree.size()).isEqualTo(1023);
+        assertThat(tree.depth()).isEqualTo(9);
+    }
+
+    @Test
+    @Order(4)
+    void randomInsertsMatchTreeSet() {
+        Random random = new Random(42);
+        PersistentBinarySearchTree<Integer> tree = PersistentBinarySearchTree.empty();
+        TreeSet<Integer> expected = new TreeSet<>();
+        for (int i = 0; i < 10_000; i++) {
+            int element = random.nextInt(5000);
+            assertThat(tree.insert(element) != tree).isEqualTo(expected.add(element));
+            tree = tree.insert(element);
+        }
+
+        List<Integer> traversed = new ArrayList<>();
+        tree.inOrderTraversal(traversed::add);
+
+        assertThat(traversed).containsExactlyElementsOf(expected);
+        assertThat(tree.size()).isEqualTo(expected.size());
+        assertThat(tree.depth()).isLessThanOrEqualTo(17);
+    }
+
+    @Test
+    @Order(5)
+    void emptyTree() {
+        PersistentBinarySearchTree<Integer> tree = PersistentBinarySearchTree.empty();
+
+        assertThat(tree.size()).isEqualTo(0);
+        assertThat(tree.depth()).isEqualTo(0);
+        assertThat(tree.contains(1)).isFalse();
+        assertThat(PersistentBinarySearchTree.of(1).depth()).isEqualTo(0);
+    }
+
+    @Test
+    @Order(6)
+    void nullElementsAreNotAllowed() {
+        PersistentBinarySearchTree<Integer> tree = PersistentBinarySearchTree.of(1);
+
+        assertThatNullPointerException().isThrownBy(() -> tree.insert(null));
+        assertThatNullPointerException().isThrownBy(() -> tree.contains(null));
+    }
+}